@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.junit5.ItemType;
+import com.epam.reportportal.junit5.ReportPortalExtension;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+
+/**
+ * The extension under benchmark: reports into a no-op {@link Launch}, so only the agent's own overhead is measured.
+ */
+public class BenchmarkExtension extends ReportPortalExtension {
+
+	private final Launch launch;
+	private final ReportPortal reportPortal;
+
+	public BenchmarkExtension() {
+		this(Launch.NOOP_LAUNCH);
+	}
+
+	public BenchmarkExtension(@Nonnull Launch launch) {
+		this(launch, new ListenerParameters());
+	}
+
+	public BenchmarkExtension(@Nonnull Launch launch, @Nonnull ListenerParameters parameters) {
+		this.launch = launch;
+		parameters.setLaunchName("jmh");
+		parameters.setProjectName("jmh");
+		reportPortal = ReportPortal.create(Launch.NOOP_LAUNCH.getClient(), parameters);
+	}
+
+	@Override
+	protected ReportPortal getReporter() {
+		return reportPortal;
+	}
+
+	@Override
+	protected Launch getLaunch(ExtensionContext context) {
+		return launch;
+	}
+
+	/**
+	 * Resolves a launch the way the extension does it by default: through the launch map and the execution root store
+	 */
+	@Nonnull
+	public Launch resolveLaunch(@Nonnull ExtensionContext context) {
+		return super.getLaunch(context);
+	}
+
+	@Nonnull
+	public StartTestItemRQ startStepRq(@Nonnull ExtensionContext context, @Nonnull List<Object> arguments, @Nonnull ItemType itemType) {
+		return buildStartStepRq(context, arguments, itemType, null, null);
+	}
+
+	@Nonnull
+	public String codeRef(@Nonnull ExtensionContext context) {
+		return getCodeRef(context);
+	}
+
+	@Nonnull
+	public FinishTestItemRQ finishTestRq(@Nonnull ExtensionContext context, @Nonnull ItemStatus status) {
+		return buildFinishTestRq(context, status);
+	}
+}
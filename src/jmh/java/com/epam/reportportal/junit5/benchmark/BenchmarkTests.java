@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.annotations.Description;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.Attributes;
+
+import java.lang.reflect.Method;
+
+/**
+ * A test class the synthetic contexts point to. The methods are never executed, they only provide the reflective metadata which the
+ * extension reads while building requests.
+ */
+@Attributes(attributes = @Attribute(key = "suite", value = "benchmark"))
+public class BenchmarkTests {
+
+	public static final Method PASSED = method("passed");
+	public static final Method FAILED = method("failed");
+	public static final Method PARAMETERIZED = method("parameterized", String.class, int.class);
+	public static final Method FACTORY = method("factory");
+	public static final Method BEFORE_EACH = method("beforeEach");
+
+	private static Method method(String name, Class<?>... parameterTypes) {
+		try {
+			return BenchmarkTests.class.getDeclaredMethod(name, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public void beforeEach() {
+	}
+
+	public void passed() {
+	}
+
+	public void failed() {
+	}
+
+	@Description("A parameterized test")
+	@Attributes(attributes = { @Attribute(key = "type", value = "parameterized"), @Attribute(key = "level", value = "unit") })
+	public void parameterized(String name, int value) {
+	}
+
+	public void factory() {
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.junit5.CallbackTreeRetention;
+import com.epam.reportportal.junit5.ExtensionParameters;
+import com.epam.reportportal.junit5.ReportPortalExtension;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows how much heap the callback reporting item tree retains: each operation reports a launch of 100 classes with 1000 tests each with
+ * <code>rp.reporting.callback=true</code>. The number of leaves left in {@link ReportPortalExtension#TEST_ITEM_TREE} and the used heap
+ * after a full GC are reported as <code>leaves</code> and <code>heapKb</code> counters: they grow with the number of tests without a
+ * retention policy and stay flat with one.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class CallbackTreeBenchmark {
+
+	private static final InvocationInterceptor.Invocation<Void> NOOP_INVOCATION = () -> null;
+	private static final DynamicTestInvocationContext DYNAMIC_INVOCATION_CONTEXT = () -> () -> {
+	};
+	private static final StubInvocationContext FACTORY_INVOCATION = new StubInvocationContext(BenchmarkTests.FACTORY, Collections.emptyList());
+	private static final int CLASSES = 100;
+	private static final int TESTS_PER_CLASS = 1000;
+
+	@Param({ "none", "size", "class" })
+	public String retention;
+
+	private ExtensionParameters extensionParameters;
+	private ListenerParameters parameters;
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Retained {
+		public long leaves;
+		public long heapKb;
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		extensionParameters = new ExtensionParameters();
+		extensionParameters.setCallbackTreeRetention(CallbackTreeRetention.valueOf(retention.toUpperCase(Locale.ROOT)));
+		parameters = new ListenerParameters();
+		parameters.setCallbackReportingEnabled(true);
+	}
+
+	@Setup(Level.Iteration)
+	public void clearTree() {
+		ReportPortalExtension.TEST_ITEM_TREE.getTestItems().clear();
+	}
+
+	@Benchmark
+	public void launch(Retained retained) throws Throwable {
+		BenchmarkExtension extension = new BenchmarkExtension(Launch.NOOP_LAUNCH, parameters) {
+			@Override
+			protected ExtensionParameters getExtensionParameters() {
+				return extensionParameters;
+			}
+		};
+		StubExtensionContext root = StubExtensionContext.root();
+		long test = 0;
+		for (int i = 0; i < CLASSES; i++) {
+			StubExtensionContext classContext = root.classContext(BenchmarkTests.class);
+			StubExtensionContext factoryContext = classContext.methodContext(BenchmarkTests.FACTORY, "test-factory:factory()", null);
+			extension.beforeAll(classContext);
+			extension.interceptTestFactoryMethod(NOOP_INVOCATION, FACTORY_INVOCATION, factoryContext);
+			for (int j = 0; j < TESTS_PER_CLASS; j++, test++) {
+				StubExtensionContext context = factoryContext.dynamicContext("dynamic-test:#" + test, "Dynamic test " + test);
+				extension.interceptDynamicTest(NOOP_INVOCATION, DYNAMIC_INVOCATION_CONTEXT, context);
+				context.close();
+			}
+			extension.afterTestExecution(factoryContext);
+			factoryContext.close();
+			extension.afterAll(classContext);
+			classContext.close();
+		}
+		retained.leaves = ReportPortalExtension.TEST_ITEM_TREE.getTestItems().size();
+		System.gc();
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		retained.heapKb = (runtime.totalMemory() - runtime.freeMemory()) / 1024;
+	}
+}
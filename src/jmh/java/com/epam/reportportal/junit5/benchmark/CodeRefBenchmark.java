@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures code reference calculation for dynamic tests nested at different depths: for an already reported node and for a new child
+ * of a deep node.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CodeRefBenchmark {
+
+	@Param({ "1", "8", "32" })
+	public int depth;
+
+	private BenchmarkExtension extension;
+	private StubExtensionContext deepestContext;
+	private int counter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		extension = new BenchmarkExtension();
+		StubExtensionContext context = StubExtensionContext.root()
+				.classContext(BenchmarkTests.class)
+				.methodContext(BenchmarkTests.FACTORY, "test-factory:factory()", null);
+		for (int i = 0; i < depth; i++) {
+			context = context.dynamicContext("dynamic-container:#" + i, "Container " + i);
+		}
+		deepestContext = context;
+		extension.codeRef(deepestContext);
+	}
+
+	@Benchmark
+	public String existingNode() {
+		return extension.codeRef(deepestContext);
+	}
+
+	@Benchmark
+	public String newChildNode() {
+		return extension.codeRef(deepestContext.dynamicContext("dynamic-test:#" + counter++, "Dynamic test"));
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The extension under benchmark reporting into a {@link SlowLaunch}, so concurrent tests wait for each other if the extension holds any
+ * shared lock while an item is being started.
+ */
+public class ContentionExtension extends BenchmarkExtension {
+
+	public static final long DELAY_MICROS = 1000;
+
+	public ContentionExtension() {
+		super(new SlowLaunch(DELAY_MICROS, TimeUnit.MICROSECONDS));
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Compares a JUnit run of {@link OverheadTests} with the agent registered and <code>rp.enable=false</code> against a bare JUnit run. The
+ * agent is registered through extension autodetection, so the test class is the same in both cases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Drp.enable=false")
+@State(Scope.Benchmark)
+public class DisabledReportingBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean agent;
+
+	private Launcher launcher;
+	private LauncherDiscoveryRequest request;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		launcher = LauncherFactory.create();
+		request = LauncherDiscoveryRequestBuilder.request()
+				.selectors(selectClass(OverheadTests.class))
+				.configurationParameter("junit.jupiter.extensions.autodetection.enabled", String.valueOf(agent))
+				.build();
+	}
+
+	@Benchmark
+	public void run() {
+		launcher.execute(request);
+	}
+}
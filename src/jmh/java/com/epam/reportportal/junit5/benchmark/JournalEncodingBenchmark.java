@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.junit5.ItemType;
+import com.epam.reportportal.junit5.journal.JournalEncoder;
+import com.epam.reportportal.junit5.journal.JournalRecord;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary journal encoding with the JSON form of the same requests on a run of parameterized tests. Average encoded size
+ * of a test (start and finish) is printed on setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(JournalEncodingBenchmark.TEST_NUMBER)
+public class JournalEncodingBenchmark {
+
+	static final int TEST_NUMBER = 1000;
+
+	@Param({ "json", "binary" })
+	public String encoding;
+
+	private final List<JournalRecord> records = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		BenchmarkExtension extension = new BenchmarkExtension();
+		StubExtensionContext classContext = StubExtensionContext.root().classContext(BenchmarkTests.class);
+		StubExtensionContext templateContext = classContext.methodContext(
+				BenchmarkTests.PARAMETERIZED,
+				"test-template:parameterized(String, int)",
+				null
+		);
+		String launchUuid = UUID.randomUUID().toString();
+		StartLaunchRQ startLaunch = new StartLaunchRQ();
+		startLaunch.setUuid(launchUuid);
+		startLaunch.setStartTime(Instant.now());
+		records.add(JournalRecord.startLaunch(startLaunch));
+		String parentUuid = UUID.randomUUID().toString();
+		for (int i = 0; i < TEST_NUMBER; i++) {
+			StubExtensionContext context = templateContext.methodContext(
+					BenchmarkTests.PARAMETERIZED,
+					"test-template-invocation:#" + i,
+					new BenchmarkTests()
+			);
+			StartTestItemRQ start = extension.startStepRq(context, Arrays.asList("name " + i % 10, i), ItemType.STEP);
+			start.setUuid(UUID.randomUUID().toString());
+			start.setLaunchUuid(launchUuid);
+			records.add(JournalRecord.startItem(parentUuid, start));
+			FinishTestItemRQ finish = extension.finishTestRq(context, ItemStatus.PASSED);
+			finish.setLaunchUuid(launchUuid);
+			records.add(JournalRecord.finishItem(start.getUuid(), finish));
+		}
+		System.out.printf("%n%s: %d bytes per test%n", encoding, encode() / TEST_NUMBER);
+	}
+
+	@Benchmark
+	public long encode() throws IOException {
+		long size = 0;
+		if ("json".equals(encoding)) {
+			for (JournalRecord record : records) {
+				Object rq = record.getType() == JournalRecord.Type.START_ITEM ?
+						record.getRequest(StartTestItemRQ.class) :
+						record.getType() == JournalRecord.Type.FINISH_ITEM ?
+								record.getRequest(FinishTestItemRQ.class) :
+								record.getRequest(StartLaunchRQ.class);
+				size += HttpRequestUtils.MAPPER.writeValueAsBytes(rq).length;
+			}
+		} else {
+			JournalEncoder encoder = new JournalEncoder();
+			for (JournalRecord record : records) {
+				size += encoder.encode(record).length;
+			}
+		}
+		return size;
+	}
+}
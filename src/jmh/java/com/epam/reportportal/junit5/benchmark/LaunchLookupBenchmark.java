@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.service.Launch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a launch lookup which the extension does several times per test: in item start and finish and in every before/after hook.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LaunchLookupBenchmark {
+
+	private BenchmarkExtension extension;
+	private StubExtensionContext methodContext;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		extension = new BenchmarkExtension();
+		methodContext = StubExtensionContext.root()
+				.classContext(BenchmarkTests.class)
+				.methodContext(BenchmarkTests.PASSED, "method:passed()", new BenchmarkTests());
+		extension.resolveLaunch(methodContext);
+	}
+
+	@Benchmark
+	public Launch launchLookup() {
+		return extension.resolveLaunch(methodContext);
+	}
+}
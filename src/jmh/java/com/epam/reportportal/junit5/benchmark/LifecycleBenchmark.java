@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5.benchmark;
+
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the extension costs per test: the whole callback sequence JUnit calls for a single test of each kind is driven against
+ * a no-op launch. Run with <code>-prof gc</code> to get allocated bytes per test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LifecycleBenchmark {
+
+	private static final InvocationInterceptor.Invocation<Void> NOOP_INVOCATION = () -> null;
+	private static final DynamicTestInvocationContext DYNAMIC_INVOCATION_CONTEXT = () -> () -> {
+	};
+	private static final AssertionError FAILURE = new AssertionError("Expected failure");
+
+	private BenchmarkExtension extension;
+	private StubExtensionContext classContext;
+	private StubExtensionContext templateContext;
+	private StubExtensionContext factoryContext;
+	private StubInvocationContext beforeEachInvocation;
+	private StubInvocationContext passedInvocation;
+	private StubInvocationContext failedInvocation;
+	private StubInvocationContext factoryInvocation;
+	private long counter;
+
+	@Setup(Level.Trial)
+	public void setup() throws Throwable {
+		extension = new BenchmarkExtension();
+		classContext = StubExtensionContext.root().classContext(BenchmarkTests.class);
+		templateContext = classContext.methodContext(BenchmarkTests.PARAMETERIZED, "test-template:parameterized(String, int)", null);
+		factoryContext = classContext.methodContext(BenchmarkTests.FACTORY, "test-factory:factory()", null);
+		beforeEachInvocation = new StubInvocationContext(BenchmarkTests.BEFORE_EACH, Collections.emptyList());
+		passedInvocation = new StubInvocationContext(BenchmarkTests.PASSED, Collections.emptyList());
+		failedInvocation = new StubInvocationContext(BenchmarkTests.FAILED, Collections.emptyList());
+		factoryInvocation = new StubInvocationContext(BenchmarkTests.FACTORY, Collections.emptyList());
+
+		extension.beforeAll(classContext);
+		extension.interceptTestFactoryMethod(NOOP_INVOCATION, factoryInvocation, factoryContext);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Throwable {
+		extension.afterTestExecution(factoryContext);
+		factoryContext.close();
+		templateContext.close();
+		extension.afterAll(classContext);
+		classContext.close();
+	}
+
+	@Benchmark
+	public void passedTest() throws Throwable {
+		StubExtensionContext context = classContext.methodContext(BenchmarkTests.PASSED, "method:passed()#" + counter++, new BenchmarkTests());
+		extension.beforeEach(context);
+		extension.interceptBeforeEachMethod(NOOP_INVOCATION, beforeEachInvocation, context);
+		extension.interceptTestMethod(NOOP_INVOCATION, passedInvocation, context);
+		extension.afterTestExecution(context);
+		context.close();
+	}
+
+	@Benchmark
+	public void failedTest() throws Throwable {
+		StubExtensionContext context = classContext.methodContext(BenchmarkTests.FAILED, "method:failed()#" + counter++, new BenchmarkTests());
+		extension.beforeEach(context);
+		extension.interceptBeforeEachMethod(NOOP_INVOCATION, beforeEachInvocation, context);
+		extension.interceptTestMethod(NOOP_INVOCATION, failedInvocation, context);
+		context.setExecutionException(FAILURE);
+		extension.afterTestExecution(context);
+		context.close();
+	}
+
+	@Benchmark
+	public void parameterizedTest() throws Throwable {
+		long index = counter++;
+		List<Object> arguments = Arrays.asList("name" + index, (int) index);
+		StubExtensionContext context = templateContext.methodContext(BenchmarkTests.PARAMETERIZED, "test-template-invocation:#" + index,
+				new BenchmarkTests()
+		);
+		extension.beforeEach(context);
+		extension.interceptBeforeEachMethod(NOOP_INVOCATION, beforeEachInvocation, context);
+		extension.interceptTestTemplateMethod(NOOP_INVOCATION, new StubInvocationContext(BenchmarkTests.PARAMETERIZED, arguments), context);
+		extension.afterTestExecution(context);
+		context.close();
+	}
+
+	@Benchmark
+	public void dynamicTest(Blackhole blackhole) throws Throwable {
+		long index = counter++;
+		StubExtensionContext context = factoryContext.dynamicContext("dynamic-test:#" + index, "Dynamic test " + index);
+		extension.interceptDynamicTest(NOOP_INVOCATION, DYNAMIC_INVOCATION_CONTEXT, context);
+		context.close();
+		blackhole.consume(context);
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * A test class executed by the JUnit launcher in {@link ParallelStartBenchmark}. Every repetition is a separate test item, all of them
+ * are started and finished concurrently.
+ */
+@ExtendWith(ContentionExtension.class)
+public class ParallelTests {
+
+	public static final int TESTS = 2048;
+	private static final int REPETITIONS = TESTS / 4;
+
+	@RepeatedTest(REPETITIONS)
+	public void first() {
+	}
+
+	@RepeatedTest(REPETITIONS)
+	public void second() {
+	}
+
+	@RepeatedTest(REPETITIONS)
+	public void third() {
+	}
+
+	@RepeatedTest(REPETITIONS)
+	public void fourth() {
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.junit5.ItemType;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the request-building extension points in isolation, so a regression in them is not hidden by the rest of the lifecycle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestBuildingBenchmark {
+
+	private static final AssertionError FAILURE = new AssertionError("Expected failure");
+
+	private BenchmarkExtension extension;
+	private StubExtensionContext passedContext;
+	private StubExtensionContext failedContext;
+	private StubExtensionContext parameterizedContext;
+	private StubExtensionContext dynamicContext;
+	private List<Object> arguments;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		extension = new BenchmarkExtension();
+		StubExtensionContext classContext = StubExtensionContext.root().classContext(BenchmarkTests.class);
+		passedContext = classContext.methodContext(BenchmarkTests.PASSED, "method:passed()", new BenchmarkTests());
+		failedContext = classContext.methodContext(BenchmarkTests.FAILED, "method:failed()", new BenchmarkTests());
+		failedContext.setExecutionException(FAILURE);
+		StubExtensionContext templateContext = classContext.methodContext(BenchmarkTests.PARAMETERIZED,
+				"test-template:parameterized(String, int)",
+				null
+		);
+		parameterizedContext = templateContext.methodContext(BenchmarkTests.PARAMETERIZED, "test-template-invocation:#1", new BenchmarkTests());
+		StubExtensionContext factoryContext = classContext.methodContext(BenchmarkTests.FACTORY, "test-factory:factory()", null);
+		dynamicContext = factoryContext.dynamicContext("dynamic-container:#1", "Container")
+				.dynamicContext("dynamic-test:#1", "Dynamic test");
+		arguments = Arrays.asList("name", 1);
+	}
+
+	@Benchmark
+	public StartTestItemRQ buildStartStepRqPassed() {
+		return extension.startStepRq(passedContext, List.of(), ItemType.STEP);
+	}
+
+	@Benchmark
+	public StartTestItemRQ buildStartStepRqParameterized() {
+		return extension.startStepRq(parameterizedContext, arguments, ItemType.STEP);
+	}
+
+	@Benchmark
+	public StartTestItemRQ buildStartStepRqDynamic() {
+		return extension.startStepRq(dynamicContext, List.of(), ItemType.STEP);
+	}
+
+	@Benchmark
+	public FinishTestItemRQ buildFinishTestRqPassed() {
+		return extension.finishTestRq(passedContext, ItemStatus.PASSED);
+	}
+
+	@Benchmark
+	public FinishTestItemRQ buildFinishTestRqFailed() {
+		return extension.finishTestRq(failedContext, ItemStatus.FAILED);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.LaunchImpl;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A launch which spends a fixed time in every item start and finish call, like a client which does some work on the calling thread
+ * before a request is sent. No requests are sent.
+ */
+public class SlowLaunch extends LaunchImpl {
+
+	private final long delayNanos;
+
+	public SlowLaunch(long delay, TimeUnit unit) {
+		super(Launch.NOOP_LAUNCH.getClient(), new ListenerParameters(), Maybe.just("launch"), Executors.newSingleThreadExecutor(r -> {
+			Thread thread = new Thread(r);
+			thread.setDaemon(true);
+			return thread;
+		}));
+		delayNanos = unit.toNanos(delay);
+	}
+
+	private Maybe<String> item() {
+		LockSupport.parkNanos(delayNanos);
+		return Maybe.just(UUID.randomUUID().toString());
+	}
+
+	@Override
+	public Maybe<String> startTestItem(StartTestItemRQ request) {
+		return item();
+	}
+
+	@Override
+	public Maybe<String> startTestItem(Maybe<String> parentId, StartTestItemRQ request) {
+		return item();
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(Maybe<String> item, FinishTestItemRQ request) {
+		LockSupport.parkNanos(delayNanos);
+		return Maybe.empty();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Measures the latency from the first class load to the end of the first test in a fresh JVM, with and without the agent. The agent is
+ * registered through extension autodetection (see <code>META-INF/services</code> of the benchmark source set), like in projects which
+ * register it globally. With <code>tests=filtered</code> the only test is excluded by a tag filter, like in an IDE or a Gradle fork which
+ * runs no tests of the class.
+ * <p>
+ * The agent is pointed to a closed local port, so no data leaves the machine.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = { "-Drp.enable=true", "-Drp.endpoint=http://localhost:1", "-Drp.api.key=jmh", "-Drp.project=jmh",
+		"-Drp.launch=jmh", "-Drp.client.join=false", "-Drp.reporting.timeout=1" })
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean agent;
+
+	@Param({ "run", "filtered" })
+	public String tests;
+
+	@Benchmark
+	public void firstTest() {
+		LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request()
+				.selectors(selectClass(StartupTests.class))
+				.configurationParameter("junit.jupiter.extensions.autodetection.enabled", String.valueOf(agent));
+		if ("filtered".equals(tests)) {
+			builder.filters(TagFilter.excludeTags(StartupTests.TAG));
+		}
+		LauncherDiscoveryRequest request = builder.build();
+		Launcher launcher = LauncherFactory.create();
+		launcher.execute(request);
+	}
+}
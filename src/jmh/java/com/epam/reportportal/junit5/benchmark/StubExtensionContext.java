@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.benchmark;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExecutableInvoker;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstances;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Synthetic {@link ExtensionContext} which mimics the engine, class, method and dynamic contexts JUnit creates, so the extension
+ * callbacks can be driven without the JUnit engine.
+ */
+public class StubExtensionContext implements ExtensionContext {
+
+	private final StubExtensionContext parent;
+	private final String uniqueId;
+	private final String displayName;
+	private final Class<?> testClass;
+	private final Method testMethod;
+	private final Object testInstance;
+	// Insertion order is kept to close stored resources in reverse order, as JUnit does
+	private final Map<Object, Object> store = Collections.synchronizedMap(new LinkedHashMap<>());
+	private volatile Throwable executionException;
+
+	public StubExtensionContext(@Nullable StubExtensionContext parent, @Nonnull String segment, @Nonnull String displayName,
+			@Nullable Class<?> testClass, @Nullable Method testMethod, @Nullable Object testInstance) {
+		this.parent = parent;
+		this.uniqueId = parent == null ? "[engine:" + segment + "]" : parent.uniqueId + "/[" + segment + "]";
+		this.displayName = displayName;
+		this.testClass = testClass;
+		this.testMethod = testMethod;
+		this.testInstance = testInstance;
+	}
+
+	/**
+	 * @return an engine (root) context
+	 */
+	public static StubExtensionContext root() {
+		return new StubExtensionContext(null, "junit-jupiter", "JUnit Jupiter", null, null, null);
+	}
+
+	/**
+	 * @param testClass a class to create the context for
+	 * @return a test class context which is a child of the current one
+	 */
+	public StubExtensionContext classContext(@Nonnull Class<?> testClass) {
+		return new StubExtensionContext(this, "class:" + testClass.getName(), testClass.getSimpleName(), testClass, null, null);
+	}
+
+	/**
+	 * @param method   a test method
+	 * @param segment  unique ID segment of the context
+	 * @param instance a test class instance
+	 * @return a test method context which is a child of the current one
+	 */
+	public StubExtensionContext methodContext(@Nonnull Method method, @Nonnull String segment, @Nullable Object instance) {
+		return new StubExtensionContext(this, segment, method.getName() + "()", testClass, method, instance);
+	}
+
+	/**
+	 * @param segment     unique ID segment of the context
+	 * @param displayName a display name of the dynamic node
+	 * @return a dynamic node context (test or container) which is a child of the current one
+	 */
+	public StubExtensionContext dynamicContext(@Nonnull String segment, @Nonnull String displayName) {
+		return new StubExtensionContext(this, segment, displayName, null, null, null);
+	}
+
+	/**
+	 * Closes {@link Store.CloseableResource} values of the context store in reverse order of their insertion and clears the store, JUnit
+	 * does the same when a context ends, i.e. after all its callbacks.
+	 *
+	 * @throws Throwable if a resource fails to close
+	 */
+	public void close() throws Throwable {
+		List<Object> values;
+		synchronized (store) {
+			values = new ArrayList<>(store.values());
+			store.clear();
+		}
+		Collections.reverse(values);
+		for (Object value : values) {
+			if (value instanceof Store.CloseableResource) {
+				((Store.CloseableResource) value).close();
+			}
+		}
+	}
+
+	public void setExecutionException(@Nullable Throwable executionException) {
+		this.executionException = executionException;
+	}
+
+	@Override
+	public Optional<ExtensionContext> getParent() {
+		return Optional.ofNullable(parent);
+	}
+
+	@Override
+	public ExtensionContext getRoot() {
+		return parent == null ? this : parent.getRoot();
+	}
+
+	@Override
+	public String getUniqueId() {
+		return uniqueId;
+	}
+
+	@Override
+	public String getDisplayName() {
+		return displayName;
+	}
+
+	@Override
+	public Set<String> getTags() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public Optional<AnnotatedElement> getElement() {
+		return Optional.ofNullable(testMethod != null ? testMethod : testClass);
+	}
+
+	@Override
+	public Optional<Class<?>> getTestClass() {
+		return Optional.ofNullable(testClass);
+	}
+
+	@Override
+	public Optional<TestInstance.Lifecycle> getTestInstanceLifecycle() {
+		return Optional.of(TestInstance.Lifecycle.PER_METHOD);
+	}
+
+	@Override
+	public Optional<Object> getTestInstance() {
+		return Optional.ofNullable(testInstance);
+	}
+
+	@Override
+	public Optional<TestInstances> getTestInstances() {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Method> getTestMethod() {
+		return Optional.ofNullable(testMethod);
+	}
+
+	@Override
+	public Optional<Throwable> getExecutionException() {
+		return Optional.ofNullable(executionException);
+	}
+
+	@Override
+	public Optional<String> getConfigurationParameter(String key) {
+		return Optional.empty();
+	}
+
+	@Override
+	public <T> Optional<T> getConfigurationParameter(String key, Function<String, T> transformer) {
+		return Optional.empty();
+	}
+
+	@Override
+	public void publishReportEntry(Map<String, String> map) {
+	}
+
+	@Override
+	public Store getStore(Namespace namespace) {
+		return new StubStore(namespace);
+	}
+
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return ExecutionMode.SAME_THREAD;
+	}
+
+	@Override
+	public ExecutableInvoker getExecutableInvoker() {
+		throw new UnsupportedOperationException();
+	}
+
+	private Object lookup(Object key) {
+		Object value = store.get(key);
+		if (value == null && parent != null) {
+			return parent.lookup(key);
+		}
+		return value;
+	}
+
+	/**
+	 * Same as JUnit's store: values are looked up through the parent contexts, but are put into the current one only.
+	 */
+	private class StubStore implements Store {
+		private final Namespace namespace;
+
+		private StubStore(Namespace namespace) {
+			this.namespace = namespace;
+		}
+
+		private List<Object> key(Object key) {
+			return Arrays.asList(namespace, key);
+		}
+
+		@Override
+		public Object get(Object key) {
+			return lookup(key(key));
+		}
+
+		@Override
+		public <V> V get(Object key, Class<V> requiredType) {
+			return requiredType.cast(get(key));
+		}
+
+		@Override
+		public <K, V> Object getOrComputeIfAbsent(K key, Function<K, V> defaultCreator) {
+			Object value = get(key);
+			if (value != null) {
+				return value;
+			}
+			return store.computeIfAbsent(key(key), k -> defaultCreator.apply(key));
+		}
+
+		@Override
+		public <K, V> V getOrComputeIfAbsent(K key, Function<K, V> defaultCreator, Class<V> requiredType) {
+			return requiredType.cast(getOrComputeIfAbsent(key, defaultCreator));
+		}
+
+		@Override
+		public void put(Object key, Object value) {
+			store.put(key(key), value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return store.remove(key(key));
+		}
+
+		@Override
+		public <V> V remove(Object key, Class<V> requiredType) {
+			return requiredType.cast(remove(key));
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5.benchmark;
+
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Synthetic {@link ReflectiveInvocationContext} of a test or configuration method.
+ */
+public class StubInvocationContext implements ReflectiveInvocationContext<Method> {
+
+	private final Method method;
+	private final List<Object> arguments;
+
+	public StubInvocationContext(@Nonnull Method method, @Nonnull List<Object> arguments) {
+		this.method = method;
+		this.arguments = arguments;
+	}
+
+	@Override
+	public Class<?> getTargetClass() {
+		return method.getDeclaringClass();
+	}
+
+	@Override
+	public Method getExecutable() {
+		return method;
+	}
+
+	@Override
+	public List<Object> getArguments() {
+		return arguments;
+	}
+
+	@Override
+	public Optional<Object> getTarget() {
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.junit5.benchmark;
+
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a parameterized test invocation while a lot of other test templates are running at the same time (e.g. large
+ * <code>@ParameterizedTest</code> classes in parallel), so every template finish lookup is done against a big number of live templates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TemplatesBenchmark {
+
+	private static final InvocationInterceptor.Invocation<Void> NOOP_INVOCATION = () -> null;
+
+	@Param({ "10000" })
+	public int templates;
+
+	private BenchmarkExtension extension;
+	private StubExtensionContext classContext;
+	private StubExtensionContext[] templateContexts;
+	private long counter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		extension = new BenchmarkExtension();
+		classContext = StubExtensionContext.root().classContext(BenchmarkTests.class);
+		extension.beforeAll(classContext);
+		templateContexts = new StubExtensionContext[templates];
+		for (int i = 0; i < templates; i++) {
+			StubExtensionContext template = classContext.methodContext(BenchmarkTests.PARAMETERIZED, "test-template:#" + i, null);
+			extension.beforeEach(template.methodContext(BenchmarkTests.PARAMETERIZED, "test-template-invocation:#0", null));
+			templateContexts[i] = template;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Throwable {
+		for (StubExtensionContext template : templateContexts) {
+			template.close();
+		}
+		extension.afterAll(classContext);
+		classContext.close();
+	}
+
+	@Benchmark
+	public void parameterizedTestAmongTemplates() throws Throwable {
+		long index = counter++;
+		StubExtensionContext template = templateContexts[(int) (index % templates)];
+		StubExtensionContext context = template.methodContext(BenchmarkTests.PARAMETERIZED, "test-template-invocation:#" + index,
+				new BenchmarkTests()
+		);
+		extension.beforeEach(context);
+		extension.interceptTestTemplateMethod(NOOP_INVOCATION,
+				new StubInvocationContext(BenchmarkTests.PARAMETERIZED, Arrays.asList("name" + index, (int) index)),
+				context
+		);
+		extension.afterTestExecution(context);
+		context.close();
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.benchmark;
+
+import com.epam.reportportal.junit5.journal.JournalReportPortalClient;
+import com.epam.reportportal.junit5.journal.JournalUploader;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many items per second {@link JournalUploader} replays to a local stub ReportPortal server. Every stub response is
+ * delayed by {@link #RESPONSE_DELAY_MILLIS} to emulate a network round trip, so the result shows how well requests are overlapped.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+@OperationsPerInvocation(UploadBenchmark.TEST_NUMBER + 1)
+public class UploadBenchmark {
+
+	static final int TEST_NUMBER = 1000;
+	private static final long RESPONSE_DELAY_MILLIS = 1;
+	private static final byte[] RESPONSE = "{\"id\":\"stub\",\"uuid\":\"stub\",\"number\":1,\"message\":\"OK\",\"responses\":[]}".getBytes(
+			StandardCharsets.UTF_8);
+
+	@Param({ "1", "16" })
+	public int concurrency;
+
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private Path journal;
+	private JournalUploader uploader;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext(
+				"/", exchange -> {
+					try (InputStream body = exchange.getRequestBody()) {
+						body.readAllBytes();
+					}
+					try {
+						Thread.sleep(RESPONSE_DELAY_MILLIS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					exchange.getResponseHeaders().add("Content-Type", "application/json");
+					exchange.sendResponseHeaders(200, RESPONSE.length);
+					try (OutputStream out = exchange.getResponseBody()) {
+						out.write(RESPONSE);
+					}
+				}
+		);
+		serverExecutor = Executors.newFixedThreadPool(64);
+		server.setExecutor(serverExecutor);
+		server.start();
+
+		journal = Files.createTempFile("rp-journal-benchmark", ".rpj");
+		writeJournal(journal);
+
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setEnable(true);
+		parameters.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+		parameters.setApiKey("benchmark");
+		parameters.setProjectName("benchmark");
+		parameters.setIoPoolSize(concurrency);
+		ReportPortalClient client = ReportPortal.builder().withParameters(parameters).build().getClient();
+		uploader = new JournalUploader(client, concurrency);
+	}
+
+	private static void writeJournal(Path file) throws IOException {
+		try (JournalReportPortalClient client = new JournalReportPortalClient(file)) {
+			String launchUuid = client.startLaunch(new StartLaunchRQ()).blockingGet().getId();
+			StartTestItemRQ suite = new StartTestItemRQ();
+			suite.setName("Suite");
+			suite.setType("SUITE");
+			suite.setStartTime(Instant.now());
+			String suiteUuid = client.startTestItem(suite).blockingGet().getId();
+			for (int i = 0; i < TEST_NUMBER; i++) {
+				StartTestItemRQ test = new StartTestItemRQ();
+				test.setName("Test " + i);
+				test.setType("STEP");
+				test.setStartTime(Instant.now());
+				String testUuid = client.startTestItem(suiteUuid, test).blockingGet().getId();
+				SaveLogRQ log = new SaveLogRQ();
+				log.setLaunchUuid(launchUuid);
+				log.setItemUuid(testUuid);
+				log.setLevel("INFO");
+				log.setLogTime(Instant.now());
+				log.setMessage("Log message of test " + i);
+				client.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(log)));
+				FinishTestItemRQ finish = new FinishTestItemRQ();
+				finish.setStatus("PASSED");
+				finish.setEndTime(Instant.now());
+				client.finishTestItem(testUuid, finish);
+			}
+			FinishTestItemRQ finish = new FinishTestItemRQ();
+			finish.setEndTime(Instant.now());
+			client.finishTestItem(suiteUuid, finish);
+			FinishExecutionRQ finishLaunch = new FinishExecutionRQ();
+			finishLaunch.setEndTime(Instant.now());
+			client.finishLaunch(launchUuid, finishLaunch);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+		Files.deleteIfExists(journal);
+	}
+
+	@Benchmark
+	public JournalUploader.Result upload() throws IOException {
+		JournalUploader.Result result = uploader.upload(journal);
+		if (result.getFailures() > 0) {
+			throw new IllegalStateException("Upload failed: " + result.getFailures() + " failed requests");
+		}
+		return result;
+	}
+}
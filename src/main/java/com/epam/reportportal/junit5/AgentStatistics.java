@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.utils.LatencyHistogram;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Collects live statistics of the agent: item counts by type, time spent in extension callbacks and sizes of the agent's structures.
+ * One instance per JVM is registered as an MBean, see {@link AgentStatisticsMXBean}, and is published as {@link OverheadReport}.
+ */
+public final class AgentStatistics implements AgentStatisticsMXBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AgentStatistics.class);
+
+	public static final String OBJECT_NAME = "com.epam.reportportal.junit5:type=Agent";
+
+	/**
+	 * Extension callbacks which are timed
+	 */
+	enum Callback {
+		BEFORE_ALL("beforeAll"),
+		AFTER_ALL("afterAll"),
+		BEFORE_EACH("beforeEach"),
+		AFTER_TEST_EXECUTION("afterTestExecution"),
+		TEST_DISABLED("testDisabled"),
+		TEST_FAILED("testFailed"),
+		INTERCEPT_TEST_CLASS_CONSTRUCTOR("interceptTestClassConstructor"),
+		INTERCEPT_BEFORE_ALL_METHOD("interceptBeforeAllMethod"),
+		INTERCEPT_BEFORE_EACH_METHOD("interceptBeforeEachMethod"),
+		INTERCEPT_AFTER_EACH_METHOD("interceptAfterEachMethod"),
+		INTERCEPT_AFTER_ALL_METHOD("interceptAfterAllMethod"),
+		INTERCEPT_TEST_METHOD("interceptTestMethod"),
+		INTERCEPT_TEST_FACTORY_METHOD("interceptTestFactoryMethod"),
+		INTERCEPT_TEST_TEMPLATE_METHOD("interceptTestTemplateMethod"),
+		INTERCEPT_DYNAMIC_TEST("interceptDynamicTest");
+
+		private final String methodName;
+
+		Callback(@Nonnull String methodName) {
+			this.methodName = methodName;
+		}
+
+		@Nonnull
+		String getMethodName() {
+			return methodName;
+		}
+	}
+
+	/**
+	 * Measures time spent in a callback, time of the intercepted invocation is excluded
+	 */
+	static final class Timer {
+		static final Timer NOOP = new Timer(null, null);
+
+		private final AgentStatistics statistics;
+		private final Callback callback;
+		private final long start;
+		private long excluded;
+
+		private Timer(@Nullable AgentStatistics statistics, @Nullable Callback callback) {
+			this.statistics = statistics;
+			this.callback = callback;
+			start = statistics == null ? 0 : System.nanoTime();
+		}
+
+		/**
+		 * @param invocation an intercepted invocation
+		 * @return the invocation which time is not counted as callback time
+		 */
+		@Nonnull
+		<T> InvocationInterceptor.Invocation<T> exclude(@Nonnull InvocationInterceptor.Invocation<T> invocation) {
+			if (statistics == null) {
+				return invocation;
+			}
+			return new InvocationInterceptor.Invocation<>() {
+				@Override
+				public T proceed() throws Throwable {
+					long invocationStart = System.nanoTime();
+					try {
+						return invocation.proceed();
+					} finally {
+						excluded += System.nanoTime() - invocationStart;
+					}
+				}
+
+				@Override
+				public void skip() {
+					invocation.skip();
+				}
+			};
+		}
+
+		void stop() {
+			if (statistics != null) {
+				statistics.callbackTimes.get(callback).record(System.nanoTime() - start - excluded);
+				statistics.invocationNanos.get(callback).add(excluded);
+			}
+		}
+	}
+
+	private final IntSupplier launchCount;
+	private final IntSupplier callbackTreeSize;
+	private final IntSupplier callbackIndexSize;
+	private final Map<ItemType, LongAdder> startedItems = counters(ItemType.class);
+	private final Map<ItemType, LongAdder> finishedItems = counters(ItemType.class);
+	private final Map<Callback, LatencyHistogram> callbackTimes;
+	private final Map<Callback, LongAdder> invocationNanos = counters(Callback.class);
+	private final Map<Maybe<String>, ItemType> running = new ConcurrentHashMap<>();
+	private final LongAdder activeContexts = new LongAdder();
+	private final long startNanos = System.nanoTime();
+
+	/**
+	 * @param launchCount       number of running launches
+	 * @param callbackTreeSize  number of leaves in the callback reporting item tree
+	 * @param callbackIndexSize number of leaves in the callback reporting item index
+	 */
+	AgentStatistics(@Nonnull IntSupplier launchCount, @Nonnull IntSupplier callbackTreeSize, @Nonnull IntSupplier callbackIndexSize) {
+		this.launchCount = launchCount;
+		this.callbackTreeSize = callbackTreeSize;
+		this.callbackIndexSize = callbackIndexSize;
+		Map<Callback, LatencyHistogram> times = new EnumMap<>(Callback.class);
+		for (Callback callback : Callback.values()) {
+			times.put(callback, new LatencyHistogram());
+		}
+		callbackTimes = Collections.unmodifiableMap(times);
+	}
+
+	@Nonnull
+	private static <K extends Enum<K>> Map<K, LongAdder> counters(@Nonnull Class<K> type) {
+		Map<K, LongAdder> result = new EnumMap<>(type);
+		for (K key : type.getEnumConstants()) {
+			result.put(key, new LongAdder());
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Registers the statistics in the platform MBean server
+	 */
+	void register() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+		} catch (InstanceAlreadyExistsException e) {
+			LOGGER.warn("MBean {} is already registered, probably by an agent from another class loader", OBJECT_NAME);
+		} catch (JMException e) {
+			LOGGER.warn("Unable to register MBean {}", OBJECT_NAME, e);
+		}
+	}
+
+	/**
+	 * Starts timing of a callback
+	 *
+	 * @param callback the callback
+	 * @return a timer to stop when the callback ends
+	 */
+	@Nonnull
+	Timer start(@Nonnull Callback callback) {
+		return new Timer(this, callback);
+	}
+
+	void itemStarted(@Nonnull Maybe<String> itemId, @Nonnull ItemType type) {
+		startedItems.get(type).increment();
+		running.put(itemId, type);
+	}
+
+	void itemFinished(@Nullable Maybe<String> itemId) {
+		ItemType type = itemId == null ? null : running.remove(itemId);
+		if (type != null) {
+			finishedItems.get(type).increment();
+		}
+	}
+
+	void contextOpened() {
+		activeContexts.increment();
+	}
+
+	void contextReleased() {
+		activeContexts.decrement();
+	}
+
+	/**
+	 * @return time in nanoseconds since the statistics were created, i.e. since the first extension callback
+	 */
+	long getUptimeNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	/**
+	 * @param callback an extension callback
+	 * @return durations of the callback in nanoseconds, time of the intercepted invocation is excluded
+	 */
+	@Nonnull
+	LatencyHistogram getCallbackTime(@Nonnull Callback callback) {
+		return callbackTimes.get(callback);
+	}
+
+	/**
+	 * @param callback an extension callback
+	 * @return total time in nanoseconds of invocations intercepted by the callback, i.e. time of the test code itself
+	 */
+	long getInvocationNanos(@Nonnull Callback callback) {
+		return invocationNanos.get(callback).sum();
+	}
+
+	@Override
+	public int getLaunchCount() {
+		return launchCount.getAsInt();
+	}
+
+	@Override
+	public long getActiveContexts() {
+		return activeContexts.sum();
+	}
+
+	@Override
+	public int getItemsInProgress() {
+		return running.size();
+	}
+
+	@Override
+	public int getCallbackTreeSize() {
+		return callbackTreeSize.getAsInt();
+	}
+
+	@Override
+	public int getCallbackIndexSize() {
+		return callbackIndexSize.getAsInt();
+	}
+
+	@Nonnull
+	private static Map<String, Long> snapshot(@Nonnull Map<? extends Enum<?>, LongAdder> counters) {
+		Map<String, Long> result = new LinkedHashMap<>();
+		counters.forEach((k, v) -> result.put(k.name(), v.sum()));
+		return result;
+	}
+
+	@Override
+	public Map<String, Long> getStartedItems() {
+		return snapshot(startedItems);
+	}
+
+	@Override
+	public Map<String, Long> getFinishedItems() {
+		return snapshot(finishedItems);
+	}
+
+	@Override
+	public Map<String, Long> getCallbackCalls() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		callbackTimes.forEach((k, v) -> result.put(k.methodName, v.getCount()));
+		return result;
+	}
+
+	@Override
+	public Map<String, Long> getCallbackTimeMillis() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		callbackTimes.forEach((k, v) -> result.put(k.methodName, TimeUnit.NANOSECONDS.toMillis(v.getTotal())));
+		return result;
+	}
+}
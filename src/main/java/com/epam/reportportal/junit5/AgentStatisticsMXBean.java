@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import java.util.Map;
+
+/**
+ * Live statistics of the agent, registered as <code>com.epam.reportportal.junit5:type=Agent</code> MBean if
+ * {@link ExtensionParameters#JMX} property is set. Attach JConsole or another JMX client to see whether the agent is responsible for a
+ * slow test run or a growing heap.
+ */
+public interface AgentStatisticsMXBean {
+
+	/**
+	 * @return number of running launches
+	 */
+	int getLaunchCount();
+
+	/**
+	 * @return number of test contexts which have reporting state, it returns to the initial value when all contexts are closed
+	 */
+	long getActiveContexts();
+
+	/**
+	 * @return number of started and not yet finished items
+	 */
+	int getItemsInProgress();
+
+	/**
+	 * @return number of leaves in the callback reporting item tree
+	 */
+	int getCallbackTreeSize();
+
+	/**
+	 * @return number of leaves in the callback reporting item index
+	 */
+	int getCallbackIndexSize();
+
+	/**
+	 * @return number of started items by item type
+	 */
+	Map<String, Long> getStartedItems();
+
+	/**
+	 * @return number of finished items by item type
+	 */
+	Map<String, Long> getFinishedItems();
+
+	/**
+	 * @return number of calls by extension callback
+	 */
+	Map<String, Long> getCallbackCalls();
+
+	/**
+	 * @return cumulative time in milliseconds spent inside each extension callback, time of intercepted test code is not included
+	 */
+	Map<String, Long> getCallbackTimeMillis();
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.service.LoggingContext;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single reporter thread which builds and sends ReportPortal requests in the order test threads submitted them. Test threads put
+ * snapshots of the test state into a bounded queue, they block if the queue is full.
+ * <p>
+ * Items are identified on test threads by virtual IDs (see {@link com.epam.reportportal.service.Launch#createVirtualItem()}), the
+ * reporter maps them to real item IDs, so parents are always referenced by real IDs and ReportPortal receives the same item tree as in
+ * synchronous mode.
+ */
+final class AsyncReporter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncReporter.class);
+
+	static final String THREAD_NAME = "rp-junit5-reporter";
+
+	private final BlockingQueue<Event> queue;
+	private final Thread thread;
+
+	// Accessed by the reporter thread only
+	private final Map<Maybe<String>, Maybe<String>> realIds = new HashMap<>();
+
+	AsyncReporter(int queueSize) {
+		queue = new ArrayBlockingQueue<>(queueSize);
+		thread = new Thread(this::run, THREAD_NAME);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private static final class Event {
+		private final Maybe<String> item;
+		private final Runnable action;
+
+		private Event(@Nullable Maybe<String> item, @Nonnull Runnable action) {
+			this.item = item;
+			this.action = action;
+		}
+	}
+
+	/**
+	 * @return true if the method is called by the reporter thread
+	 */
+	boolean isReporterThread() {
+		return Thread.currentThread() == thread;
+	}
+
+	/**
+	 * Puts an action into the queue. The action is executed on the reporter thread with the logging context of the item, so stack traces
+	 * and other logs produced by the action are attached to it.
+	 *
+	 * @param item   an ID (virtual or real) of the item the action relates to
+	 * @param action reporting action
+	 */
+	void submit(@Nullable Maybe<String> item, @Nonnull Runnable action) {
+		if (isReporterThread()) {
+			action.run();
+			return;
+		}
+		Event event = new Event(item, action);
+		boolean interrupted = false;
+		while (true) {
+			try {
+				queue.put(event);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Remembers a real ID of a started virtual item, reporter thread only
+	 *
+	 * @param virtualId a virtual item ID
+	 * @param realId    a real item ID
+	 */
+	void started(@Nonnull Maybe<String> virtualId, @Nonnull Maybe<String> realId) {
+		realIds.put(virtualId, realId);
+	}
+
+	/**
+	 * Returns a real ID of an item, reporter thread only
+	 *
+	 * @param id a virtual item ID
+	 * @return a real ID, or the same ID if it is not a virtual one
+	 */
+	@Nullable
+	Maybe<String> resolve(@Nullable Maybe<String> id) {
+		return id == null ? null : realIds.getOrDefault(id, id);
+	}
+
+	/**
+	 * Returns a real ID of an item and forgets it, reporter thread only
+	 *
+	 * @param id a virtual item ID
+	 * @return a real ID, or the same ID if it is not a virtual one
+	 */
+	@Nullable
+	Maybe<String> finished(@Nullable Maybe<String> id) {
+		if (id == null) {
+			return null;
+		}
+		Maybe<String> realId = realIds.remove(id);
+		return realId == null ? id : realId;
+	}
+
+	/**
+	 * Waits until all events submitted before the call are processed
+	 *
+	 * @param timeout maximum time to wait
+	 * @param unit    time unit of the timeout
+	 * @return true if the queue was drained in time
+	 */
+	boolean flush(long timeout, @Nonnull TimeUnit unit) {
+		if (isReporterThread()) {
+			return true;
+		}
+		CountDownLatch latch = new CountDownLatch(1);
+		submit(null, latch::countDown);
+		try {
+			return latch.await(timeout, unit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void run() {
+		//noinspection InfiniteLoopStatement
+		while (true) {
+			Event event;
+			try {
+				event = queue.take();
+			} catch (InterruptedException e) {
+				LOGGER.warn("ReportPortal reporter thread was interrupted, the rest of test events will not be reported");
+				return;
+			}
+			Maybe<String> item = resolve(event.item);
+			if (item != null) {
+				LoggingContext.init(item);
+			}
+			try {
+				event.action.run();
+			} catch (Throwable e) {
+				LOGGER.error("Unable to report a test event", e);
+			} finally {
+				if (item != null) {
+					LoggingContext.dispose();
+				}
+			}
+		}
+	}
+}
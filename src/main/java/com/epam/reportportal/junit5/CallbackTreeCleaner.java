@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.utils.TestItemIndex;
+import com.epam.reportportal.service.tree.TestItemTree;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes leaves of finished items from a {@link TestItemTree} and a {@link TestItemIndex} according to a {@link CallbackTreeRetention} policy, so the tree does not
+ * grow for the whole JVM lifetime. A leaf is removed only if it is still mapped to its key, a newer leaf with the same name is kept.
+ */
+final class CallbackTreeCleaner {
+
+	private final TestItemTree tree;
+	private final TestItemIndex index;
+	private final CallbackTreeRetention retention;
+	private final int maxSize;
+	private final long ttlNanos;
+
+	// Leaves of items which are not finished yet, by item ID, SIZE and TIME policies only
+	private final Map<Maybe<String>, Leaf> running = new ConcurrentHashMap<>();
+	// Leaves of finished items in the finish order, SIZE and TIME policies only, guarded by itself
+	private final Deque<Leaf> finished = new ArrayDeque<>();
+	// Leaves by owning class context, CLASS policy only
+	private final Map<ExtensionContext, Queue<Leaf>> classLeaves = new ConcurrentHashMap<>();
+
+	/**
+	 * @param tree      a tree to clean
+	 * @param index     an index of the tree leaves to clean
+	 * @param retention a retention policy
+	 * @param maxSize   maximum number of kept leaves of finished items for {@link CallbackTreeRetention#SIZE} policy
+	 * @param ttl       time in milliseconds a leaf of a finished item is kept for {@link CallbackTreeRetention#TIME} policy
+	 */
+	CallbackTreeCleaner(@Nonnull TestItemTree tree, @Nonnull TestItemIndex index, @Nonnull CallbackTreeRetention retention, int maxSize,
+			long ttl) {
+		this.tree = tree;
+		this.index = index;
+		this.retention = retention;
+		this.maxSize = maxSize;
+		ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+	}
+
+	private static final class Leaf {
+		private final String uniqueId;
+		private final TestItemTree.ItemTreeKey key;
+		private final TestItemTree.TestItemLeaf leaf;
+		private long finishedAt;
+
+		private Leaf(@Nonnull String uniqueId, @Nonnull TestItemTree.ItemTreeKey key, @Nonnull TestItemTree.TestItemLeaf leaf) {
+			this.uniqueId = uniqueId;
+			this.key = key;
+			this.leaf = leaf;
+		}
+	}
+
+	/**
+	 * Returns a context of the test class which owns the item: the nearest class context up the tree, the context itself for a class
+	 */
+	@Nonnull
+	private static ExtensionContext getOwner(@Nonnull ExtensionContext context) {
+		for (ExtensionContext current = context; ; ) {
+			if (current.getElement().filter(Class.class::isInstance).isPresent()) {
+				return current;
+			}
+			ExtensionContext parent = current.getParent().orElse(null);
+			if (parent == null) {
+				return current;
+			}
+			current = parent;
+		}
+	}
+
+	/**
+	 * Registers a leaf of a started item and removes leaves which are out of the retention limits
+	 *
+	 * @param context JUnit's context of the item
+	 * @param itemId  an ID of the item
+	 * @param key     a key of the leaf in the tree
+	 * @param leaf    the leaf
+	 */
+	void started(@Nonnull ExtensionContext context, @Nonnull Maybe<String> itemId, @Nonnull TestItemTree.ItemTreeKey key,
+			@Nonnull TestItemTree.TestItemLeaf leaf) {
+		Leaf entry = new Leaf(context.getUniqueId(), key, leaf);
+		if (retention == CallbackTreeRetention.CLASS) {
+			classLeaves.computeIfAbsent(getOwner(context), k -> new ConcurrentLinkedQueue<>()).add(entry);
+		} else {
+			running.put(itemId, entry);
+			expire(System.nanoTime());
+		}
+	}
+
+	/**
+	 * Queues a leaf of a finished item for removal and removes leaves which are out of the retention limits. Is also called when the
+	 * reporting state of the item context is released, so a leaf of an item which finish was skipped, e.g. after a failed constructor or
+	 * <code>@BeforeAll</code> method, is not kept as running forever. Does nothing if the item is already finished.
+	 *
+	 * @param itemId an ID of the finished item
+	 */
+	void finished(@Nullable Maybe<String> itemId) {
+		Leaf entry = itemId == null ? null : running.remove(itemId);
+		if (entry == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		entry.finishedAt = now;
+		synchronized (finished) {
+			finished.add(entry);
+		}
+		expire(now);
+	}
+
+	private void expire(long now) {
+		synchronized (finished) {
+			while (!finished.isEmpty() && (retention == CallbackTreeRetention.SIZE ?
+					finished.size() > maxSize :
+					now - finished.peek().finishedAt >= ttlNanos)) {
+				remove(finished.poll());
+			}
+		}
+	}
+
+	/**
+	 * Removes leaves of the test class and its items, {@link CallbackTreeRetention#CLASS} policy only
+	 *
+	 * @param classContext JUnit's context of a finished test class
+	 */
+	void classFinished(@Nonnull ExtensionContext classContext) {
+		Queue<Leaf> leaves = classLeaves.remove(classContext);
+		if (leaves != null) {
+			leaves.forEach(this::remove);
+		}
+	}
+
+	private void remove(@Nonnull Leaf entry) {
+		tree.getTestItems().remove(entry.key, entry.leaf);
+		index.remove(entry.uniqueId, entry.leaf);
+	}
+
+	/**
+	 * @return number of tracked leaves
+	 */
+	int size() {
+		synchronized (finished) {
+			return running.size() + finished.size() + classLeaves.values().stream().mapToInt(Queue::size).sum();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+/**
+ * Defines how long leaves of {@link ReportPortalExtension#TEST_ITEM_TREE} are kept for callback reporting, see
+ * {@link ExtensionParameters#CALLBACK_TREE_RETENTION}
+ */
+public enum CallbackTreeRetention {
+	/**
+	 * Leaves are kept until the JVM exits
+	 */
+	NONE,
+	/**
+	 * Only a limited number of the most recently finished items are kept, see {@link ExtensionParameters#CALLBACK_TREE_SIZE}
+	 */
+	SIZE,
+	/**
+	 * Leaves are kept for a limited time after the item finish, see {@link ExtensionParameters#CALLBACK_TREE_TTL}
+	 */
+	TIME,
+	/**
+	 * Leaves are kept until the test class which owns the item is finished
+	 */
+	CLASS
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.service.ReportPortal;
+
+/**
+ * Keeps the former <code>ReportPortalExtension.REPORT_PORTAL</code> constant. The extension inherits the constant from this interface,
+ * and the JVM initializes an interface without default methods only on the first access to its field, so the default ReportPortal
+ * instance is still built lazily.
+ */
+interface DefaultReportPortalHolder {
+
+	/**
+	 * Default ReportPortal instance, the same as returned by {@link ReportPortalExtension#getReportPortal()}
+	 *
+	 * @deprecated use {@link ReportPortalExtension#getReportPortal()}, the constant will be removed in the next minor release
+	 */
+	@Deprecated
+	ReportPortal REPORT_PORTAL = ReportPortalExtension.getReportPortal();
+}
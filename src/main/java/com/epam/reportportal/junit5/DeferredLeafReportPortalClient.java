@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.exception.InternalReportPortalClientException;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.RetryWithDelay;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * ReportPortal client which holds back start requests of leaf items (steps) and sends them right before the item finish, so a fast test
+ * is reported with a start and a finish request submitted back to back instead of an item which is in progress while the test runs.
+ * Item UUIDs are generated on the client side and returned at once, so logs, nested steps and finish requests refer to the right item.
+ * <p>
+ * A held start is sent earlier if the item gets a nested item or a log entry, or if it is held longer than the threshold. Requests which
+ * refer to a held item are sent after its start is completed.
+ */
+public class DeferredLeafReportPortalClient implements ReportPortalClient, Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DeferredLeafReportPortalClient.class);
+
+	static final String THREAD_NAME = "rp-junit5-deferred-leaves";
+
+	private static final int START_MAX_RETRIES = 5;
+	private static final long START_RETRY_DELAY = TimeUnit.SECONDS.toMillis(2);
+
+	private final ReportPortalClient delegate;
+	private final long thresholdNanos;
+	private final Map<String, HeldStart> starts = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService timer;
+
+	/**
+	 * @param delegate  a client which sends requests to ReportPortal
+	 * @param threshold maximum time a start request is held back
+	 * @param unit      time unit of the threshold
+	 */
+	public DeferredLeafReportPortalClient(@Nonnull ReportPortalClient delegate, long threshold, @Nonnull TimeUnit unit) {
+		this.delegate = delegate;
+		thresholdNanos = unit.toNanos(threshold);
+		timer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1, thresholdNanos / 2);
+		timer.scheduleAtFixedRate(this::sendExpired, period, period, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * A start request which is held until the item finish or until something refers to the item
+	 */
+	private final class HeldStart {
+		private final String parentId;
+		private final StartTestItemRQ rq;
+		private final long heldSince = System.nanoTime();
+		private Maybe<ItemCreatedRS> response;
+
+		private HeldStart(@Nullable String parentId, @Nonnull StartTestItemRQ rq) {
+			this.parentId = parentId;
+			this.rq = rq;
+		}
+
+		/**
+		 * Sends the start request, once. A held parent is started first.
+		 *
+		 * @return the start response
+		 */
+		@Nonnull
+		private synchronized Maybe<ItemCreatedRS> send() {
+			if (response == null) {
+				Maybe<ItemCreatedRS> parent = sendHeld(parentId);
+				Maybe<ItemCreatedRS> start = Maybe.defer(() -> parentId == null ?
+						delegate.startTestItem(rq) :
+						delegate.startTestItem(parentId, rq));
+				response = (parent == null ? start : parent.ignoreElement().andThen(start)).retry(new RetryWithDelay(
+						e -> e instanceof InternalReportPortalClientException,
+						START_MAX_RETRIES,
+						START_RETRY_DELAY
+				)).cache();
+				response.subscribe(rs -> {
+				}, e -> LOGGER.error("Unable to start held test item {}", rq.getUuid(), e));
+			}
+			return response;
+		}
+
+		private synchronized boolean isSent() {
+			return response != null;
+		}
+	}
+
+	/**
+	 * Sends a held start request of the item
+	 *
+	 * @param itemId an item UUID
+	 * @return the start response, or null if the item start is not held
+	 */
+	@Nullable
+	private Maybe<ItemCreatedRS> sendHeld(@Nullable String itemId) {
+		HeldStart start = itemId == null ? null : starts.get(itemId);
+		return start == null ? null : start.send();
+	}
+
+	@Nonnull
+	private static <T> Maybe<T> after(@Nonnull Collection<Maybe<ItemCreatedRS>> starts, @Nonnull Supplier<Maybe<T>> request) {
+		if (starts.isEmpty()) {
+			return request.get();
+		}
+		return Completable.merge(starts.stream().map(Maybe::ignoreElement).collect(Collectors.toList())).andThen(Maybe.defer(request::get));
+	}
+
+	@Nonnull
+	private <T> Maybe<T> afterStart(@Nullable String itemId, @Nonnull Supplier<Maybe<T>> request) {
+		return after(ofNullable(sendHeld(itemId)).map(Collections::singletonList).orElse(Collections.emptyList()), request);
+	}
+
+	private void sendExpired() {
+		long now = System.nanoTime();
+		starts.values().stream().filter(s -> now - s.heldSince >= thresholdNanos && !s.isSent()).forEach(HeldStart::send);
+	}
+
+	@Override
+	public Maybe<ApiInfo> getApiInfo() {
+		return delegate.getApiInfo();
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return delegate.startLaunch(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return delegate.mergeLaunches(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launchId, UpdateLaunchRQ rq) {
+		return delegate.updateLaunch(launchId, rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launchId, FinishExecutionRQ rq) {
+		// Items which were never finished are still reported
+		List<Maybe<ItemCreatedRS>> held = new ArrayList<>();
+		starts.values().forEach(s -> held.add(s.send()));
+		return after(held, () -> delegate.finishLaunch(launchId, rq));
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return startTestItem(null, rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(@Nullable String parentId, StartTestItemRQ rq) {
+		// A parent with nested items is started at once
+		Maybe<ItemCreatedRS> parent = sendHeld(parentId);
+		if (!ItemType.STEP.name().equals(rq.getType())) {
+			Supplier<Maybe<ItemCreatedRS>> start = () -> parentId == null ? delegate.startTestItem(rq) : delegate.startTestItem(parentId, rq);
+			return after(ofNullable(parent).map(Collections::singletonList).orElse(Collections.emptyList()), start);
+		}
+		String uuid = ofNullable(rq.getUuid()).orElseGet(() -> UUID.randomUUID().toString());
+		rq.setUuid(uuid);
+		starts.put(uuid, new HeldStart(parentId, rq));
+		return Maybe.just(new ItemCreatedRS(uuid, uuid));
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		HeldStart start = starts.get(itemId);
+		if (start == null) {
+			return delegate.finishTestItem(itemId, rq);
+		}
+		// The item is forgotten when the finish is completed, so logs sent in the meantime still wait for the start
+		return start.send()
+				.ignoreElement()
+				.andThen(Maybe.defer(() -> delegate.finishTestItem(itemId, rq)))
+				.doFinally(() -> starts.remove(itemId, start));
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return afterStart(rq.getItemUuid(), () -> delegate.log(rq));
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+		if (starts.isEmpty()) {
+			return delegate.log(parts);
+		}
+		List<Maybe<ItemCreatedRS>> held = new ArrayList<>();
+		for (String itemId : logItemUuids(parts)) {
+			ofNullable(sendHeld(itemId)).ifPresent(held::add);
+		}
+		return after(held, () -> delegate.log(parts));
+	}
+
+	/**
+	 * Reads item UUIDs of log entries from the JSON part of a multipart log request
+	 */
+	@Nonnull
+	private static Set<String> logItemUuids(@Nonnull List<MultipartBody.Part> parts) {
+		Set<String> result = new HashSet<>();
+		for (MultipartBody.Part part : parts) {
+			RequestBody body = part.body();
+			MediaType type = body.contentType();
+			if (type == null || !"json".equals(type.subtype())) {
+				continue;
+			}
+			try {
+				Buffer buffer = new Buffer();
+				body.writeTo(buffer);
+				for (JsonNode log : HttpRequestUtils.MAPPER.readTree(buffer.inputStream())) {
+					JsonNode itemUuid = log.get("itemUuid");
+					if (itemUuid != null && !itemUuid.isNull()) {
+						result.add(itemUuid.asText());
+					}
+				}
+			} catch (IOException e) {
+				LOGGER.warn("Unable to read item UUIDs of a log request", e);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+		return delegate.getLaunchByUuid(launchUuid);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+		return afterStart(itemUuid, () -> delegate.getItemByUuid(itemUuid));
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return delegate.getProjectSettings();
+	}
+
+	@Override
+	public void close() throws IOException {
+		timer.shutdownNow();
+		if (delegate instanceof Closeable) {
+			((Closeable) delegate).close();
+		}
+	}
+}
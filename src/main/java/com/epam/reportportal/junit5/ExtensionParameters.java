@@ -0,0 +1,513 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.utils.StackTraceFormatter;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * JUnit 5 agent specific configuration. Each parameter is looked up in system properties first, then in environment variables (upper
+ * case, dots replaced with underscores, e.g. <code>RP_JUNIT5_ASSUMPTION_EXCEPTIONS</code>) and then in
+ * <code>reportportal.properties</code> file.
+ */
+public class ExtensionParameters {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionParameters.class);
+
+	/**
+	 * Comma-separated list of exception class names which mark a test as skipped in addition to the default ones
+	 */
+	public static final String ASSUMPTION_EXCEPTIONS = "rp.junit5.assumption.exceptions";
+
+	/**
+	 * Build and send ReportPortal requests on a dedicated reporter thread instead of test threads
+	 */
+	public static final String ASYNC_REPORTING = "rp.junit5.reporting.async";
+
+	/**
+	 * Capacity of the reporter thread queue, test threads block if it is full
+	 */
+	public static final String ASYNC_QUEUE_SIZE = "rp.junit5.reporting.async.queue.size";
+
+	public static final int DEFAULT_ASYNC_QUEUE_SIZE = 8192;
+
+	/**
+	 * Path to a journal file (or a directory for journal files) to write ReportPortal requests to instead of sending them
+	 */
+	public static final String SPOOL_FILE = "rp.junit5.spool.file";
+
+	/**
+	 * Hold back start requests of test steps until the step finish, so fast tests are reported with two requests sent back to back
+	 */
+	public static final String DEFERRED_LEAVES = "rp.junit5.deferred.leaves";
+
+	/**
+	 * Maximum time in milliseconds a step start request is held back
+	 */
+	public static final String DEFERRED_LEAVES_THRESHOLD = "rp.junit5.deferred.leaves.threshold";
+
+	public static final int DEFAULT_DEFERRED_LEAVES_THRESHOLD = 100;
+
+	/**
+	 * Report passed invocations of parameterized and repeated tests as one summary item instead of an item per invocation
+	 */
+	public static final String TEMPLATE_AGGREGATION = "rp.junit5.template.aggregation";
+
+	/**
+	 * Report only items which did not pass and their ancestors, passed items are buffered locally and dropped
+	 */
+	public static final String FAILURES_ONLY = "rp.junit5.failures.only";
+
+	/**
+	 * Maximum size in bytes of the local buffer of items and log entries in failures-only mode
+	 */
+	public static final String FAILURES_ONLY_BUFFER_SIZE = "rp.junit5.failures.only.buffer.size";
+
+	public static final long DEFAULT_FAILURES_ONLY_BUFFER_SIZE = 64L * 1024 * 1024;
+
+	/**
+	 * Maximum number of frames printed for each exception in a stack trace of a failed item, negative for no limit
+	 */
+	public static final String STACKTRACE_MAX_FRAMES = "rp.junit5.stacktrace.max.frames";
+
+	public static final int DEFAULT_STACKTRACE_MAX_FRAMES = -1;
+
+	/**
+	 * Maximum size in bytes of a stack trace of a failed item, negative for no limit
+	 */
+	public static final String STACKTRACE_MAX_BYTES = "rp.junit5.stacktrace.max.bytes";
+
+	public static final int DEFAULT_STACKTRACE_MAX_BYTES = -1;
+
+	/**
+	 * Maximum number of causes printed in a stack trace of a failed item, negative for no limit
+	 */
+	public static final String STACKTRACE_MAX_CAUSES = "rp.junit5.stacktrace.max.causes";
+
+	public static final int DEFAULT_STACKTRACE_MAX_CAUSES = -1;
+
+	/**
+	 * Comma-separated list of package or class name prefixes of stack trace frames which are collapsed into one line, nothing is collapsed
+	 * by default. See {@link StackTraceFormatter#FRAMEWORK_PACKAGES} for the usual list.
+	 */
+	public static final String STACKTRACE_COLLAPSED_PACKAGES = "rp.junit5.stacktrace.collapsed.packages";
+
+	/**
+	 * Send the full stack trace only for the first of failures with the same stack trace, others get a short reference to it
+	 */
+	public static final String FAILURE_DEDUPLICATION = "rp.junit5.failure.deduplication";
+
+	/**
+	 * Maximum number of distinct failures remembered for deduplication
+	 */
+	public static final String FAILURE_DEDUPLICATION_CACHE_SIZE = "rp.junit5.failure.deduplication.cache.size";
+
+	public static final int DEFAULT_FAILURE_DEDUPLICATION_CACHE_SIZE = 1024;
+
+	/**
+	 * How long leaves of the callback reporting item tree are kept: <code>none</code>, <code>size</code>, <code>time</code> or
+	 * <code>class</code>, see {@link CallbackTreeRetention}
+	 */
+	public static final String CALLBACK_TREE_RETENTION = "rp.junit5.callback.tree.retention";
+
+	/**
+	 * Maximum number of kept leaves of finished items for <code>size</code> retention
+	 */
+	public static final String CALLBACK_TREE_SIZE = "rp.junit5.callback.tree.size";
+
+	public static final int DEFAULT_CALLBACK_TREE_SIZE = 1000;
+
+	/**
+	 * Time in milliseconds a leaf of a finished item is kept for <code>time</code> retention
+	 */
+	public static final String CALLBACK_TREE_TTL = "rp.junit5.callback.tree.ttl";
+
+	public static final long DEFAULT_CALLBACK_TREE_TTL = 60_000;
+
+	/**
+	 * Register <code>com.epam.reportportal.junit5:type=Agent</code> MBean with live agent statistics, see {@link AgentStatisticsMXBean}
+	 */
+	public static final String JMX = "rp.junit5.jmx";
+
+	/**
+	 * Measure time spent in extension callbacks against time of the test code and publish it at the launch finish, see
+	 * {@link OverheadReport}
+	 */
+	public static final String OVERHEAD_REPORT = "rp.junit5.overhead.report";
+
+	/**
+	 * Path to a local JSON file the overhead report is written to
+	 */
+	public static final String OVERHEAD_REPORT_FILE = "rp.junit5.overhead.report.file";
+
+	/**
+	 * Default overhead report file, named after the current process to keep reports of parallel forks apart
+	 */
+	public static final String DEFAULT_OVERHEAD_REPORT_FILE = "reportportal-overhead-" + ProcessHandle.current().pid() + ".json";
+
+	private Set<String> assumptionExceptions;
+	private boolean asyncReporting;
+	private int asyncQueueSize;
+	private String spoolFile;
+	private boolean deferredLeaves;
+	private int deferredLeavesThreshold;
+	private boolean templateAggregation;
+	private boolean failuresOnly;
+	private long failuresOnlyBufferSize;
+	private int stackTraceMaxFrames;
+	private int stackTraceMaxBytes;
+	private int stackTraceMaxCauses;
+	private Set<String> stackTraceCollapsedPackages;
+	private boolean failureDeduplication;
+	private int failureDeduplicationCacheSize;
+	private CallbackTreeRetention callbackTreeRetention;
+	private int callbackTreeSize;
+	private long callbackTreeTtl;
+	private boolean jmx;
+	private boolean overheadReport;
+	private String overheadReportFile;
+
+	public ExtensionParameters() {
+		this(PropertiesLoader.load());
+	}
+
+	public ExtensionParameters(@Nonnull PropertiesLoader properties) {
+		Properties fileProperties = properties.getProperties();
+		assumptionExceptions = toSet(getProperty(fileProperties, ASSUMPTION_EXCEPTIONS));
+		asyncReporting = Boolean.parseBoolean(getProperty(fileProperties, ASYNC_REPORTING));
+		asyncQueueSize = toInt(getProperty(fileProperties, ASYNC_QUEUE_SIZE), DEFAULT_ASYNC_QUEUE_SIZE);
+		spoolFile = StringUtils.trimToNull(getProperty(fileProperties, SPOOL_FILE));
+		deferredLeaves = Boolean.parseBoolean(getProperty(fileProperties, DEFERRED_LEAVES));
+		deferredLeavesThreshold = toInt(getProperty(fileProperties, DEFERRED_LEAVES_THRESHOLD), DEFAULT_DEFERRED_LEAVES_THRESHOLD);
+		templateAggregation = Boolean.parseBoolean(getProperty(fileProperties, TEMPLATE_AGGREGATION));
+		failuresOnly = Boolean.parseBoolean(getProperty(fileProperties, FAILURES_ONLY));
+		failuresOnlyBufferSize = toLong(getProperty(fileProperties, FAILURES_ONLY_BUFFER_SIZE), DEFAULT_FAILURES_ONLY_BUFFER_SIZE);
+		stackTraceMaxFrames = toInt(getProperty(fileProperties, STACKTRACE_MAX_FRAMES), DEFAULT_STACKTRACE_MAX_FRAMES);
+		stackTraceMaxBytes = toInt(getProperty(fileProperties, STACKTRACE_MAX_BYTES), DEFAULT_STACKTRACE_MAX_BYTES);
+		stackTraceMaxCauses = toInt(getProperty(fileProperties, STACKTRACE_MAX_CAUSES), DEFAULT_STACKTRACE_MAX_CAUSES);
+		stackTraceCollapsedPackages = ofNullable(getProperty(fileProperties, STACKTRACE_COLLAPSED_PACKAGES)).map(ExtensionParameters::toSet)
+				.orElse(Collections.emptySet());
+		failureDeduplication = Boolean.parseBoolean(getProperty(fileProperties, FAILURE_DEDUPLICATION));
+		failureDeduplicationCacheSize = toInt(
+				getProperty(fileProperties, FAILURE_DEDUPLICATION_CACHE_SIZE),
+				DEFAULT_FAILURE_DEDUPLICATION_CACHE_SIZE
+		);
+		callbackTreeRetention = toRetention(getProperty(fileProperties, CALLBACK_TREE_RETENTION));
+		callbackTreeSize = toInt(getProperty(fileProperties, CALLBACK_TREE_SIZE), DEFAULT_CALLBACK_TREE_SIZE);
+		callbackTreeTtl = toLong(getProperty(fileProperties, CALLBACK_TREE_TTL), DEFAULT_CALLBACK_TREE_TTL);
+		jmx = Boolean.parseBoolean(getProperty(fileProperties, JMX));
+		overheadReport = Boolean.parseBoolean(getProperty(fileProperties, OVERHEAD_REPORT));
+		overheadReportFile = ofNullable(StringUtils.trimToNull(getProperty(fileProperties, OVERHEAD_REPORT_FILE)))
+				.orElse(DEFAULT_OVERHEAD_REPORT_FILE);
+	}
+
+	@Nullable
+	static String getProperty(@Nonnull Properties fileProperties, @Nonnull String key) {
+		return ofNullable(System.getProperty(key)).or(() -> ofNullable(System.getenv(key.toUpperCase(Locale.ROOT).replace('.', '_'))))
+				.or(() -> ofNullable(fileProperties.getProperty(key)))
+				.map(String::trim)
+				.orElse(null);
+	}
+
+	@Nonnull
+	private static Set<String> toSet(@Nullable String value) {
+		if (StringUtils.isBlank(value)) {
+			return Collections.emptySet();
+		}
+		return Arrays.stream(value.split(",")).map(String::trim).filter(StringUtils::isNotEmpty).collect(Collectors.toSet());
+	}
+
+	private static int toInt(@Nullable String value, int defaultValue) {
+		if (StringUtils.isBlank(value)) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			LOGGER.warn("Unable to parse integer value '{}', default value {} is used", value, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	private static long toLong(@Nullable String value, long defaultValue) {
+		if (StringUtils.isBlank(value)) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			LOGGER.warn("Unable to parse long value '{}', default value {} is used", value, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	@Nonnull
+	private static CallbackTreeRetention toRetention(@Nullable String value) {
+		if (StringUtils.isBlank(value)) {
+			return CallbackTreeRetention.NONE;
+		}
+		try {
+			return CallbackTreeRetention.valueOf(value.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			LOGGER.warn("Unknown callback tree retention '{}', leaves are kept until the JVM exits", value);
+			return CallbackTreeRetention.NONE;
+		}
+	}
+
+	/**
+	 * @return names of exception classes which are treated as assumption failures in addition to the default ones
+	 */
+	@Nonnull
+	public Set<String> getAssumptionExceptions() {
+		return assumptionExceptions;
+	}
+
+	public void setAssumptionExceptions(@Nonnull Set<String> assumptionExceptions) {
+		this.assumptionExceptions = assumptionExceptions;
+	}
+
+	/**
+	 * @return true if requests are built and sent on a dedicated reporter thread
+	 */
+	public boolean isAsyncReporting() {
+		return asyncReporting;
+	}
+
+	public void setAsyncReporting(boolean asyncReporting) {
+		this.asyncReporting = asyncReporting;
+	}
+
+	/**
+	 * @return capacity of the reporter thread queue
+	 */
+	public int getAsyncQueueSize() {
+		return asyncQueueSize;
+	}
+
+	public void setAsyncQueueSize(int asyncQueueSize) {
+		this.asyncQueueSize = asyncQueueSize;
+	}
+
+	/**
+	 * @return path to a journal file or a directory for journal files, null if requests are sent to ReportPortal
+	 */
+	@Nullable
+	public String getSpoolFile() {
+		return spoolFile;
+	}
+
+	public void setSpoolFile(@Nullable String spoolFile) {
+		this.spoolFile = spoolFile;
+	}
+
+	/**
+	 * @return true if start requests of test steps are held back until the step finish
+	 */
+	public boolean isDeferredLeaves() {
+		return deferredLeaves;
+	}
+
+	public void setDeferredLeaves(boolean deferredLeaves) {
+		this.deferredLeaves = deferredLeaves;
+	}
+
+	/**
+	 * @return maximum time in milliseconds a step start request is held back
+	 */
+	public int getDeferredLeavesThreshold() {
+		return deferredLeavesThreshold;
+	}
+
+	public void setDeferredLeavesThreshold(int deferredLeavesThreshold) {
+		this.deferredLeavesThreshold = deferredLeavesThreshold;
+	}
+
+	/**
+	 * @return true if passed invocations of test templates are reported as one summary item
+	 */
+	public boolean isTemplateAggregation() {
+		return templateAggregation;
+	}
+
+	public void setTemplateAggregation(boolean templateAggregation) {
+		this.templateAggregation = templateAggregation;
+	}
+
+	/**
+	 * @return true if only items which did not pass and their ancestors are reported
+	 */
+	public boolean isFailuresOnly() {
+		return failuresOnly;
+	}
+
+	public void setFailuresOnly(boolean failuresOnly) {
+		this.failuresOnly = failuresOnly;
+	}
+
+	/**
+	 * @return maximum size in bytes of the local buffer in failures-only mode
+	 */
+	public long getFailuresOnlyBufferSize() {
+		return failuresOnlyBufferSize;
+	}
+
+	public void setFailuresOnlyBufferSize(long failuresOnlyBufferSize) {
+		this.failuresOnlyBufferSize = failuresOnlyBufferSize;
+	}
+
+	/**
+	 * @return maximum number of frames printed for each exception in a stack trace, negative for no limit
+	 */
+	public int getStackTraceMaxFrames() {
+		return stackTraceMaxFrames;
+	}
+
+	public void setStackTraceMaxFrames(int stackTraceMaxFrames) {
+		this.stackTraceMaxFrames = stackTraceMaxFrames;
+	}
+
+	/**
+	 * @return maximum size of a stack trace in bytes, negative for no limit
+	 */
+	public int getStackTraceMaxBytes() {
+		return stackTraceMaxBytes;
+	}
+
+	public void setStackTraceMaxBytes(int stackTraceMaxBytes) {
+		this.stackTraceMaxBytes = stackTraceMaxBytes;
+	}
+
+	/**
+	 * @return maximum number of causes printed in a stack trace, negative for no limit
+	 */
+	public int getStackTraceMaxCauses() {
+		return stackTraceMaxCauses;
+	}
+
+	public void setStackTraceMaxCauses(int stackTraceMaxCauses) {
+		this.stackTraceMaxCauses = stackTraceMaxCauses;
+	}
+
+	/**
+	 * @return package or class name prefixes of stack trace frames which are collapsed into one line
+	 */
+	@Nonnull
+	public Set<String> getStackTraceCollapsedPackages() {
+		return stackTraceCollapsedPackages;
+	}
+
+	public void setStackTraceCollapsedPackages(@Nonnull Set<String> stackTraceCollapsedPackages) {
+		this.stackTraceCollapsedPackages = stackTraceCollapsedPackages;
+	}
+
+	/**
+	 * @return true if failures with the same stack trace refer to the first of them instead of sending the full stack trace
+	 */
+	public boolean isFailureDeduplication() {
+		return failureDeduplication;
+	}
+
+	public void setFailureDeduplication(boolean failureDeduplication) {
+		this.failureDeduplication = failureDeduplication;
+	}
+
+	/**
+	 * @return maximum number of distinct failures remembered for deduplication
+	 */
+	public int getFailureDeduplicationCacheSize() {
+		return failureDeduplicationCacheSize;
+	}
+
+	public void setFailureDeduplicationCacheSize(int failureDeduplicationCacheSize) {
+		this.failureDeduplicationCacheSize = failureDeduplicationCacheSize;
+	}
+
+	/**
+	 * @return how long leaves of the callback reporting item tree are kept
+	 */
+	@Nonnull
+	public CallbackTreeRetention getCallbackTreeRetention() {
+		return callbackTreeRetention;
+	}
+
+	public void setCallbackTreeRetention(@Nonnull CallbackTreeRetention callbackTreeRetention) {
+		this.callbackTreeRetention = callbackTreeRetention;
+	}
+
+	/**
+	 * @return maximum number of kept leaves of finished items for {@link CallbackTreeRetention#SIZE} retention
+	 */
+	public int getCallbackTreeSize() {
+		return callbackTreeSize;
+	}
+
+	public void setCallbackTreeSize(int callbackTreeSize) {
+		this.callbackTreeSize = callbackTreeSize;
+	}
+
+	/**
+	 * @return time in milliseconds a leaf of a finished item is kept for {@link CallbackTreeRetention#TIME} retention
+	 */
+	public long getCallbackTreeTtl() {
+		return callbackTreeTtl;
+	}
+
+	public void setCallbackTreeTtl(long callbackTreeTtl) {
+		this.callbackTreeTtl = callbackTreeTtl;
+	}
+
+	/**
+	 * @return true if agent statistics are collected and exposed as an MBean
+	 */
+	public boolean isJmx() {
+		return jmx;
+	}
+
+	public void setJmx(boolean jmx) {
+		this.jmx = jmx;
+	}
+
+	/**
+	 * @return true if the agent overhead is measured and published at the launch finish
+	 */
+	public boolean isOverheadReport() {
+		return overheadReport;
+	}
+
+	public void setOverheadReport(boolean overheadReport) {
+		this.overheadReport = overheadReport;
+	}
+
+	@Nonnull
+	public String getOverheadReportFile() {
+		return overheadReportFile;
+	}
+
+	public void setOverheadReportFile(@Nonnull String overheadReportFile) {
+		this.overheadReportFile = overheadReportFile;
+	}
+}
@@ -0,0 +1,527 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.journal.JournalDecoder;
+import com.epam.reportportal.junit5.journal.JournalEncoder;
+import com.epam.reportportal.junit5.journal.JournalRecord;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * ReportPortal client which reports only items which did not pass and their ancestors. Start requests of all items are buffered locally
+ * in the binary form of spool journal records (see {@link JournalEncoder}) and sent only when the item or one of its descendants finishes with a status other than
+ * {@link ItemStatus#PASSED}, so ancestors are created lazily along the path to a failure. Passed subtrees are never sent, their number
+ * is reported as launch attributes instead, see {@link #COLLAPSED_TESTS_ATTRIBUTE} and {@link #COLLAPSED_ITEMS_ATTRIBUTE}. Log entries
+ * of buffered items are held until the item outcome is known and are dropped with passed items.
+ * <p>
+ * The buffer has a hard size limit. When it is reached, new items are reported right away as in the usual mode and held log entries of
+ * buffered items force starts of these items, so failures are never lost, but some passed items appear in the launch.
+ */
+public class FailuresOnlyReportPortalClient implements ReportPortalClient, Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FailuresOnlyReportPortalClient.class);
+
+	/**
+	 * Launch attribute with the number of passed tests which were not reported
+	 */
+	public static final String COLLAPSED_TESTS_ATTRIBUTE = "collapsed.passed.tests";
+
+	/**
+	 * Launch attribute with the number of passed items (tests, suites and nested steps) which were not reported
+	 */
+	public static final String COLLAPSED_ITEMS_ATTRIBUTE = "collapsed.passed.items";
+
+	private static final TypeReference<List<SaveLogRQ>> LOG_LIST_TYPE = new TypeReference<>() {
+	};
+
+	// Rough size of a buffered item on the heap besides its encoded start request: the item object, a map entry and its UUID
+	private static final int ITEM_OVERHEAD = 256;
+
+	private final ReportPortalClient delegate;
+	private final long bufferLimit;
+	private final AtomicLong bufferSize = new AtomicLong();
+	private final Map<String, Item> items = new ConcurrentHashMap<>();
+	// Start responses of reported items until their finish completes
+	private final Map<String, Maybe<ItemCreatedRS>> reported = new ConcurrentHashMap<>();
+	// Held log batches by UUIDs of pending items they refer to, a batch is listed under each of its items, guarded by itself
+	private final Map<String, List<HeldLogs>> heldLogs = new HashMap<>();
+	private final Set<Completable> inFlight = ConcurrentHashMap.newKeySet();
+	private final LongAdder collapsedTests = new LongAdder();
+	private final LongAdder collapsedItems = new LongAdder();
+
+	/**
+	 * @param delegate    a client which sends requests to ReportPortal
+	 * @param bufferLimit maximum size of buffered start requests and log entries in bytes
+	 */
+	public FailuresOnlyReportPortalClient(@Nonnull ReportPortalClient delegate, long bufferLimit) {
+		this.delegate = delegate;
+		this.bufferLimit = bufferLimit;
+	}
+
+	/**
+	 * A started item which is not finished yet
+	 */
+	private final class Item {
+		private final String uuid;
+		private final String parentId;
+		private final boolean test;
+		private final int size;
+		private byte[] rq;
+		private Maybe<ItemCreatedRS> response;
+		private boolean dropped;
+
+		private Item(@Nonnull String uuid, @Nullable String parentId, boolean test, @Nonnull byte[] rq, boolean buffered) {
+			this.uuid = uuid;
+			this.parentId = parentId;
+			this.test = test;
+			this.rq = rq;
+			size = buffered ? rq.length + ITEM_OVERHEAD : 0;
+		}
+
+		/**
+		 * Sends the start request, once. Ancestors which are not reported yet are started first.
+		 *
+		 * @return the start response
+		 */
+		@Nonnull
+		private synchronized Maybe<ItemCreatedRS> report() {
+			if (response == null) {
+				if (dropped) {
+					return Maybe.empty();
+				}
+				Item parentItem = parentId == null ? null : items.get(parentId);
+				Maybe<ItemCreatedRS> parent = parentItem == null ? null : parentItem.report();
+				byte[] body = rq;
+				Maybe<ItemCreatedRS> start = Maybe.defer(() -> {
+					StartTestItemRQ startRq = decode(body);
+					return parentId == null ? delegate.startTestItem(startRq) : delegate.startTestItem(parentId, startRq);
+				});
+				response = (parent == null ? start : parent.ignoreElement().andThen(start)).cache();
+				response.subscribe(rs -> {
+				}, e -> LOGGER.error("Unable to start buffered test item {}", uuid, e));
+				reported.put(uuid, response);
+				rq = null;
+				release(size);
+			}
+			return response;
+		}
+
+		/**
+		 * Decides on the item outcome: reports it if it or one of its descendants did not pass, drops it otherwise
+		 *
+		 * @param passed true if the item passed
+		 * @return the start response, or null if the item is dropped
+		 */
+		@Nullable
+		private synchronized Maybe<ItemCreatedRS> finish(boolean passed) {
+			if (response == null && passed) {
+				dropped = true;
+				rq = null;
+				release(size);
+				return null;
+			}
+			return report();
+		}
+
+		private synchronized boolean isPending() {
+			return response == null && !dropped;
+		}
+
+		@Nullable
+		private synchronized Maybe<ItemCreatedRS> getResponse() {
+			return response;
+		}
+	}
+
+	/**
+	 * Log entries which refer to items with unknown outcome
+	 */
+	private static final class HeldLogs {
+		private final List<SaveLogRQ> entries;
+		private final long size;
+		// Start responses of reported items of the entries, taken before the items finish, guarded by the held logs map
+		private final Map<String, Maybe<ItemCreatedRS>> starts = new HashMap<>();
+		// Number of items the entries wait for, guarded by the held logs map
+		private int pending;
+
+		private HeldLogs(@Nonnull List<SaveLogRQ> entries, long size) {
+			this.entries = entries;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * Encodes a start request. Held requests are decoded one at a time and in any order, so each one is written by its own encoder
+	 * without references to earlier records.
+	 */
+	@Nonnull
+	private static byte[] encode(@Nonnull StartTestItemRQ rq) throws IOException {
+		return new JournalEncoder().encode(JournalRecord.startItem(null, rq));
+	}
+
+	@Nonnull
+	private static StartTestItemRQ decode(@Nonnull byte[] body) throws IOException {
+		return new JournalDecoder().decode(body).getRequest(StartTestItemRQ.class);
+	}
+
+	private boolean reserve(long size) {
+		long current;
+		do {
+			current = bufferSize.get();
+			if (current + size > bufferLimit) {
+				return false;
+			}
+		} while (!bufferSize.compareAndSet(current, current + size));
+		return true;
+	}
+
+	private void release(long size) {
+		if (size > 0) {
+			bufferSize.addAndGet(-size);
+		}
+	}
+
+	/**
+	 * @return current size of buffered start requests and log entries in bytes
+	 */
+	public long getBufferSize() {
+		return bufferSize.get();
+	}
+
+	/**
+	 * @return number of passed tests which were not reported
+	 */
+	public long getCollapsedTests() {
+		return collapsedTests.sum();
+	}
+
+	/**
+	 * @return number of passed items which were not reported
+	 */
+	public long getCollapsedItems() {
+		return collapsedItems.sum();
+	}
+
+	@Nonnull
+	private static <T> Maybe<T> after(@Nonnull Collection<Maybe<ItemCreatedRS>> starts, @Nonnull Supplier<Maybe<T>> request) {
+		if (starts.isEmpty()) {
+			return request.get();
+		}
+		return Completable.merge(starts.stream().map(Maybe::ignoreElement).collect(Collectors.toList())).andThen(Maybe.defer(request::get));
+	}
+
+	private boolean isPending(@Nullable String itemId) {
+		Item item = itemId == null ? null : items.get(itemId);
+		return item != null && item.isPending();
+	}
+
+	@Override
+	public Maybe<ApiInfo> getApiInfo() {
+		return delegate.getApiInfo();
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return delegate.startLaunch(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return delegate.mergeLaunches(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launchId, UpdateLaunchRQ rq) {
+		return delegate.updateLaunch(launchId, rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launchId, FinishExecutionRQ rq) {
+		// Items which were never finished have no outcome, their logs are dropped along with them
+		Set<HeldLogs> held = Collections.newSetFromMap(new IdentityHashMap<>());
+		synchronized (heldLogs) {
+			heldLogs.values().forEach(held::addAll);
+			heldLogs.clear();
+		}
+		held.forEach(this::sendHeld);
+		Set<ItemAttributesRQ> attributes = new HashSet<>(ofNullable(rq.getAttributes()).orElse(Collections.emptySet()));
+		attributes.add(new ItemAttributesRQ(COLLAPSED_TESTS_ATTRIBUTE, String.valueOf(getCollapsedTests())));
+		attributes.add(new ItemAttributesRQ(COLLAPSED_ITEMS_ATTRIBUTE, String.valueOf(getCollapsedItems())));
+		rq.setAttributes(attributes);
+		List<Completable> logs = new ArrayList<>(inFlight);
+		Maybe<OperationCompletionRS> finish = Maybe.defer(() -> delegate.finishLaunch(launchId, rq));
+		return logs.isEmpty() ? finish : Completable.merge(logs).andThen(finish);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return startTestItem(null, rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(@Nullable String parentId, StartTestItemRQ rq) {
+		String uuid = ofNullable(rq.getUuid()).orElseGet(() -> UUID.randomUUID().toString());
+		rq.setUuid(uuid);
+		byte[] body;
+		try {
+			body = encode(rq);
+		} catch (IOException e) {
+			return Maybe.error(e);
+		}
+		boolean test = ItemType.STEP.name().equals(rq.getType()) && rq.isHasStats();
+		boolean buffered = reserve(body.length + ITEM_OVERHEAD);
+		Item item = new Item(uuid, parentId, test, body, buffered);
+		items.put(uuid, item);
+		if (!buffered) {
+			// The buffer is full, the item is reported as usual
+			item.report();
+		}
+		return Maybe.just(new ItemCreatedRS(uuid, uuid));
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		Item item = items.get(itemId);
+		if (item == null) {
+			return delegate.finishTestItem(itemId, rq);
+		}
+		boolean passed = rq.getStatus() == null || ItemStatus.PASSED.name().equals(rq.getStatus());
+		Maybe<ItemCreatedRS> start = item.finish(passed);
+		items.remove(itemId);
+		releaseLogs(itemId, start);
+		if (start == null) {
+			collapsedItems.increment();
+			if (item.test) {
+				collapsedTests.increment();
+			}
+			return Maybe.just(new OperationCompletionRS("Passed item " + itemId + " is not reported"));
+		}
+		return start.ignoreElement()
+				.andThen(Maybe.defer(() -> delegate.finishTestItem(itemId, rq)))
+				.doFinally(() -> reported.remove(itemId));
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		String itemId = rq.getItemUuid();
+		if (itemId == null) {
+			return delegate.log(rq);
+		}
+		if (isPending(itemId)) {
+			return log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(rq))).map(rs -> new EntryCreatedAsyncRS());
+		}
+		Maybe<ItemCreatedRS> start = reported.get(itemId);
+		return start == null ? Maybe.just(new EntryCreatedAsyncRS()) : after(Collections.singletonList(start), () -> delegate.log(rq));
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+		if (items.isEmpty() && collapsedItems.sum() == 0) {
+			return delegate.log(parts);
+		}
+		List<SaveLogRQ> entries;
+		long size = 0;
+		try {
+			entries = readLogs(parts);
+			for (MultipartBody.Part part : parts) {
+				size += part.body().contentLength();
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Unable to read a log request, it is sent as is", e);
+			return delegate.log(parts);
+		}
+		List<Item> pending = entries.stream().map(SaveLogRQ::getItemUuid).filter(Objects::nonNull).distinct().map(items::get)
+				.filter(i -> i != null && i.isPending()).collect(Collectors.toList());
+		if (!pending.isEmpty()) {
+			if (reserve(size)) {
+				HeldLogs held = new HeldLogs(entries, size);
+				boolean decided;
+				synchronized (heldLogs) {
+					// A finish changes the item state before it takes the map, so the item is either seen finished or finds the entries
+					for (Item item : pending) {
+						if (item.isPending()) {
+							heldLogs.computeIfAbsent(item.uuid, k -> new ArrayList<>()).add(held);
+							held.pending++;
+						} else {
+							ofNullable(item.getResponse()).ifPresent(start -> held.starts.put(item.uuid, start));
+						}
+					}
+					entries.stream().map(SaveLogRQ::getItemUuid).filter(Objects::nonNull).distinct()
+							.forEach(id -> ofNullable(reported.get(id)).ifPresent(start -> held.starts.putIfAbsent(id, start)));
+					decided = held.pending == 0;
+				}
+				if (decided) {
+					sendHeld(held);
+				}
+				return Maybe.just(new BatchSaveOperatingRS());
+			}
+			// The buffer is full, the items are reported to keep their logs
+			pending.forEach(item -> releaseLogs(item.uuid, item.report()));
+		}
+		return send(entries, reported::get);
+	}
+
+	/**
+	 * Reads log entries and their attachments from a multipart log request built by
+	 * {@link HttpRequestUtils#buildLogMultiPartRequest(List)}, where file parts follow the JSON part in the order of entries.
+	 */
+	@Nonnull
+	private static List<SaveLogRQ> readLogs(@Nonnull List<MultipartBody.Part> parts) throws IOException {
+		List<SaveLogRQ> entries = null;
+		Deque<RequestBody> files = new ArrayDeque<>();
+		for (MultipartBody.Part part : parts) {
+			RequestBody body = part.body();
+			MediaType type = body.contentType();
+			if (entries == null && type != null && "json".equals(type.subtype())) {
+				Buffer buffer = new Buffer();
+				body.writeTo(buffer);
+				entries = HttpRequestUtils.MAPPER.readValue(buffer.inputStream(), LOG_LIST_TYPE);
+			} else {
+				files.add(body);
+			}
+		}
+		if (entries == null) {
+			throw new IOException("No JSON part in the log request");
+		}
+		for (SaveLogRQ entry : entries) {
+			SaveLogRQ.File file = entry.getFile();
+			RequestBody body = file == null ? null : files.poll();
+			if (body != null) {
+				Buffer buffer = new Buffer();
+				body.writeTo(buffer);
+				file.setContent(buffer.readByteArray());
+				file.setContentType(ofNullable(body.contentType()).map(MediaType::toString).orElse(null));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Sends log entries of the launch and of reported items after the item starts, entries of dropped items are skipped
+	 *
+	 * @param entries log entries
+	 * @param startOf returns a start response of a reported item by its UUID, or null if the item is not reported
+	 */
+	@Nonnull
+	private Maybe<BatchSaveOperatingRS> send(@Nonnull List<SaveLogRQ> entries, @Nonnull Function<String, Maybe<ItemCreatedRS>> startOf) {
+		List<SaveLogRQ> kept = new ArrayList<>();
+		Set<Maybe<ItemCreatedRS>> starts = new HashSet<>();
+		for (SaveLogRQ entry : entries) {
+			String itemId = entry.getItemUuid();
+			Maybe<ItemCreatedRS> start = itemId == null ? null : startOf.apply(itemId);
+			if (itemId == null || start != null) {
+				kept.add(entry);
+				ofNullable(start).ifPresent(starts::add);
+			}
+		}
+		if (kept.isEmpty()) {
+			return Maybe.just(new BatchSaveOperatingRS());
+		}
+		return after(starts, () -> delegate.log(HttpRequestUtils.buildLogMultiPartRequest(kept)));
+	}
+
+	private void sendHeld(@Nonnull HeldLogs logs) {
+		release(logs.size);
+		Completable completion = send(logs.entries, logs.starts::get).ignoreElement()
+				.doOnError(e -> LOGGER.error("Unable to send held log entries", e))
+				.onErrorComplete()
+				.cache();
+		inFlight.add(completion);
+		completion.subscribe(() -> inFlight.remove(completion));
+	}
+
+	/**
+	 * Sends held log entries of an item which outcome became known, unless they also wait for other items
+	 *
+	 * @param itemId UUID of the item
+	 * @param start  the item start response, or null if the item is dropped
+	 */
+	private void releaseLogs(@Nonnull String itemId, @Nullable Maybe<ItemCreatedRS> start) {
+		List<HeldLogs> ready = new ArrayList<>();
+		synchronized (heldLogs) {
+			List<HeldLogs> held = heldLogs.remove(itemId);
+			if (held == null) {
+				return;
+			}
+			for (HeldLogs logs : held) {
+				if (start != null) {
+					logs.starts.put(itemId, start);
+				}
+				if (--logs.pending == 0) {
+					ready.add(logs);
+				}
+			}
+		}
+		ready.forEach(this::sendHeld);
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+		return delegate.getLaunchByUuid(launchUuid);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+		Item item = items.get(itemUuid);
+		Maybe<ItemCreatedRS> start = item == null ? reported.get(itemUuid) : item.report();
+		return after(ofNullable(start).map(Collections::singletonList).orElse(Collections.emptyList()), () -> delegate.getItemByUuid(itemUuid));
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return delegate.getProjectSettings();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (delegate instanceof Closeable) {
+			((Closeable) delegate).close();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.utils.LatencyHistogram;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Agent overhead of a test run: time spent in extension callbacks against time of the intercepted test code, with a histogram of
+ * callback durations per callback. The report is published at the launch finish as launch attributes and a JSON attachment of a launch
+ * log, and is written to a local file. Statistics are collected per JVM, so with several launches each of them gets the total so far.
+ */
+final class OverheadReport {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OverheadReport.class);
+
+	static final String OVERHEAD_ATTRIBUTE = "agent.overhead";
+	static final String TIME_ATTRIBUTE = "agent.time";
+	static final String CONTENT_TYPE = "application/json";
+
+	private static final double[] PERCENTILES = { 50, 90, 99 };
+
+	private final AgentStatistics statistics;
+	private final Path file;
+
+	/**
+	 * @param statistics agent statistics to report
+	 * @param file       a local file to write the report to
+	 */
+	OverheadReport(@Nonnull AgentStatistics statistics, @Nonnull Path file) {
+		this.statistics = statistics;
+		this.file = file;
+	}
+
+	/**
+	 * Builds the report from the current statistics, all durations are in nanoseconds
+	 *
+	 * @return JSON report
+	 */
+	@Nonnull
+	ObjectNode toJson() {
+		ObjectNode callbacks = HttpRequestUtils.MAPPER.createObjectNode();
+		long agentNanos = 0;
+		long testNanos = 0;
+		for (AgentStatistics.Callback callback : AgentStatistics.Callback.values()) {
+			LatencyHistogram times = statistics.getCallbackTime(callback);
+			long calls = times.getCount();
+			if (calls == 0) {
+				continue;
+			}
+			long invocationNanos = statistics.getInvocationNanos(callback);
+			agentNanos += times.getTotal();
+			testNanos += invocationNanos;
+			ObjectNode node = callbacks.putObject(callback.getMethodName());
+			node.put("calls", calls);
+			node.put("agentTimeNs", times.getTotal());
+			node.put("testTimeNs", invocationNanos);
+			for (double percentile : PERCENTILES) {
+				node.put("p" + (int) percentile + "Ns", times.getValueAtPercentile(percentile));
+			}
+			node.put("maxNs", times.getMax());
+			ObjectNode histogram = node.putObject("histogramNs");
+			times.getBuckets().forEach((highestValue, count) -> histogram.put(String.valueOf(highestValue), count));
+		}
+		ObjectNode result = HttpRequestUtils.MAPPER.createObjectNode();
+		result.put("wallTimeNs", statistics.getUptimeNanos());
+		result.put("agentTimeNs", agentNanos);
+		result.put("testTimeNs", testNanos);
+		result.put("overheadPercent", getOverheadPercent(agentNanos, testNanos));
+		result.set("callbacks", callbacks);
+		return result;
+	}
+
+	/**
+	 * @return share of the agent time in the sum of agent and test time, rounded to hundredths of a percent
+	 */
+	static double getOverheadPercent(long agentNanos, long testNanos) {
+		long total = agentNanos + testNanos;
+		return total == 0 ? 0 : Math.round(agentNanos * 10_000d / total) / 100d;
+	}
+
+	/**
+	 * Adds summary attributes to the launch finish request, logs the report as a launch log attachment and writes it to the local file
+	 *
+	 * @param launch a launch to finish
+	 * @param rq     the launch finish request
+	 */
+	void publish(@Nonnull Launch launch, @Nonnull FinishExecutionRQ rq) {
+		ObjectNode report = toJson();
+		double overhead = report.get("overheadPercent").asDouble();
+		String agentTime = String.format(Locale.ROOT, "%.3f ms", report.get("agentTimeNs").asLong() / 1_000_000d);
+		Set<ItemAttributesRQ> attributes = new HashSet<>(ofNullable(rq.getAttributes()).orElseGet(HashSet::new));
+		attributes.add(new ItemAttributesRQ(OVERHEAD_ATTRIBUTE, String.format(Locale.ROOT, "%.2f%%", overhead)));
+		attributes.add(new ItemAttributesRQ(TIME_ATTRIBUTE, agentTime));
+		rq.setAttributes(attributes);
+
+		byte[] content;
+		try {
+			content = HttpRequestUtils.MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(report);
+		} catch (JsonProcessingException e) {
+			LOGGER.warn("Unable to serialize the agent overhead report", e);
+			return;
+		}
+		boolean useMicroseconds = launch.useMicroseconds();
+		launch.log(launchUuid -> {
+			SaveLogRQ logRq = new SaveLogRQ();
+			logRq.setLaunchUuid(launchUuid);
+			logRq.setLevel("INFO");
+			logRq.setLogTime(useMicroseconds ? Instant.now() : Calendar.getInstance().getTime());
+			logRq.setMessage(String.format(Locale.ROOT, "Agent overhead: %.2f%% of callback and test time, agent time: %s", overhead, agentTime));
+			SaveLogRQ.File logFile = new SaveLogRQ.File();
+			logFile.setName(file.getFileName().toString());
+			logFile.setContentType(CONTENT_TYPE);
+			logFile.setContent(content);
+			logRq.setFile(logFile);
+			return logRq;
+		});
+		try {
+			Path directory = file.toAbsolutePath().getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+			Files.write(file, content);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to write the agent overhead report to {}", file, e);
+		}
+	}
+}
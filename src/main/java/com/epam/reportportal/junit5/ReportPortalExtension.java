@@ -18,39 +18,69 @@ package com.epam.reportportal.junit5;
 
 import com.epam.reportportal.annotations.*;
 import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.junit5.journal.JournalReportPortalClient;
+import com.epam.reportportal.junit5.journal.JournalWriter;
+import com.epam.reportportal.junit5.jfr.AgentEvents;
+import com.epam.reportportal.junit5.jfr.EventHandle;
+import com.epam.reportportal.junit5.utils.DurationStatistics;
+import com.epam.reportportal.junit5.utils.ExceptionStatusClassifier;
+import com.epam.reportportal.junit5.utils.FailureDeduplicator;
+import com.epam.reportportal.junit5.utils.ItemMetadata;
+import com.epam.reportportal.junit5.utils.StackTraceFormatter;
+import com.epam.reportportal.junit5.utils.TestItemIndex;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.LoggingContext;
 import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.ReportPortalClientV2;
 import com.epam.reportportal.service.item.TestCaseIdEntry;
+import com.epam.reportportal.service.step.StepReporter;
 import com.epam.reportportal.service.tree.TestItemTree;
 import com.epam.reportportal.utils.AttributeParser;
 import com.epam.reportportal.utils.IssueUtils;
 import com.epam.reportportal.utils.ParameterUtils;
 import com.epam.reportportal.utils.TestCaseIdUtils;
+import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
 import com.epam.reportportal.utils.formatting.MarkdownUtils;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.*;
-import org.opentest4j.TestAbortedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.epam.reportportal.junit5.ItemType.*;
@@ -58,8 +88,6 @@ import static com.epam.reportportal.junit5.SystemAttributesFetcher.collectSystem
 import static com.epam.reportportal.junit5.utils.ItemTreeUtils.createItemTreeKey;
 import static com.epam.reportportal.listeners.ItemStatus.*;
 import static com.epam.reportportal.service.tree.TestItemTree.createTestItemLeaf;
-import static com.epam.reportportal.utils.formatting.ExceptionUtils.getStackTrace;
-import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 
 /*
@@ -67,38 +95,160 @@ import static java.util.Optional.ofNullable;
  */
 public class ReportPortalExtension
 		implements Extension, BeforeAllCallback, BeforeEachCallback, InvocationInterceptor, AfterTestExecutionCallback, AfterAllCallback,
-				   TestWatcher {
+				   TestWatcher, DefaultReportPortalHolder {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReportPortalExtension.class);
 
-	private static final Set<String> ASSUMPTION_CLASSES = new HashSet<>(Arrays.asList(
-			TestAbortedException.class.getCanonicalName(),
-			"org.junit.AssumptionViolatedException"
-	));
-
-	private static final Predicate<Throwable> IS_ASSUMPTION = e -> ofNullable(e).map(Object::getClass).flatMap(c -> {
-		Class<?> clazz = c;
-		do {
-			if (ASSUMPTION_CLASSES.contains(clazz.getCanonicalName())) {
-				return of(clazz);
+	private static final ClassValue<Optional<DisplayNameGenerator>> DISPLAY_NAME_GENERATORS = new ClassValue<>() {
+		@Override
+		protected Optional<DisplayNameGenerator> computeValue(Class<?> type) {
+			try {
+				return Optional.of((DisplayNameGenerator) type.getConstructor().newInstance());
+			} catch (Exception e) {
+				LOGGER.error("Unable instantiate a display name generator. Name generation skipped.", e);
+				return Optional.empty();
 			}
-		} while ((clazz = clazz.getSuperclass()) != null);
-		return Optional.empty();
-	}).isPresent();
+		}
+	};
+
+	private static final ClassValue<Map<Method, String>> CONFIGURATION_NAMES = new ClassValue<>() {
+		@Override
+		protected Map<Method, String> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final ExtensionContext.Namespace CODE_REF_NAMESPACE = ExtensionContext.Namespace.create(
+			ReportPortalExtension.class,
+			"codeRef"
+	);
+
+	private static final ExtensionContext.Namespace LAUNCH_NAMESPACE = ExtensionContext.Namespace.create(
+			ReportPortalExtension.class,
+			"launch"
+	);
 
 	public static final TestItemTree TEST_ITEM_TREE = new TestItemTree();
-	public static final ReportPortal REPORT_PORTAL = ReportPortal.builder().build();
+
+	/**
+	 * Leaves of {@link #TEST_ITEM_TREE} by JUnit's unique IDs and display names of tests
+	 */
+	public static final TestItemIndex TEST_ITEM_INDEX = new TestItemIndex();
 
 	private static final Map<String, Launch> launchMap = new ConcurrentHashMap<>();
-	private final Map<ExtensionContext, Maybe<String>> idMapping = new ConcurrentHashMap<>();
-	private final Map<ExtensionContext, Maybe<String>> testTemplates = new ConcurrentHashMap<>();
-	private final Map<ExtensionContext, List<ParameterResource>> testParameters = new ConcurrentHashMap<>();
-	private final Set<ExtensionContext> failedClassInits = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	// Reporting state of test contexts is kept in their stores, an instance per extension, see ContextState
+	private final ExtensionContext.Namespace itemNamespace = ExtensionContext.Namespace.create(ReportPortalExtension.class, "item", this);
+	private volatile StackTraceFormatter stackTraceFormatter;
+	private volatile LaunchState launchState;
+	private static volatile AsyncReporter asyncReporter;
+	// A context which requests are being built for on the reporter thread, see ContextSnapshot
+	private static volatile ContextSnapshot reportedContext;
+	// Classifications are cached by exception class, so the classifier is shared by all extension instances
+	private static volatile ExceptionStatusClassifier exceptionClassifier;
+	private static volatile AgentStatistics agentStatistics;
+	private static volatile OverheadReport overheadReport;
+	private static volatile ReportPortal reportPortal;
 	public static final String DESCRIPTION_TEST_ERROR_FORMAT = "Error: \n%s";
+	public static final String AGGREGATED_INVOCATIONS_NAME_FORMAT = "Passed invocations (%d)";
+	private static final int DEFAULT_REPORTING_TIMEOUT = 300;
 
 	@Nonnull
 	protected Optional<Maybe<String>> getItemId(@Nonnull ExtensionContext context) {
-		return ofNullable(idMapping.get(context));
+		return ofNullable(getStartedItemId(context));
+	}
+
+	@Nullable
+	private static Maybe<String> joinItemId(@Nullable CompletableFuture<Maybe<String>> placeholder) {
+		if (placeholder == null) {
+			return null;
+		}
+		try {
+			return placeholder.join();
+		} catch (CompletionException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns a reporting state of the context, creates it if the context has none
+	 */
+	@Nonnull
+	private ContextState getContextState(@Nonnull ExtensionContext context) {
+		ContextSnapshot snapshot = getSnapshot(context);
+		if (snapshot != null) {
+			return snapshot.state;
+		}
+		return context.getStore(itemNamespace).getOrComputeIfAbsent(
+				context.getUniqueId(),
+				id -> new ContextState(getAgentStatistics()),
+				ContextState.class
+		);
+	}
+
+	/**
+	 * Returns a reporting state of the context or null if nothing was reported for the context
+	 */
+	@Nullable
+	private ContextState findContextState(@Nonnull ExtensionContext context) {
+		ContextSnapshot snapshot = getSnapshot(context);
+		if (snapshot != null) {
+			return snapshot.state;
+		}
+		return context.getStore(itemNamespace).get(context.getUniqueId(), ContextState.class);
+	}
+
+	/**
+	 * Returns a snapshot of the context if requests of the context are being built on the current thread, see {@link ContextSnapshot}
+	 */
+	@Nullable
+	private static ContextSnapshot getSnapshot(@Nonnull ExtensionContext context) {
+		ContextSnapshot snapshot = reportedContext;
+		return snapshot != null && snapshot.context == context && snapshot.thread == Thread.currentThread() ? snapshot : null;
+	}
+
+	/**
+	 * Takes everything requests of the context are built from, except immutable data of the context itself, so the reporter thread can
+	 * build them after the context is closed
+	 */
+	@Nonnull
+	private ContextSnapshot takeSnapshot(@Nonnull ExtensionContext context) {
+		return new ContextSnapshot(
+				context,
+				getContextState(context),
+				getCachedCodeRef(context),
+				getFailureDeduplicator(context),
+				context.getExecutionException().orElse(null)
+		);
+	}
+
+	/**
+	 * Returns an execution exception of the context, in asynchronous mode the one which was thrown by the time the item finished
+	 */
+	@Nonnull
+	private static Optional<Throwable> getExecutionException(@Nonnull ExtensionContext context) {
+		ContextSnapshot snapshot = getSnapshot(context);
+		return snapshot != null ? ofNullable(snapshot.exception) : context.getExecutionException();
+	}
+
+	/**
+	 * Tells if an item of the context is started or is being started
+	 */
+	private boolean isStarted(@Nonnull ExtensionContext context) {
+		ContextState state = findContextState(context);
+		return state != null && state.item.get() != null;
+	}
+
+	/**
+	 * Returns an ID of a started item, waits if the item is being started by another thread
+	 */
+	@Nullable
+	private Maybe<String> getStartedItemId(@Nonnull ExtensionContext context) {
+		return ofNullable(findContextState(context)).map(s -> joinItemId(s.item.get())).orElse(null);
+	}
+
+	@Nullable
+	private Maybe<String> removeItemId(@Nonnull ExtensionContext context) {
+		return ofNullable(findContextState(context)).map(s -> joinItemId(s.item.getAndSet(null))).orElse(null);
 	}
 
 	/**
@@ -114,9 +264,33 @@ public class ReportPortalExtension
 	}
 
 	private static void finish(Launch launch) {
+		EventHandle event = AgentEvents.launchFinish();
+		try {
+			finishLaunch(launch);
+		} finally {
+			event.commit();
+		}
+	}
+
+	private static void finishLaunch(Launch launch) {
+		ofNullable(asyncReporter).ifPresent(reporter -> {
+			long timeout = ofNullable(launch.getParameters()).map(ListenerParameters::getReportingTimeout)
+					.orElse(DEFAULT_REPORTING_TIMEOUT);
+			if (!reporter.flush(timeout, TimeUnit.SECONDS)) {
+				LOGGER.error("Unable to report all test events to ReportPortal. Timeout exceeded. The data may be lost.");
+			}
+		});
 		FinishExecutionRQ rq = new FinishExecutionRQ();
 		rq.setEndTime(Instant.now());
+		ofNullable(overheadReport).ifPresent(report -> report.publish(launch, rq));
 		launch.finish(rq);
+		ofNullable(launch.getClient()).filter(Closeable.class::isInstance).map(Closeable.class::cast).ifPresent(client -> {
+			try {
+				client.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close ReportPortal client", e);
+			}
+		});
 	}
 
 	private static Thread getShutdownHook(final String launchId) {
@@ -143,11 +317,324 @@ public class ReportPortalExtension
 		return rq;
 	}
 
+	/**
+	 * Returns the default ReportPortal instance. It is built on the first call, which is usually the first launch start, so JVMs where the
+	 * extension is registered, but no test is run, do not load properties and do not create an HTTP client.
+	 *
+	 * @return default ReportPortal client instance
+	 */
+	@Nonnull
+	public static ReportPortal getReportPortal() {
+		ReportPortal rp = reportPortal;
+		if (rp == null) {
+			synchronized (ReportPortalExtension.class) {
+				rp = reportPortal;
+				if (rp == null) {
+					rp = ofNullable(ExtensionParametersHolder.PARAMETERS.getSpoolFile()).map(ReportPortalExtension::createSpoolingReportPortal)
+							.orElseGet(ReportPortalExtension::createDefaultReportPortal);
+					reportPortal = rp;
+				}
+			}
+		}
+		return rp;
+	}
+
+	/**
+	 * Creates a ReportPortal instance which writes all requests to a journal file, see {@link ExtensionParameters#SPOOL_FILE}
+	 *
+	 * @param spoolFile path to a journal file, or to a directory where a new uniquely named journal file is created
+	 * @return ReportPortal instance or null if the journal cannot be created
+	 */
+	@Nullable
+	private static ReportPortal createSpoolingReportPortal(@Nonnull String spoolFile) {
+		Path path = Paths.get(spoolFile);
+		if (Files.isDirectory(path)) {
+			path = path.resolve("rp-journal-" + UUID.randomUUID() + JournalWriter.FILE_EXTENSION);
+		}
+		try {
+			JournalReportPortalClient client = new JournalReportPortalClient(path);
+			LOGGER.info("ReportPortal requests are written to journal file: {}", path.toAbsolutePath());
+			ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+			// Launches of different JVMs can't be joined without the server, every JVM writes its own launch
+			parameters.setClientJoin(false);
+			return ReportPortal.create(decorateClient(client), parameters);
+		} catch (IOException e) {
+			LOGGER.error("Unable to create journal file {}, requests will be sent to ReportPortal", path, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a ReportPortal instance which sends requests to the server
+	 *
+	 * @return ReportPortal instance
+	 */
+	@Nonnull
+	private static ReportPortal createDefaultReportPortal() {
+		ExtensionParameters extensionParameters = ExtensionParametersHolder.PARAMETERS;
+		if (!extensionParameters.isFailuresOnly() && !extensionParameters.isDeferredLeaves()) {
+			return ReportPortal.builder().build();
+		}
+		ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+		ReportPortal.Builder builder = ReportPortal.builder().withParameters(parameters);
+		if (!Boolean.TRUE.equals(parameters.getEnable())) {
+			return builder.build();
+		}
+		ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-io-", parameters);
+		Class<? extends ReportPortalClient> clientType = parameters.isAsyncReporting() ? ReportPortalClientV2.class : ReportPortalClient.class;
+		ReportPortalClient client = builder.buildClient(clientType, parameters, executor);
+		return client == null ? builder.withExecutorService(executor).build() : ReportPortal.create(decorateClient(client), parameters, executor);
+	}
+
+	/**
+	 * Wraps a client to report failures only or to hold back step start requests if it is turned on, see
+	 * {@link ExtensionParameters#FAILURES_ONLY} and {@link ExtensionParameters#DEFERRED_LEAVES}. Failures-only mode takes precedence, since
+	 * it holds back all start requests anyway.
+	 */
+	@Nonnull
+	private static ReportPortalClient decorateClient(@Nonnull ReportPortalClient client) {
+		ExtensionParameters parameters = ExtensionParametersHolder.PARAMETERS;
+		if (parameters.isFailuresOnly()) {
+			return new FailuresOnlyReportPortalClient(client, parameters.getFailuresOnlyBufferSize());
+		}
+		if (!parameters.isDeferredLeaves()) {
+			return client;
+		}
+		return new DeferredLeafReportPortalClient(client, parameters.getDeferredLeavesThreshold(), TimeUnit.MILLISECONDS);
+	}
+
 	/**
 	 * @return ReportPortal client instance
 	 */
 	protected ReportPortal getReporter() {
-		return REPORT_PORTAL;
+		return getReportPortal();
+	}
+
+	/**
+	 * @return JUnit 5 agent specific parameters
+	 */
+	@Nonnull
+	protected ExtensionParameters getExtensionParameters() {
+		return ExtensionParametersHolder.PARAMETERS;
+	}
+
+	/**
+	 * Returns a classifier which tells assumption failures from test failures. The classifier is created once per JVM from the
+	 * assumption exceptions of the first extension which asks for it, override the method to classify with other exceptions.
+	 *
+	 * @return a classifier which tells assumption failures from test failures
+	 */
+	@Nonnull
+	protected ExceptionStatusClassifier getExceptionClassifier() {
+		ExceptionStatusClassifier classifier = exceptionClassifier;
+		if (classifier == null) {
+			synchronized (ReportPortalExtension.class) {
+				classifier = exceptionClassifier;
+				if (classifier == null) {
+					classifier = new ExceptionStatusClassifier(getExtensionParameters().getAssumptionExceptions());
+					exceptionClassifier = classifier;
+				}
+			}
+		}
+		return classifier;
+	}
+
+	/**
+	 * @return a formatter which fits stack traces of failed items into the budget set by {@link ExtensionParameters}
+	 */
+	@Nonnull
+	protected StackTraceFormatter getStackTraceFormatter() {
+		StackTraceFormatter formatter = stackTraceFormatter;
+		if (formatter == null) {
+			ExtensionParameters parameters = getExtensionParameters();
+			formatter = new StackTraceFormatter(
+					parameters.getStackTraceMaxFrames(),
+					parameters.getStackTraceMaxBytes(),
+					parameters.getStackTraceMaxCauses(),
+					parameters.getStackTraceCollapsedPackages()
+			);
+			stackTraceFormatter = formatter;
+		}
+		return formatter;
+	}
+
+	/**
+	 * Returns a cache of reported failures if failure deduplication is on, see {@link ExtensionParameters#FAILURE_DEDUPLICATION}. The cache
+	 * is kept in the store of the execution root, so it is shared by all test classes of the launch.
+	 *
+	 * @param context JUnit's test context
+	 * @return the cache or null if deduplication is off
+	 */
+	@Nullable
+	protected FailureDeduplicator getFailureDeduplicator(@Nonnull ExtensionContext context) {
+		ExtensionParameters parameters = getExtensionParameters();
+		if (!parameters.isFailureDeduplication()) {
+			return null;
+		}
+		ContextSnapshot snapshot = getSnapshot(context);
+		if (snapshot != null) {
+			return snapshot.deduplicator;
+		}
+		return context.getRoot()
+				.getStore(LAUNCH_NAMESPACE)
+				.getOrComputeIfAbsent(
+						FailureDeduplicator.class,
+						k -> new FailureDeduplicator(parameters.getFailureDeduplicationCacheSize(), parameters.getStackTraceCollapsedPackages()),
+						FailureDeduplicator.class
+				);
+	}
+
+	/**
+	 * Returns a cleaner of {@link #TEST_ITEM_TREE} if a retention policy is set, see {@link ExtensionParameters#CALLBACK_TREE_RETENTION}.
+	 * The cleaner is kept in the store of the execution root.
+	 *
+	 * @param context JUnit's test context
+	 * @return the cleaner or null if leaves are kept until the JVM exits
+	 */
+	@Nullable
+	private CallbackTreeCleaner getCallbackTreeCleaner(@Nonnull ExtensionContext context) {
+		ExtensionParameters parameters = getExtensionParameters();
+		CallbackTreeRetention retention = parameters.getCallbackTreeRetention();
+		if (retention == CallbackTreeRetention.NONE) {
+			return null;
+		}
+		return context.getRoot()
+				.getStore(LAUNCH_NAMESPACE)
+				.getOrComputeIfAbsent(
+						CallbackTreeCleaner.class,
+						k -> new CallbackTreeCleaner(TEST_ITEM_TREE, TEST_ITEM_INDEX, retention, parameters.getCallbackTreeSize(), parameters.getCallbackTreeTtl()),
+						CallbackTreeCleaner.class
+				);
+	}
+
+	/**
+	 * Sends a stack trace of the exception as an error log of the current item. The stack trace is formatted with
+	 * {@link #getStackTraceFormatter()} unless exception truncation is turned off with <code>rp.exception.truncate</code> property. If
+	 * failure deduplication is on and the same stack trace was already logged for another item, a short reference to it is sent instead.
+	 *
+	 * @param context   JUnit's context of the failed item
+	 * @param throwable an exception thrown by a test or a configuration method
+	 */
+	protected void sendStackTrace(@Nonnull ExtensionContext context, @Nonnull Throwable throwable) {
+		Launch launch = Launch.currentLaunch();
+		boolean truncate = ofNullable(launch).map(Launch::getParameters).map(ListenerParameters::isExceptionTruncate).orElse(true);
+		boolean useMicroseconds = ofNullable(launch).map(Launch::useMicroseconds).orElse(false);
+		FailureDeduplicator.Failure failure = ofNullable(getFailureDeduplicator(context)).map(d -> d.get(throwable, context.getDisplayName()))
+				.orElse(null);
+		boolean first = failure == null || failure.log();
+		String message;
+		if (!first) {
+			message = failure.reference(throwable);
+		} else {
+			message = truncate ? formatStackTrace(context, throwable) : ExceptionUtils.getStackTrace(throwable);
+		}
+		ReportPortal.emitLog(itemUuid -> {
+			if (first && failure != null) {
+				failure.setItemUuid(itemUuid);
+			}
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid(itemUuid);
+			rq.setLevel("ERROR");
+			rq.setLogTime(useMicroseconds ? Instant.now() : Calendar.getInstance().getTime());
+			rq.setMessage(message);
+			return rq;
+		});
+	}
+
+	/**
+	 * Formats a stack trace of an exception for a description of the failed item. If failure deduplication is on and the same stack trace
+	 * was already described for another item, a short reference to it is returned instead.
+	 *
+	 * @param context   JUnit's context of the failed item
+	 * @param throwable an exception thrown by a test or a configuration method
+	 * @return the stack trace or a reference to the same failure
+	 */
+	@Nonnull
+	protected String describeFailure(@Nonnull ExtensionContext context, @Nonnull Throwable throwable) {
+		FailureDeduplicator deduplicator = getFailureDeduplicator(context);
+		if (deduplicator != null) {
+			FailureDeduplicator.Failure failure = deduplicator.get(throwable, context.getDisplayName());
+			if (!failure.describe()) {
+				return failure.reference(throwable);
+			}
+		}
+		return formatStackTrace(context, throwable);
+	}
+
+	@Nonnull
+	private String formatStackTrace(@Nonnull ExtensionContext context, @Nonnull Throwable throwable) {
+		EventHandle event = AgentEvents.stackTraceFormat();
+		try {
+			return getStackTraceFormatter().format(throwable);
+		} finally {
+			if (event.isEnabled()) {
+				event.commit(ofNullable(findContextState(context)).map(s -> s.type).orElse(null), () -> getCodeRef(context));
+			}
+		}
+	}
+
+	/**
+	 * Returns the reporter thread if asynchronous reporting is on, see {@link ExtensionParameters#ASYNC_REPORTING}
+	 *
+	 * @return the reporter or null for synchronous reporting
+	 */
+	@Nullable
+	private AsyncReporter getAsyncReporter() {
+		ExtensionParameters parameters = getExtensionParameters();
+		if (!parameters.isAsyncReporting()) {
+			return null;
+		}
+		AsyncReporter reporter = asyncReporter;
+		if (reporter == null) {
+			synchronized (ReportPortalExtension.class) {
+				reporter = asyncReporter;
+				if (reporter == null) {
+					reporter = new AsyncReporter(parameters.getAsyncQueueSize());
+					asyncReporter = reporter;
+				}
+			}
+		}
+		return reporter;
+	}
+
+	/**
+	 * Returns agent statistics if they are turned on with {@link ExtensionParameters#JMX} or {@link ExtensionParameters#OVERHEAD_REPORT}
+	 * property, the statistics are created once per JVM
+	 *
+	 * @return the statistics or null
+	 */
+	@Nullable
+	private AgentStatistics getAgentStatistics() {
+		ExtensionParameters parameters = getExtensionParameters();
+		if (!parameters.isJmx() && !parameters.isOverheadReport()) {
+			return null;
+		}
+		AgentStatistics statistics = agentStatistics;
+		if (statistics == null) {
+			synchronized (ReportPortalExtension.class) {
+				statistics = agentStatistics;
+				if (statistics == null) {
+					statistics = new AgentStatistics(launchMap::size, () -> TEST_ITEM_TREE.getTestItems().size(), TEST_ITEM_INDEX::size);
+					if (parameters.isJmx()) {
+						statistics.register();
+					}
+					if (parameters.isOverheadReport()) {
+						overheadReport = new OverheadReport(statistics, Paths.get(parameters.getOverheadReportFile()));
+					}
+					agentStatistics = statistics;
+				}
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * Starts a timer of a callback, the timer does nothing if agent statistics are turned off
+	 */
+	@Nonnull
+	private AgentStatistics.Timer startTimer(@Nonnull AgentStatistics.Callback callback) {
+		AgentStatistics statistics = getAgentStatistics();
+		return statistics == null ? AgentStatistics.Timer.NOOP : statistics.start(callback);
 	}
 
 	/**
@@ -167,8 +654,15 @@ public class ReportPortalExtension
 	 * @return represents current launch
 	 */
 	protected Launch getLaunch(ExtensionContext context) {
-		return launchMap.computeIfAbsent(
-				getLaunchId(context), id -> {
+		LaunchState state = getLaunchState(context);
+		String launchId = getLaunchId(context);
+		LaunchState.LaunchEntry entry = state.entry;
+		if (entry != null && entry.launchId.equals(launchId)) {
+			return entry.launch;
+		}
+		Launch started = launchMap.computeIfAbsent(
+				launchId, id -> {
+					EventHandle event = AgentEvents.launchStart();
 					ReportPortal rp = getReporter();
 					ListenerParameters params = rp.getParameters();
 					StartLaunchRQ rq = buildStartLaunchRq(params);
@@ -179,15 +673,57 @@ public class ReportPortalExtension
 					if (params.isCallbackReportingEnabled()) {
 						TEST_ITEM_TREE.setLaunchId(launchIdResponse);
 					}
+					event.commit();
 					return launch;
 				}
 		);
+		state.entry = new LaunchState.LaunchEntry(launchId, started);
+		return started;
+	}
+
+	/**
+	 * Returns the launch state of the execution root, it is created once and kept in the root context store
+	 *
+	 * @param context JUnit's test context
+	 * @return launch state of the execution root
+	 */
+	@Nonnull
+	private LaunchState getLaunchState(@Nonnull ExtensionContext context) {
+		ExtensionContext root = context.getRoot();
+		LaunchState state = launchState;
+		if (state != null && state.root == root) {
+			return state;
+		}
+		// Keyed by the extension instance, since every extension may use its own ReportPortal instance
+		state = root.getStore(LAUNCH_NAMESPACE)
+				.getOrComputeIfAbsent(this, k -> new LaunchState(root, getReporter().getParameters()), LaunchState.class);
+		launchState = state;
+		return state;
+	}
+
+	/**
+	 * Tells if reporting is turned off with <code>rp.enable=false</code>. In this case every callback of the extension just proceeds with
+	 * the invocation, no requests are built and no launch is started.
+	 *
+	 * @param context JUnit's test context
+	 * @return true if reporting is disabled
+	 */
+	protected boolean isReportingDisabled(@Nonnull ExtensionContext context) {
+		return getLaunchState(context).reportingDisabled;
 	}
 
 	@Override
 	public void beforeAll(ExtensionContext context) {
-		getLaunch(context); // Trigger launch start
-		startTestItem(context, SUITE);
+		if (isReportingDisabled(context)) {
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.BEFORE_ALL);
+		try {
+			getLaunch(context); // Trigger launch start
+			startTestItem(context, SUITE);
+		} finally {
+			timer.stop();
+		}
 	}
 
 	/**
@@ -196,86 +732,172 @@ public class ReportPortalExtension
 	 * @param parentContext JUnit's test context
 	 */
 	protected void finishTemplates(final ExtensionContext parentContext) {
-		final Collection<ExtensionContext> parents = new HashSet<>();
-		parents.add(parentContext);
-		List<ExtensionContext> templates = new ArrayList<>();
-		Collection<ExtensionContext> children;
-		while (!(children = testTemplates.keySet()
-				.stream()
-				.filter((c) -> c.getParent().map(parents::contains).orElse(false))
-				.collect(Collectors.toSet())).isEmpty()) {
-			templates.addAll(children);
-			parents.clear();
-			parents.addAll(children);
+		ContextState state = findContextState(parentContext);
+		if (state == null || state.templates.isEmpty()) {
+			return;
+		}
+		EventHandle event = AgentEvents.templatesFinish();
+		// Templates are finished after their own contexts are closed, so nested templates are found through their parents and only their
+		// template states are read
+		List<TemplateState> templates = new ArrayList<>();
+		Collection<TemplateState> level = TemplateState.drain(state.templates);
+		while (!level.isEmpty()) {
+			templates.addAll(level);
+			List<TemplateState> nextLevel = new ArrayList<>();
+			level.forEach(t -> nextLevel.addAll(TemplateState.drain(t.children)));
+			level = nextLevel;
 		}
 		Collections.reverse(templates);
-		templates.forEach(this::finishTemplate);
+		try {
+			templates.forEach(this::finishTemplate);
+		} finally {
+			event.commit(TEMPLATE, () -> getCodeRef(parentContext));
+		}
 	}
 
 	@Override
 	public void afterAll(ExtensionContext context) {
-		finishTemplates(context);
-		finishTestItem(context);
+		if (isReportingDisabled(context)) {
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.AFTER_ALL);
+		try {
+			finishTemplates(context);
+			finishTestItem(context);
+			if (getLaunchState(context).callbackReportingEnabled) {
+				// Is queued after the class finish in asynchronous mode
+				ofNullable(getCallbackTreeCleaner(context)).ifPresent(c -> report(() -> c.classFinished(context)));
+			}
+		} finally {
+			timer.stop();
+		}
 	}
 
 	@Override
 	public void beforeEach(ExtensionContext context) {
-		context.getParent().ifPresent(this::startTemplate);
+		if (isReportingDisabled(context)) {
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.BEFORE_EACH);
+		try {
+			context.getParent().ifPresent(this::startTemplate);
+		} finally {
+			timer.stop();
+		}
 	}
 
 	@Override
 	public void interceptBeforeAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext parentContext) throws Throwable {
-		Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, parentContext, BEFORE_CLASS);
-		finishBeforeAll(invocation, invocationContext, parentContext, id);
+		if (isReportingDisabled(parentContext)) {
+			invocation.proceed();
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_BEFORE_ALL_METHOD);
+		try {
+			Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, parentContext, BEFORE_CLASS);
+			finishBeforeAll(timer.exclude(invocation), invocationContext, parentContext, id);
+		} finally {
+			timer.stop();
+		}
 	}
 
 	@Override
 	public <T> T interceptTestClassConstructor(Invocation<T> invocation, ReflectiveInvocationContext<Constructor<T>> invocationContext,
 			ExtensionContext parentContext) throws Throwable {
-		try {
+		if (isReportingDisabled(parentContext)) {
 			return invocation.proceed();
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_TEST_CLASS_CONSTRUCTOR);
+		try {
+			return timer.exclude(invocation).proceed();
 		} catch (Throwable cause) {
-			failedClassInits.add(parentContext);
+			getContextState(parentContext).initFailed = true;
 			throw cause;
+		} finally {
+			timer.stop();
 		}
 	}
 
 	@Override
 	public void interceptBeforeEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext context) throws Throwable {
-		ExtensionContext parentContext = context.getParent().orElse(context.getRoot());
-		Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, context, BEFORE_METHOD);
-		finishBeforeEach(invocation, invocationContext, context, id);
+		if (isReportingDisabled(context)) {
+			invocation.proceed();
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_BEFORE_EACH_METHOD);
+		try {
+			ExtensionContext parentContext = context.getParent().orElse(context.getRoot());
+			Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, context, BEFORE_METHOD);
+			finishBeforeEach(timer.exclude(invocation), invocationContext, context, id);
+		} finally {
+			timer.stop();
+		}
 	}
 
 	@Override
 	public void interceptAfterAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext parentContext) throws Throwable {
-		Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, parentContext, AFTER_CLASS);
-		finishBeforeAfter(invocation, parentContext, id);
+		if (isReportingDisabled(parentContext)) {
+			invocation.proceed();
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_AFTER_ALL_METHOD);
+		try {
+			Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, parentContext, AFTER_CLASS);
+			finishBeforeAfter(timer.exclude(invocation), parentContext, id);
+		} finally {
+			timer.stop();
+		}
 	}
 
 	@Override
 	public void interceptAfterEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext context) throws Throwable {
-		ExtensionContext parentContext = context.getParent().orElse(context.getRoot());
-		Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, context, AFTER_METHOD);
-		finishBeforeAfter(invocation, context, id);
+		if (isReportingDisabled(context)) {
+			invocation.proceed();
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_AFTER_EACH_METHOD);
+		try {
+			ExtensionContext parentContext = context.getParent().orElse(context.getRoot());
+			Maybe<String> id = startBeforeAfter(invocationContext.getExecutable(), parentContext, context, AFTER_METHOD);
+			finishBeforeAfter(timer.exclude(invocation), context, id);
+		} finally {
+			timer.stop();
+		}
 	}
 
 	@Override
 	public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext extensionContext) throws Throwable {
-		startTestItem(extensionContext, invocationContext.getArguments(), STEP);
-		invocation.proceed();
+		if (isReportingDisabled(extensionContext)) {
+			invocation.proceed();
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_TEST_METHOD);
+		try {
+			startTestItem(extensionContext, invocationContext.getArguments(), STEP);
+			timer.exclude(invocation).proceed();
+		} finally {
+			timer.stop();
+		}
 	}
 
 	@Override
 	public <T> T interceptTestFactoryMethod(Invocation<T> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext extensionContext) throws Throwable {
-		startTestItem(extensionContext, invocationContext.getArguments(), SUITE);
-		return invocation.proceed();
+		if (isReportingDisabled(extensionContext)) {
+			return invocation.proceed();
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_TEST_FACTORY_METHOD);
+		try {
+			startTestItem(extensionContext, invocationContext.getArguments(), SUITE);
+			return timer.exclude(invocation).proceed();
+		} finally {
+			timer.stop();
+		}
 	}
 
 	/**
@@ -291,8 +913,8 @@ public class ReportPortalExtension
 		if (throwable == null) {
 			return PASSED;
 		}
-		ReportPortal.sendStackTraceToRP(throwable);
-		return IS_ASSUMPTION.test(throwable) ? SKIPPED : FAILED;
+		sendStackTrace(context, throwable);
+		return getExceptionClassifier().getStatus(throwable);
 	}
 
 	/**
@@ -303,71 +925,169 @@ public class ReportPortalExtension
 	 */
 	@Nonnull
 	protected ItemStatus getExecutionStatus(@Nonnull final ExtensionContext context) {
-		return context.getExecutionException().map(t -> getExecutionStatus(context, t)).orElse(PASSED);
+		return getExecutionException(context).map(t -> getExecutionStatus(context, t)).orElse(PASSED);
 	}
 
 	@Override
 	public void interceptDynamicTest(Invocation<Void> invocation, DynamicTestInvocationContext invocationContext,
 			ExtensionContext extensionContext) throws Throwable {
-		Optional<ExtensionContext> parent = extensionContext.getParent();
-		if (parent.map(p -> !idMapping.containsKey(p)).orElse(false)) {
-			List<ExtensionContext> parents = new ArrayList<>();
-			parents.add(parent.get());
-			while ((parent = parents.get(parents.size() - 1).getParent()).isPresent()) {
-				ExtensionContext p = parent.get();
-				if (idMapping.containsKey(p)) {
-					break;
-				}
-				parents.add(p);
-			}
-			Collections.reverse(parents);
-			parents.forEach(this::startTemplate);
+		if (isReportingDisabled(extensionContext)) {
+			invocation.proceed();
+			return;
 		}
-		startTestItem(extensionContext, STEP);
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_DYNAMIC_TEST);
 		try {
-			invocation.proceed();
-			finishTest(extensionContext, PASSED);
-		} catch (Throwable throwable) {
-			finishTest(extensionContext, getExecutionStatus(extensionContext, throwable));
-			throw throwable;
+			Optional<ExtensionContext> parent = extensionContext.getParent();
+			if (parent.map(p -> !isStarted(p)).orElse(false)) {
+				List<ExtensionContext> parents = new ArrayList<>();
+				parents.add(parent.get());
+				while ((parent = parents.get(parents.size() - 1).getParent()).isPresent()) {
+					ExtensionContext p = parent.get();
+					if (isStarted(p)) {
+						break;
+					}
+					parents.add(p);
+				}
+				Collections.reverse(parents);
+				parents.forEach(this::startTemplate);
+			}
+			startTestItem(extensionContext, STEP);
+			try {
+				timer.exclude(invocation).proceed();
+				finishTest(extensionContext, PASSED);
+			} catch (Throwable throwable) {
+				finishExecutedTest(extensionContext, () -> getExecutionStatus(extensionContext, throwable));
+				throw throwable;
+			}
+		} finally {
+			timer.stop();
 		}
 	}
 
 	@Override
 	public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
 			ExtensionContext extensionContext) throws Throwable {
-		startTestItem(extensionContext, invocationContext.getArguments(), STEP);
-		invocation.proceed();
+		if (isReportingDisabled(extensionContext)) {
+			invocation.proceed();
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.INTERCEPT_TEST_TEMPLATE_METHOD);
+		try {
+			if (isAggregated(extensionContext)) {
+				// The item is started only if the invocation does not pass, see afterTestExecution. Until then logs and nested steps of the
+				// invocation wait for the item ID of the held invocation.
+				HeldInvocation held = new HeldInvocation(invocationContext.getArguments(), Instant.now());
+				getContextState(extensionContext).heldInvocation = held;
+				bindVirtualItem(getLaunch(extensionContext), held.itemId);
+				timer.exclude(invocation).proceed();
+				return;
+			}
+			startTestItem(extensionContext, invocationContext.getArguments(), STEP);
+			timer.exclude(invocation).proceed();
+		} finally {
+			timer.stop();
+		}
+	}
+
+	/**
+	 * Tells if a test template invocation is aggregated into a summary item when it passes, see
+	 * {@link ExtensionParameters#TEMPLATE_AGGREGATION}
+	 *
+	 * @param context JUnit's test template invocation context
+	 * @return true if the invocation is not reported as a separate item when it passes
+	 */
+	protected boolean isAggregated(@Nonnull ExtensionContext context) {
+		return getExtensionParameters().isTemplateAggregation() && context.getParent()
+				.map(this::findContextState)
+				.map(s -> s.template != null)
+				.orElse(false);
 	}
 
 	@Override
 	public void afterTestExecution(ExtensionContext context) {
-		finishTemplates(context);
-		finishTest(context, getExecutionStatus(context));
+		if (isReportingDisabled(context)) {
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.AFTER_TEST_EXECUTION);
+		try {
+			finishTemplates(context);
+			HeldInvocation held = ofNullable(findContextState(context)).map(s -> s.heldInvocation).orElse(null);
+			if (held != null) {
+				getContextState(context).heldInvocation = null;
+				finishHeldInvocation(context, held);
+				return;
+			}
+			finishExecutedTest(context, () -> getExecutionStatus(context));
+		} finally {
+			timer.stop();
+		}
+	}
+
+	/**
+	 * Adds a passed invocation to the statistics of its template, logs and nested steps of the invocation go to the template item. Failed
+	 * and skipped invocations are reported one by one with their logs and nested steps.
+	 */
+	private void finishHeldInvocation(@Nonnull ExtensionContext context, @Nonnull HeldInvocation held) {
+		Launch launch = getLaunch(context);
+		try {
+			if (context.getExecutionException().isEmpty()) {
+				TemplateState template = context.getParent().map(this::findContextState).map(s -> s.template).orElse(null);
+				if (template != null) {
+					template.getStatistics().add(held.startTime, Instant.now());
+				}
+				held.resolve(template == null ? Maybe.empty() : template.id);
+				return;
+			}
+			startTestItem(context, held.arguments, STEP, null, held.startTime);
+			held.resolve(ofNullable(getStartedItemId(context)).orElseGet(Maybe::empty));
+			finishExecutedTest(context, () -> getExecutionStatus(context));
+		} finally {
+			releaseVirtualItem(launch, held.itemId);
+		}
 	}
 
 	@Override
 	public void testDisabled(ExtensionContext context, Optional<String> reason) {
-		if (Boolean.parseBoolean(System.getProperty("reportDisabledTests"))) {
-			final ItemType itemType = STEP;
-			String description = reason.map(r -> {
-				String rawDescription = createStepDescription(context, itemType);
-				return StringUtils.isNotBlank(rawDescription) ? MarkdownUtils.asTwoParts(r, rawDescription) : r;
-			}).orElse(null);
-			startTestItem(context, Collections.emptyList(), itemType, description, null);
-			finishTest(context, SKIPPED);
+		if (isReportingDisabled(context)) {
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.TEST_DISABLED);
+		try {
+			if (Boolean.parseBoolean(System.getProperty("reportDisabledTests"))) {
+				final ItemType itemType = STEP;
+				String description = reason.map(r -> {
+					String rawDescription = createStepDescription(context, itemType);
+					return StringUtils.isNotBlank(rawDescription) ? MarkdownUtils.asTwoParts(r, rawDescription) : r;
+				}).orElse(null);
+				startTestItem(context, Collections.emptyList(), itemType, description, null);
+				finishTest(context, SKIPPED);
+			}
+		} finally {
+			timer.stop();
 		}
 	}
 
 	@Override
 	public void testFailed(ExtensionContext context, Throwable cause) {
-		context.getParent().ifPresent(parent -> {
-			if (failedClassInits.contains(parent)) {
-				startTestItem(context, STEP);
-				ReportPortal.sendStackTraceToRP(cause);
-				finishTest(context, FAILED);
-			}
-		});
+		if (isReportingDisabled(context)) {
+			return;
+		}
+		AgentStatistics.Timer timer = startTimer(AgentStatistics.Callback.TEST_FAILED);
+		try {
+			context.getParent().ifPresent(parent -> {
+				if (ofNullable(findContextState(parent)).map(s -> s.initFailed).orElse(false)) {
+					startTestItem(context, STEP);
+					finishExecutedTest(
+							context, () -> {
+								sendStackTrace(context, cause);
+								return FAILED;
+							}
+					);
+				}
+			});
+		} finally {
+			timer.stop();
+		}
 	}
 
 	/**
@@ -416,16 +1136,103 @@ public class ReportPortalExtension
 		try {
 			invocation.proceed();
 		} catch (Throwable throwable) {
-			finishBeforeAfter(context, id, getExecutionStatus(context, throwable));
+			finishBeforeAfter(context, id, () -> getExecutionStatus(context, throwable));
 			throw throwable;
 		}
-		finishBeforeAfter(context, id, PASSED);
+		finishBeforeAfter(context, id, () -> PASSED);
 	}
 
-	private void finishBeforeAfter(ExtensionContext context, Maybe<String> id, ItemStatus status) {
-		Launch launch = getLaunch(context);
-		//noinspection ReactiveStreamsUnusedPublisher
-		launch.finishTestItem(id, buildFinishTestItemRq(context, status));
+	private void finishBeforeAfter(ExtensionContext context, Maybe<String> id, Supplier<ItemStatus> status) {
+		finishItem(context, id, () -> buildFinishTestItemRq(context, status.get()), null);
+	}
+
+	/**
+	 * Binds a virtual item to a test thread: nested steps and logs of the thread are reported as children of the item
+	 */
+	private static void bindVirtualItem(@Nonnull Launch launch, @Nonnull Maybe<String> id) {
+		launch.getStepReporter().setParent(id);
+		LoggingContext.init(id);
+	}
+
+	/**
+	 * Releases a virtual item on a test thread: finishes nested steps and removes the item from the thread's logging context
+	 */
+	private static void releaseVirtualItem(@Nonnull Launch launch, @Nullable Maybe<String> id) {
+		if (id == null) {
+			return;
+		}
+		StepReporter stepReporter = launch.getStepReporter();
+		stepReporter.finishPreviousStep();
+		stepReporter.removeParent(id);
+		LoggingContext.dispose();
+	}
+
+	/**
+	 * Runs an action right away or, in asynchronous mode, on the reporter thread. The action must not touch JUnit's contexts, since they
+	 * may be closed by the time the reporter gets to it.
+	 */
+	private void report(@Nonnull Runnable action) {
+		AsyncReporter reporter = getAsyncReporter();
+		if (reporter == null) {
+			action.run();
+			return;
+		}
+		reporter.submit(null, action);
+	}
+
+	/**
+	 * Sends a finish request of an item. In asynchronous mode only a snapshot of the context and the end time are taken on the calling
+	 * thread, the request and stack trace logs are built by the reporter.
+	 */
+	private void finishItem(@Nonnull ExtensionContext context, @Nullable Maybe<String> id, @Nonnull Supplier<FinishTestItemRQ> request,
+			@Nullable Consumer<Maybe<OperationCompletionRS>> onFinish) {
+		CallbackTreeCleaner cleaner = getLaunchState(context).callbackReportingEnabled ? getCallbackTreeCleaner(context) : null;
+		ContextSnapshot snapshot = getAsyncReporter() == null ? null : takeSnapshot(context);
+		finishItem(getLaunch(context), cleaner, id, snapshot, request, onFinish);
+	}
+
+	private void finishItem(@Nonnull Launch launch, @Nullable CallbackTreeCleaner cleaner, @Nullable Maybe<String> id,
+			@Nullable ContextSnapshot snapshot, @Nonnull Supplier<FinishTestItemRQ> request,
+			@Nullable Consumer<Maybe<OperationCompletionRS>> onFinish) {
+		AgentStatistics statistics = getAgentStatistics();
+		AsyncReporter reporter = getAsyncReporter();
+		if (reporter == null) {
+			sendFinish(launch, id, id, request.get(), onFinish, statistics, cleaner);
+			return;
+		}
+		Instant endTime = Instant.now();
+		releaseVirtualItem(launch, id);
+		reporter.submit(
+				id, () -> {
+					FinishTestItemRQ rq = snapshot == null ? request.get() : snapshot.build(request);
+					// The request is built later than the item finished
+					rq.setEndTime(endTime);
+					sendFinish(launch, id, reporter.finished(id), rq, onFinish, statistics, cleaner);
+				}
+		);
+	}
+
+	private static void sendFinish(@Nonnull Launch launch, @Nullable Maybe<String> id, @Nullable Maybe<String> itemId,
+			@Nonnull FinishTestItemRQ rq, @Nullable Consumer<Maybe<OperationCompletionRS>> onFinish, @Nullable AgentStatistics statistics,
+			@Nullable CallbackTreeCleaner cleaner) {
+		Maybe<OperationCompletionRS> finishResponse = launch.finishTestItem(itemId, rq);
+		if (onFinish != null) {
+			onFinish.accept(finishResponse);
+		}
+		if (statistics != null) {
+			statistics.itemFinished(id);
+		}
+		if (cleaner != null) {
+			cleaner.finished(id);
+		}
+	}
+
+	private static void startVirtualItem(@Nonnull AsyncReporter reporter, @Nonnull Launch launch, @Nullable Maybe<String> parentId,
+			@Nonnull Maybe<String> itemId, @Nonnull StartTestItemRQ rq) {
+		Maybe<String> realId = parentId == null ?
+				launch.startVirtualTestItem(itemId, rq) :
+				launch.startVirtualTestItem(reporter.resolve(parentId), itemId, rq);
+		reporter.started(itemId, realId);
 	}
 
 	/**
@@ -434,7 +1241,7 @@ public class ReportPortalExtension
 	 * @param parentContext JUnit's test context of a parent entity
 	 */
 	protected void startTemplate(ExtensionContext parentContext) {
-		if (!idMapping.containsKey(parentContext)) {
+		if (!isStarted(parentContext)) {
 			startTestItem(parentContext, TEMPLATE);
 		}
 	}
@@ -471,30 +1278,76 @@ public class ReportPortalExtension
 	 */
 	protected void startTestItem(@Nonnull final ExtensionContext context, @Nonnull final List<Object> arguments,
 			@Nonnull final ItemType itemType, @Nullable final String description, @Nullable final Instant startTime) {
-		idMapping.computeIfAbsent(
-				context, c -> {
-					StartTestItemRQ rq = buildStartStepRq(c, arguments, itemType, description, startTime);
-					Launch launch = getLaunch(c);
-
-					Maybe<String> parentId = c.getParent().flatMap(parent -> Optional.ofNullable(idMapping.get(parent))).orElse(null);
-					Maybe<String> itemId;
-					TestItemTree.TestItemLeaf leaf;
-					if (parentId == null) {
-						itemId = launch.startTestItem(rq);
-						leaf = createTestItemLeaf(itemId);
-					} else {
-						itemId = launch.startTestItem(parentId, rq);
-						leaf = createTestItemLeaf(parentId, itemId);
-					}
-					if (getReporter().getParameters().isCallbackReportingEnabled()) {
-						TEST_ITEM_TREE.getTestItems().put(createItemTreeKey(rq.getName()), leaf);
-					}
-					if (TEMPLATE == itemType) {
-						testTemplates.put(c, itemId);
+		// The placeholder is published first and the item is started outside any map lock, concurrent readers wait for the placeholder
+		CompletableFuture<Maybe<String>> placeholder = new CompletableFuture<>();
+		ContextState state = getContextState(context);
+		if (!state.item.compareAndSet(null, placeholder)) {
+			return;
+		}
+		EventHandle event = AgentEvents.itemStart();
+		try {
+			placeholder.complete(startItem(context, arguments, itemType, description, startTime));
+		} catch (RuntimeException | Error e) {
+			state.item.compareAndSet(placeholder, null);
+			placeholder.completeExceptionally(e);
+			throw e;
+		} finally {
+			event.commit(itemType, () -> getCodeRef(context));
+		}
+	}
+
+	@Nonnull
+	private Maybe<String> startItem(@Nonnull final ExtensionContext context, @Nonnull final List<Object> arguments,
+			@Nonnull final ItemType itemType, @Nullable final String description, @Nullable final Instant startTime) {
+		Launch launch = getLaunch(context);
+		Maybe<String> parentId = context.getParent().map(this::getStartedItemId).orElse(null);
+		AsyncReporter reporter = getAsyncReporter();
+		Maybe<String> itemId;
+		String name;
+		if (reporter == null) {
+			StartTestItemRQ rq = buildStartStepRq(context, arguments, itemType, description, startTime);
+			itemId = parentId == null ? launch.startTestItem(rq) : launch.startTestItem(parentId, rq);
+			name = rq.getName();
+		} else {
+			// Only a snapshot of the context and the start time are taken on the test thread, the request is built by the reporter. The
+			// start event is submitted before the ID is published, so children are always queued after their parent.
+			ContextSnapshot snapshot = takeSnapshot(context);
+			Instant time = ofNullable(startTime).orElseGet(Instant::now);
+			itemId = launch.createVirtualItem();
+			bindVirtualItem(launch, itemId);
+			reporter.submit(
+					itemId, () -> {
+						StartTestItemRQ rq = snapshot.build(() -> buildStartStepRq(context, arguments, itemType, description, time));
+						startVirtualItem(reporter, launch, parentId, itemId, rq);
 					}
-					return itemId;
-				}
-		);
+			);
+			name = null;
+		}
+		ofNullable(getAgentStatistics()).ifPresent(s -> s.itemStarted(itemId, itemType));
+		ContextState state = getContextState(context);
+		state.type = itemType;
+		CallbackTreeCleaner cleaner = null;
+		if (getLaunchState(context).callbackReportingEnabled) {
+			TestItemTree.TestItemLeaf leaf = parentId == null ? createTestItemLeaf(itemId) : createTestItemLeaf(parentId, itemId);
+			TestItemTree.ItemTreeKey key = createItemTreeKey(name == null ? createStepName(context, itemType) : name);
+			TEST_ITEM_TREE.getTestItems().put(key, leaf);
+			TEST_ITEM_INDEX.put(context.getUniqueId(), context.getDisplayName(), leaf);
+			cleaner = getCallbackTreeCleaner(context);
+			if (cleaner != null) {
+				cleaner.started(context, itemId, key, leaf);
+			}
+		}
+		if (TEMPLATE != itemType) {
+			state.leaf = cleaner == null ? null : new TrackedLeaf(cleaner, itemId);
+		} else {
+			TemplateState template = new TemplateState(context, itemId, getCodeRef(context), launch, cleaner);
+			state.template = template;
+			context.getParent().map(this::getContextState).ifPresent(s -> {
+				TemplateState parentTemplate = s.template;
+				(parentTemplate == null ? s.templates : parentTemplate.children).add(template);
+			});
+		}
+		return itemId;
 	}
 
 	/**
@@ -507,22 +1360,133 @@ public class ReportPortalExtension
 	 * @return an ID of the method
 	 */
 	protected Maybe<String> startBeforeAfter(Method method, ExtensionContext parentContext, ExtensionContext context, ItemType itemType) {
+		EventHandle event = AgentEvents.configurationStart();
+		try {
+			return startConfiguration(method, parentContext, context, itemType);
+		} finally {
+			event.commit(itemType, () -> ItemMetadata.of(method).getCodeRef());
+		}
+	}
+
+	@Nonnull
+	private Maybe<String> startConfiguration(@Nonnull Method method, @Nonnull ExtensionContext parentContext,
+			@Nonnull ExtensionContext context, @Nonnull ItemType itemType) {
 		Launch launch = getLaunch(context);
+		AsyncReporter reporter = getAsyncReporter();
+		if (reporter != null) {
+			// The request is built by the reporter, only the start time is taken on the test thread
+			Instant startTime = Instant.now();
+			Maybe<String> parentId = getItemId(parentContext).orElse(null);
+			Maybe<String> itemId = launch.createVirtualItem();
+			bindVirtualItem(launch, itemId);
+			reporter.submit(
+					itemId, () -> {
+						StartTestItemRQ rq = buildStartConfigurationRq(method, parentContext, context, itemType);
+						rq.setStartTime(startTime);
+						startVirtualItem(reporter, launch, parentId, itemId, rq);
+					}
+			);
+			ofNullable(getAgentStatistics()).ifPresent(s -> s.itemStarted(itemId, itemType));
+			return itemId;
+		}
 		StartTestItemRQ rq = buildStartConfigurationRq(method, parentContext, context, itemType);
-		return getItemId(parentContext).map(pid -> launch.startTestItem(pid, rq)).orElseGet(() -> launch.startTestItem(rq));
+		Maybe<String> itemId = getItemId(parentContext).map(pid -> launch.startTestItem(pid, rq)).orElseGet(() -> launch.startTestItem(rq));
+		ofNullable(getAgentStatistics()).ifPresent(s -> s.itemStarted(itemId, itemType));
+		return itemId;
 	}
 
 	/**
 	 * Finish a test template execution (basically a test class) with a specific status, builds a finish request based on the status
 	 *
 	 * @param context JUnit's test context
+	 * @deprecated templates are finished by {@link #finishTemplates(ExtensionContext)} of their parents, when template contexts are
+	 * already closed, so the method is not called by the extension and does nothing. Use {@link #buildFinishTemplateRq(ExtensionContext)}
+	 * to customize the template finish.
 	 */
+	@Deprecated
+	@SuppressWarnings("unused")
 	protected void finishTemplate(@Nonnull final ExtensionContext context) {
-		Launch launch = getLaunch(context);
-		Maybe<String> templateId = testTemplates.remove(context);
-		//noinspection ReactiveStreamsUnusedPublisher
-		launch.finishTestItem(templateId, buildFinishTestItemRq(context, null));
-		idMapping.remove(context);
+	}
+
+	/**
+	 * Finishes a test template with everything its parent took when the template started, the template context is closed at this point
+	 */
+	private void finishTemplate(@Nonnull final TemplateState template) {
+		DurationStatistics statistics = template.statistics;
+		if (statistics != null) {
+			reportAggregatedInvocations(template, statistics);
+		}
+		finishItem(template.launch, template.cleaner, template.id, null, () -> buildFinishTemplateRq(template.context), null);
+	}
+
+	/**
+	 * Extension point to customize a test template result on it's finish
+	 *
+	 * @param context JUnit's test template context, it is already closed, so its store must not be used
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected FinishTestItemRQ buildFinishTemplateRq(@Nonnull ExtensionContext context) {
+		return buildFinishTestItemRq(context, null);
+	}
+
+	/**
+	 * Reports passed invocations of a test template as one item under the template
+	 */
+	private void reportAggregatedInvocations(@Nonnull TemplateState template, @Nonnull DurationStatistics statistics) {
+		Launch launch = template.launch;
+		Maybe<String> templateId = template.id;
+		Instant endTime = ofNullable(statistics.getLastEnd()).orElseGet(Instant::now);
+		report(
+				() -> {
+					StartTestItemRQ rq = buildAggregatedInvocationsRq(template.context, template.codeRef, statistics);
+					FinishTestItemRQ finishRq = new FinishTestItemRQ();
+					finishRq.setStatus(PASSED.name());
+					finishRq.setEndTime(endTime);
+					AsyncReporter reporter = getAsyncReporter();
+					Maybe<String> parentId = reporter == null ? templateId : reporter.resolve(templateId);
+					Maybe<String> itemId = launch.startTestItem(parentId, rq);
+					ofNullable(getAgentStatistics()).ifPresent(s -> s.itemStarted(itemId, STEP));
+					launch.finishTestItem(itemId, finishRq);
+					ofNullable(getAgentStatistics()).ifPresent(s -> s.itemFinished(itemId));
+				}
+		);
+	}
+
+	/**
+	 * Extension point to customize a summary item of passed test template invocations, see
+	 * {@link ExtensionParameters#TEMPLATE_AGGREGATION}
+	 *
+	 * @param context    JUnit's test template context, it is already closed, so its store must not be used
+	 * @param codeRef    a code reference of the template, taken when the template started
+	 * @param statistics count and durations of passed invocations
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	@SuppressWarnings("unused")
+	protected StartTestItemRQ buildAggregatedInvocationsRq(@Nonnull ExtensionContext context, @Nonnull String codeRef,
+			@Nonnull DurationStatistics statistics) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setStartTime(ofNullable(statistics.getFirstStart()).orElseGet(Instant::now));
+		rq.setName(String.format(AGGREGATED_INVOCATIONS_NAME_FORMAT, statistics.getCount()));
+		rq.setType(STEP.name());
+		rq.setCodeRef(codeRef);
+		rq.setTestCaseId(ofNullable(TestCaseIdUtils.getTestCaseId(codeRef, Collections.emptyList())).map(TestCaseIdEntry::getId)
+				.orElse(null));
+		Duration[] percentiles = statistics.getPercentiles(0, 50, 99, 100);
+		Set<ItemAttributesRQ> attributes = new LinkedHashSet<>();
+		attributes.add(new ItemAttributesRQ("invocations", String.valueOf(statistics.getCount())));
+		attributes.add(new ItemAttributesRQ("min", formatDuration(percentiles[0])));
+		attributes.add(new ItemAttributesRQ("p50", formatDuration(percentiles[1])));
+		attributes.add(new ItemAttributesRQ("p99", formatDuration(percentiles[2])));
+		attributes.add(new ItemAttributesRQ("max", formatDuration(percentiles[3])));
+		rq.setAttributes(attributes);
+		return rq;
+	}
+
+	@Nonnull
+	private static String formatDuration(@Nonnull Duration duration) {
+		return String.format(Locale.ROOT, "%.3f ms", duration.toNanos() / 1_000_000d);
 	}
 
 	/**
@@ -531,7 +1495,7 @@ public class ReportPortalExtension
 	 * @param context JUnit's test context
 	 */
 	protected void finishTestItem(@Nonnull final ExtensionContext context) {
-		finishTestItem(context, buildFinishTestItemRq(context, null));
+		finishContextItem(context, () -> buildFinishTestItemRq(context, null));
 	}
 
 	/**
@@ -541,7 +1505,7 @@ public class ReportPortalExtension
 	 * @param status  a test execution status
 	 */
 	protected void finishTestItem(@Nonnull final ExtensionContext context, @Nullable final ItemStatus status) {
-		finishTestItem(context, buildFinishTestItemRq(context, status));
+		finishContextItem(context, () -> buildFinishTestItemRq(context, status));
 	}
 
 	/**
@@ -551,7 +1515,30 @@ public class ReportPortalExtension
 	 * @param status  a test execution status
 	 */
 	protected void finishTest(@Nonnull final ExtensionContext context, @Nullable final ItemStatus status) {
-		finishTestItem(context, buildFinishTestRq(context, status));
+		finishContextItem(context, () -> buildFinishTestRq(context, status));
+	}
+
+	/**
+	 * Finishes a test with a status of its execution. In asynchronous mode the status, the stack trace log and the finish request are
+	 * calculated on the reporter thread.
+	 */
+	private void finishExecutedTest(@Nonnull final ExtensionContext context, @Nonnull final Supplier<ItemStatus> status) {
+		if (getAsyncReporter() == null) {
+			finishTest(context, status.get());
+			return;
+		}
+		sendItemFinish(context, () -> buildFinishTestRq(context, status.get()));
+	}
+
+	/**
+	 * Finishes an item of the context, in asynchronous mode the finish request is built on the reporter thread
+	 */
+	private void finishContextItem(@Nonnull final ExtensionContext context, @Nonnull final Supplier<FinishTestItemRQ> request) {
+		if (getAsyncReporter() == null) {
+			finishTestItem(context, request.get());
+			return;
+		}
+		sendItemFinish(context, request);
 	}
 
 	/**
@@ -561,12 +1548,23 @@ public class ReportPortalExtension
 	 * @param rq      a test item finish request
 	 */
 	protected void finishTestItem(@Nonnull final ExtensionContext context, @Nonnull final FinishTestItemRQ rq) {
-		Launch launch = getLaunch(context);
-		Maybe<String> id = idMapping.remove(context);
-		Maybe<OperationCompletionRS> finishResponse = launch.finishTestItem(id, rq);
-		if (getReporter().getParameters().isCallbackReportingEnabled()) {
-			ofNullable(TEST_ITEM_TREE.getTestItems().get(createItemTreeKey(context))).ifPresent(itemLeaf -> itemLeaf.setFinishResponse(
-					finishResponse));
+		sendItemFinish(context, () -> rq);
+	}
+
+	private void sendItemFinish(@Nonnull final ExtensionContext context, @Nonnull final Supplier<FinishTestItemRQ> request) {
+		EventHandle event = AgentEvents.itemFinish();
+		// The type is taken before the item is removed, and only if the event is recorded
+		ItemType type = event.isEnabled() ? ofNullable(findContextState(context)).map(s -> s.type).orElse(null) : null;
+		try {
+			Maybe<String> id = removeItemId(context);
+			Consumer<Maybe<OperationCompletionRS>> onFinish = null;
+			if (getLaunchState(context).callbackReportingEnabled) {
+				String uniqueId = context.getUniqueId();
+				onFinish = finishResponse -> ofNullable(TEST_ITEM_INDEX.get(uniqueId)).ifPresent(itemLeaf -> itemLeaf.setFinishResponse(finishResponse));
+			}
+			finishItem(context, id, request, onFinish);
+		} finally {
+			event.commit(type, () -> getCodeRef(context));
 		}
 	}
 
@@ -581,7 +1579,7 @@ public class ReportPortalExtension
 	 */
 	protected TestCaseIdEntry getTestCaseId(@Nonnull final Method method, @Nonnull final String codeRef,
 			@Nonnull final List<Object> arguments, @Nullable Object instance) {
-		TestCaseId caseId = method.getAnnotation(TestCaseId.class);
+		TestCaseId caseId = ItemMetadata.of(method).getTestCaseId();
 		TestCaseIdEntry id = TestCaseIdUtils.getTestCaseId(caseId, method, codeRef, arguments, instance);
 		if (id == null) {
 			return null;
@@ -589,36 +1587,44 @@ public class ReportPortalExtension
 		return id.getId().endsWith("[]") ? new TestCaseIdEntry(id.getId().substring(0, id.getId().length() - 2)) : id;
 	}
 
-	private static String getCodeRef(@Nonnull final Method method) {
-		return method.getDeclaringClass().getCanonicalName() + "." + method.getName();
-	}
-
 	private static String appendSuffixIfNotEmpty(final String str, @Nonnull final String suffix) {
 		return str + (StringUtils.isNotBlank(suffix) ? "$" + suffix : "");
 	}
 
 	@Nonnull
-	private String getCodeRef(@Nonnull final ExtensionContext context, @Nonnull final String currentCodeRef) {
-		return context.getTestMethod()
-				.map(m -> appendSuffixIfNotEmpty(getCodeRef(m), currentCodeRef))
-				.orElseGet(() -> context.getTestClass()
-						.map(c -> appendSuffixIfNotEmpty(c.getCanonicalName(), currentCodeRef))
-						.orElseGet(() -> {
-							String newCodeRef = appendSuffixIfNotEmpty(context.getDisplayName(), currentCodeRef);
-							return context.getParent().map(c -> getCodeRef(c, newCodeRef)).orElse(newCodeRef);
-						}));
+	private static String computeCodeRef(@Nonnull final ExtensionContext context) {
+		Optional<Method> method = context.getTestMethod();
+		if (method.isPresent()) {
+			return ItemMetadata.of(method.get()).getCodeRef();
+		}
+		Optional<Class<?>> testClass = context.getTestClass();
+		if (testClass.isPresent()) {
+			return ItemMetadata.of(testClass.get()).getCodeRef();
+		}
+		String displayName = context.getDisplayName();
+		return context.getParent().map(p -> appendSuffixIfNotEmpty(getCachedCodeRef(p), displayName)).orElse(displayName);
+	}
+
+	@Nonnull
+	private static String getCachedCodeRef(@Nonnull final ExtensionContext context) {
+		ContextSnapshot snapshot = getSnapshot(context);
+		if (snapshot != null) {
+			return snapshot.codeRef;
+		}
+		return context.getStore(CODE_REF_NAMESPACE)
+				.getOrComputeIfAbsent(context.getUniqueId(), id -> computeCodeRef(context), String.class);
 	}
 
 	/**
 	 * Returns a code reference of a test (static or dynamic). For dynamic tests appends each depth level where level names are display
-	 * names separated by `$` symbol
+	 * names separated by `$` symbol. The reference is calculated once per context and reused by its children.
 	 *
 	 * @param context JUnit's test context
 	 * @return a code reference string
 	 */
 	@Nonnull
 	protected String getCodeRef(@Nonnull final ExtensionContext context) {
-		return getCodeRef(context, "");
+		return getCachedCodeRef(context);
 	}
 
 	/**
@@ -638,6 +1644,12 @@ public class ReportPortalExtension
 	 * @return a set of attributes
 	 */
 	protected @Nonnull Set<ItemAttributesRQ> getAttributes(@Nonnull final AnnotatedElement annotatedElement) {
+		if (annotatedElement instanceof Method) {
+			return ItemMetadata.of((Method) annotatedElement).getAttributes();
+		}
+		if (annotatedElement instanceof Class) {
+			return ItemMetadata.of((Class<?>) annotatedElement).getAttributes();
+		}
 		return ofNullable(annotatedElement.getAnnotation(Attributes.class)).map(AttributeParser::retrieveAttributes)
 				.orElse(Collections.emptySet());
 	}
@@ -691,15 +1703,14 @@ public class ReportPortalExtension
 		}
 		Method method = optionalMethod.get();
 
-		com.epam.reportportal.annotations.DisplayName displayNameFromMethod = method.getAnnotation(com.epam.reportportal.annotations.DisplayName.class);
+		String displayNameFromMethod = ItemMetadata.of(method).getDisplayName();
 		if (displayNameFromMethod != null) {
-			return getMethodName(displayNameFromMethod.value());
+			return getMethodName(displayNameFromMethod);
 		}
 
-		com.epam.reportportal.annotations.DisplayName displayNameFromClass = method.getDeclaringClass()
-				.getAnnotation(com.epam.reportportal.annotations.DisplayName.class);
+		String displayNameFromClass = ItemMetadata.of(method.getDeclaringClass()).getDisplayName();
 		if (displayNameFromClass != null) {
-			return getMethodName(displayNameFromClass.value());
+			return getMethodName(displayNameFromClass);
 		}
 
 		return defaultValue;
@@ -737,7 +1748,7 @@ public class ReportPortalExtension
 			return getTestCaseId(m, codeRef, arguments, context.getTestInstance().orElse(null));
 		}).orElseGet(() -> TestCaseIdUtils.getTestCaseId(codeRef, arguments));
 		if (STEP == itemType) {
-			testParameters.put(context, rq.getParameters());
+			getContextState(context).parameters = rq.getParameters();
 		}
 		rq.setTestCaseId(ofNullable(caseId).map(TestCaseIdEntry::getId).orElse(null));
 		return rq;
@@ -771,9 +1782,10 @@ public class ReportPortalExtension
 				.collect(Collectors.toSet())));
 		rq.setType(itemType.name());
 		rq.setRetry(false);
-		String codeRef = method.getDeclaringClass().getCanonicalName() + "." + method.getName();
+		ItemMetadata metadata = ItemMetadata.of(method);
+		String codeRef = metadata.getCodeRef();
 		rq.setCodeRef(codeRef);
-		TestCaseIdEntry caseId = ofNullable(method.getAnnotation(TestCaseId.class)).map(TestCaseId::value)
+		TestCaseIdEntry caseId = ofNullable(metadata.getTestCaseId()).map(TestCaseId::value)
 				.map(TestCaseIdEntry::new)
 				.orElseGet(() -> TestCaseIdUtils.getTestCaseId(codeRef, Collections.emptyList()));
 		rq.setTestCaseId(ofNullable(caseId).map(TestCaseIdEntry::getId).orElse(null));
@@ -801,10 +1813,10 @@ public class ReportPortalExtension
 	protected FinishTestItemRQ buildFinishTestRq(@Nonnull ExtensionContext context, @Nullable ItemStatus status) {
 		FinishTestItemRQ rq = new FinishTestItemRQ();
 		ItemStatus myStatus = ofNullable(status).orElseGet(() -> getExecutionStatus(context));
-		Optional<Throwable> myException = context.getExecutionException();
+		Optional<Throwable> myException = getExecutionException(context);
 		if (myStatus != ItemStatus.PASSED && myException.isPresent()) {
 			String stepDescription = createStepDescription(context, STEP);
-			String stackTrace = String.format(DESCRIPTION_TEST_ERROR_FORMAT, getStackTrace(myException.get(), new Throwable()));
+			String stackTrace = String.format(DESCRIPTION_TEST_ERROR_FORMAT, describeFailure(context, myException.get()));
 			String description = StringUtils.isNotBlank(stepDescription) ?
 					MarkdownUtils.asTwoParts(stepDescription, stackTrace) :
 					stackTrace;
@@ -819,12 +1831,14 @@ public class ReportPortalExtension
 	@Nullable
 	protected com.epam.ta.reportportal.ws.model.issue.Issue getIssue(@Nonnull ExtensionContext context) {
 		String stepName = createStepName(context, STEP);
-		List<ParameterResource> parameters = testParameters.containsKey(context) ? testParameters.remove(context) : Collections.emptyList();
-		return getOptionalTestMethod(context).map(m -> ofNullable(m.getAnnotation(Issues.class)).map(i -> IssueUtils.createIssue(
-						i,
-						stepName,
-						parameters
-				)).orElseGet(() -> IssueUtils.createIssue(m.getAnnotation(Issue.class), stepName, parameters)))
+		List<ParameterResource> parameters = ofNullable(findContextState(context)).map(s -> {
+			List<ParameterResource> p = s.parameters;
+			s.parameters = null;
+			return p;
+		}).orElse(Collections.emptyList());
+		return getOptionalTestMethod(context).map(ItemMetadata::of)
+				.map(m -> ofNullable(m.getIssues()).map(i -> IssueUtils.createIssue(i, stepName, parameters))
+						.orElseGet(() -> IssueUtils.createIssue(m.getIssue(), stepName, parameters)))
 				.orElse(null);
 	}
 
@@ -853,6 +1867,11 @@ public class ReportPortalExtension
 	 */
 	@Nonnull
 	protected String createConfigurationName(@Nonnull Class<?> testClass, @Nonnull Method method) {
+		return CONFIGURATION_NAMES.get(testClass).computeIfAbsent(method, m -> generateConfigurationName(testClass, m));
+	}
+
+	@Nonnull
+	private static String generateConfigurationName(@Nonnull Class<?> testClass, @Nonnull Method method) {
 		DisplayName displayName = method.getDeclaredAnnotation(DisplayName.class);
 		if (displayName != null) {
 			return displayName.value();
@@ -862,12 +1881,13 @@ public class ReportPortalExtension
 			displayNameGenerator = testClass.getDeclaredAnnotation(DisplayNameGeneration.class);
 		}
 		if (displayNameGenerator != null) {
-			Class<? extends DisplayNameGenerator> generatorClass = displayNameGenerator.value();
-			try {
-				DisplayNameGenerator generator = generatorClass.getConstructor().newInstance();
-				return generator.generateDisplayNameForMethod(testClass, method);
-			} catch (Exception e) {
-				LOGGER.error("Unable instantiate a display name generator. Name generation skipped.", e);
+			Optional<DisplayNameGenerator> generator = DISPLAY_NAME_GENERATORS.get(displayNameGenerator.value());
+			if (generator.isPresent()) {
+				try {
+					return generator.get().generateDisplayNameForMethod(testClass, method);
+				} catch (Exception e) {
+					LOGGER.error("Unable to generate a display name. Name generation skipped.", e);
+				}
 			}
 		}
 		return method.getName() + "()";
@@ -892,14 +1912,14 @@ public class ReportPortalExtension
 		}
 		Method method = optionalMethod.get();
 
-		Description descriptionFromMethod = method.getAnnotation(Description.class);
+		String descriptionFromMethod = ItemMetadata.of(method).getDescription();
 		if (descriptionFromMethod != null) {
-			return descriptionFromMethod.value();
+			return descriptionFromMethod;
 		}
 
-		Description descriptionFromClass = method.getDeclaringClass().getAnnotation(Description.class);
+		String descriptionFromClass = ItemMetadata.of(method.getDeclaringClass()).getDescription();
 		if (descriptionFromClass != null) {
-			return descriptionFromClass.value();
+			return descriptionFromClass;
 		}
 
 		return defaultValue;
@@ -951,4 +1971,217 @@ public class ReportPortalExtension
 	protected void reportSkippedClassTests(ReflectiveInvocationContext<Method> invocationContext, ExtensionContext context,
 			Instant eventTime) {
 	}
+
+	/**
+	 * Data of a test context taken on a test thread. In asynchronous mode requests and stack trace logs of an item are built on the
+	 * reporter thread, when the context store can be already closed and the execution exception can be changed by later callbacks, so
+	 * while a request is built the extension reads them from the snapshot. The rest of the context data does not change.
+	 */
+	private static final class ContextSnapshot {
+		private final ExtensionContext context;
+		private final ContextState state;
+		private final String codeRef;
+		private final FailureDeduplicator deduplicator;
+		private final Throwable exception;
+		private volatile Thread thread;
+
+		private ContextSnapshot(@Nonnull ExtensionContext context, @Nonnull ContextState state, @Nonnull String codeRef,
+				@Nullable FailureDeduplicator deduplicator, @Nullable Throwable exception) {
+			this.context = context;
+			this.state = state;
+			this.codeRef = codeRef;
+			this.deduplicator = deduplicator;
+			this.exception = exception;
+		}
+
+		/**
+		 * Builds a request of the context on the current thread with the snapshot data
+		 */
+		private <T> T build(@Nonnull Supplier<T> builder) {
+			thread = Thread.currentThread();
+			reportedContext = this;
+			try {
+				return builder.get();
+			} finally {
+				reportedContext = null;
+				thread = null;
+			}
+		}
+	}
+
+	/**
+	 * Arguments and start time of a test template invocation which is not reported until it ends
+	 */
+	private static final class HeldInvocation {
+		private final List<Object> arguments;
+		private final Instant startTime;
+		// Logs and nested steps of the invocation are bound to the ID, it gets an item when the invocation ends
+		private final MaybeSubject<String> itemId = MaybeSubject.create();
+
+		private HeldInvocation(@Nonnull List<Object> arguments, @Nonnull Instant startTime) {
+			this.arguments = arguments;
+			this.startTime = startTime;
+		}
+
+		private void resolve(@Nonnull Maybe<String> id) {
+			id.subscribe(itemId::onSuccess, itemId::onError, itemId::onComplete);
+		}
+	}
+
+	/**
+	 * A leaf of {@link #TEST_ITEM_TREE} which is tracked by a retention policy
+	 */
+	private static final class TrackedLeaf {
+		private final CallbackTreeCleaner cleaner;
+		private final Maybe<String> itemId;
+
+		private TrackedLeaf(@Nonnull CallbackTreeCleaner cleaner, @Nonnull Maybe<String> itemId) {
+			this.cleaner = cleaner;
+			this.itemId = itemId;
+		}
+
+		/**
+		 * Hands the leaf over to the retention policy as finished, does nothing if the item is already finished
+		 */
+		private void release() {
+			cleaner.finished(itemId);
+		}
+	}
+
+	/**
+	 * A template item which is owned and finished by its parent, after the template context is closed. Everything needed to finish the
+	 * item is taken when the template starts, so the store of the closed context is never read.
+	 */
+	private static final class TemplateState {
+		// Is passed to extension points only
+		private final ExtensionContext context;
+		private final Maybe<String> id;
+		private final String codeRef;
+		private final Launch launch;
+		private final CallbackTreeCleaner cleaner;
+		private final TrackedLeaf leaf;
+		// Started nested templates
+		private final Set<TemplateState> children = ConcurrentHashMap.newKeySet();
+		// Passed aggregated invocations, created by the first one
+		private volatile DurationStatistics statistics;
+
+		private TemplateState(@Nonnull ExtensionContext context, @Nonnull Maybe<String> id, @Nonnull String codeRef, @Nonnull Launch launch,
+				@Nullable CallbackTreeCleaner cleaner) {
+			this.context = context;
+			this.id = id;
+			this.codeRef = codeRef;
+			this.launch = launch;
+			this.cleaner = cleaner;
+			leaf = cleaner == null ? null : new TrackedLeaf(cleaner, id);
+		}
+
+		/**
+		 * Releases leaves of the template and its nested templates which were not finished by the parent
+		 */
+		private void release() {
+			if (leaf != null) {
+				leaf.release();
+			}
+			children.forEach(TemplateState::release);
+		}
+
+		@Nonnull
+		private synchronized DurationStatistics getStatistics() {
+			if (statistics == null) {
+				statistics = new DurationStatistics();
+			}
+			return statistics;
+		}
+
+		@Nonnull
+		private static List<TemplateState> drain(@Nonnull Set<TemplateState> templates) {
+			List<TemplateState> result = new ArrayList<>(templates);
+			templates.removeAll(result);
+			return result;
+		}
+	}
+
+	/**
+	 * Reporting state of a test context. It is kept in the store of the context, so JUnit releases it with the context even if a finish
+	 * callback is skipped, e.g. after a failed constructor or <code>@BeforeAll</code> method.
+	 */
+	private static final class ContextState implements ExtensionContext.Store.CloseableResource {
+		private final AtomicReference<CompletableFuture<Maybe<String>>> item = new AtomicReference<>();
+		// Started templates which are finished with the context
+		private final Set<TemplateState> templates = ConcurrentHashMap.newKeySet();
+		// A template started for the context, it is owned and finished by the parent
+		private volatile TemplateState template;
+		private volatile ItemType type;
+		// A leaf of the item in the callback reporting tree, templates keep their leaves in their template states
+		private volatile TrackedLeaf leaf;
+		private volatile List<ParameterResource> parameters;
+		private volatile HeldInvocation heldInvocation;
+		private volatile boolean initFailed;
+		private final AgentStatistics statistics;
+
+		private ContextState(@Nullable AgentStatistics statistics) {
+			this.statistics = statistics;
+			if (statistics != null) {
+				statistics.contextOpened();
+			}
+		}
+
+		@Override
+		public void close() {
+			// Finish events of the context can still wait in the asynchronous reporter queue, the state is released after them
+			AsyncReporter reporter = asyncReporter;
+			if (reporter == null) {
+				release();
+			} else {
+				reporter.submit(null, this::release);
+			}
+		}
+
+		private void release() {
+			item.set(null);
+			// Finish callbacks are skipped after a failed constructor or @BeforeAll method, leaves of such items are released here
+			TrackedLeaf itemLeaf = leaf;
+			if (itemLeaf != null) {
+				leaf = null;
+				itemLeaf.release();
+			}
+			TemplateState.drain(templates).forEach(TemplateState::release);
+			template = null;
+			parameters = null;
+			heldInvocation = null;
+			if (statistics != null) {
+				statistics.contextReleased();
+			}
+		}
+	}
+
+	/**
+	 * A launch of an execution root and a snapshot of the reporting parameters which are checked for every test item
+	 */
+	private static final class LaunchState {
+		private final ExtensionContext root;
+		private final boolean reportingDisabled;
+		private final boolean callbackReportingEnabled;
+		private volatile LaunchEntry entry;
+
+		private LaunchState(@Nonnull ExtensionContext root, @Nonnull ListenerParameters parameters) {
+			this.root = root;
+			reportingDisabled = Boolean.FALSE.equals(parameters.getEnable());
+			callbackReportingEnabled = parameters.isCallbackReportingEnabled();
+		}
+
+		private static final class LaunchEntry {
+			private final String launchId;
+			private final Launch launch;
+
+			private LaunchEntry(@Nonnull String launchId, @Nonnull Launch launch) {
+				this.launchId = launchId;
+				this.launch = launch;
+			}
+		}
+	}
+
+	private static final class ExtensionParametersHolder {
+		private static final ExtensionParameters PARAMETERS = new ExtensionParameters();
+	}
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.jfr;
+
+import com.epam.reportportal.junit5.ItemType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Base Java Flight Recorder event of a reporting operation of the agent. Events are recorded only if a recording is running, e.g. with
+ * <code>-XX:StartFlightRecording</code>, otherwise they cost a couple of checks per operation.
+ */
+@Category({ "ReportPortal", "JUnit 5" })
+@StackTrace(false)
+public abstract class AgentEvent extends Event {
+
+	// Private fields of a superclass are not recorded, so the fields are protected
+	@Label("Item Type")
+	protected String itemType;
+
+	@Label("Code Reference")
+	protected String codeRef;
+
+	/**
+	 * Ends the event and commits it if it is recorded. The code reference is calculated in this case only.
+	 *
+	 * @param type    a type of the reported item
+	 * @param codeRef a supplier of the item code reference
+	 */
+	public void commit(@Nullable ItemType type, @Nonnull Supplier<String> codeRef) {
+		end();
+		if (shouldCommit()) {
+			itemType = type == null ? null : type.name();
+			this.codeRef = codeRef.get();
+			commit();
+		}
+	}
+}
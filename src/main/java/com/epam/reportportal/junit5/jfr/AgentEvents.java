@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.jfr;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Begins agent events. JFR is an optional module of the runtime, e.g. it can be missing in jlink images or OpenJ9 builds, so the
+ * presence of the module is checked once, and without it the event classes are never loaded and every event is a no-op.
+ */
+public final class AgentEvents {
+
+	private static final boolean JFR_PRESENT = isJfrPresent();
+
+	private AgentEvents() {
+		//static only
+	}
+
+	private static boolean isJfrPresent() {
+		try {
+			Class.forName("jdk.jfr.Event", false, AgentEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	@Nonnull
+	public static EventHandle itemStart() {
+		return JFR_PRESENT ? JfrEventHandle.itemStart() : EventHandle.NOOP;
+	}
+
+	@Nonnull
+	public static EventHandle configurationStart() {
+		return JFR_PRESENT ? JfrEventHandle.configurationStart() : EventHandle.NOOP;
+	}
+
+	@Nonnull
+	public static EventHandle itemFinish() {
+		return JFR_PRESENT ? JfrEventHandle.itemFinish() : EventHandle.NOOP;
+	}
+
+	@Nonnull
+	public static EventHandle templatesFinish() {
+		return JFR_PRESENT ? JfrEventHandle.templatesFinish() : EventHandle.NOOP;
+	}
+
+	@Nonnull
+	public static EventHandle stackTraceFormat() {
+		return JFR_PRESENT ? JfrEventHandle.stackTraceFormat() : EventHandle.NOOP;
+	}
+
+	@Nonnull
+	public static EventHandle launchStart() {
+		return JFR_PRESENT ? JfrEventHandle.launchStart() : EventHandle.NOOP;
+	}
+
+	@Nonnull
+	public static EventHandle launchFinish() {
+		return JFR_PRESENT ? JfrEventHandle.launchFinish() : EventHandle.NOOP;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.jfr;
+
+import com.epam.reportportal.junit5.ItemType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * A started agent event, which does not depend on JFR classes, see {@link AgentEvents}
+ */
+public interface EventHandle {
+
+	/**
+	 * An event which is not recorded
+	 */
+	EventHandle NOOP = new EventHandle() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void commit() {
+		}
+
+		@Override
+		public void commit(@Nullable ItemType type, @Nonnull Supplier<String> codeRef) {
+		}
+	};
+
+	/**
+	 * @return true if the event is recorded, so its fields are worth calculating
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Ends the event and commits it if it is recorded
+	 */
+	void commit();
+
+	/**
+	 * Ends the event and commits it if it is recorded. The code reference is calculated in this case only.
+	 *
+	 * @param type    a type of the reported item
+	 * @param codeRef a supplier of the item code reference
+	 */
+	void commit(@Nullable ItemType type, @Nonnull Supplier<String> codeRef);
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.jfr;
+
+import com.epam.reportportal.junit5.ItemType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * A started JFR event, the class is loaded only if <code>jdk.jfr</code> module is present
+ */
+final class JfrEventHandle implements EventHandle {
+
+	private final AgentEvent event;
+
+	private JfrEventHandle(@Nonnull AgentEvent event) {
+		this.event = event;
+	}
+
+	/**
+	 * Begins the event if its type is enabled in a running recording
+	 *
+	 * @param event a new event
+	 * @return a handle of the event or {@link EventHandle#NOOP} if the event is not recorded
+	 */
+	@Nonnull
+	private static EventHandle begin(@Nonnull AgentEvent event) {
+		if (!event.isEnabled()) {
+			return NOOP;
+		}
+		event.begin();
+		return new JfrEventHandle(event);
+	}
+
+	@Nonnull
+	static EventHandle itemStart() {
+		return begin(new ItemStartEvent());
+	}
+
+	@Nonnull
+	static EventHandle configurationStart() {
+		return begin(new ConfigurationStartEvent());
+	}
+
+	@Nonnull
+	static EventHandle itemFinish() {
+		return begin(new ItemFinishEvent());
+	}
+
+	@Nonnull
+	static EventHandle templatesFinish() {
+		return begin(new TemplatesFinishEvent());
+	}
+
+	@Nonnull
+	static EventHandle stackTraceFormat() {
+		return begin(new StackTraceFormatEvent());
+	}
+
+	@Nonnull
+	static EventHandle launchStart() {
+		return begin(new LaunchStartEvent());
+	}
+
+	@Nonnull
+	static EventHandle launchFinish() {
+		return begin(new LaunchFinishEvent());
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return event.isEnabled();
+	}
+
+	@Override
+	public void commit() {
+		event.commit();
+	}
+
+	@Override
+	public void commit(@Nullable ItemType type, @Nonnull Supplier<String> codeRef) {
+		event.commit(type, codeRef);
+	}
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.journal;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+
+import static com.epam.reportportal.junit5.journal.JournalEncoder.*;
+
+/**
+ * Decodes journal records written by {@link JournalEncoder}. The decoder is stateful, it must see all records of a journal in order.
+ */
+public final class JournalDecoder {
+
+	private final List<String> dictionary = new ArrayList<>();
+	private final Map<Integer, String> items = new HashMap<>();
+	private String previousUniqueId = "";
+	private int nextItemId;
+	private long baseMicros;
+	private ByteBuffer in;
+
+	/**
+	 * Decodes a record
+	 *
+	 * @param payload a record payload read from a journal
+	 * @return the record
+	 * @throws IOException if the payload is malformed
+	 */
+	@Nonnull
+	public JournalRecord decode(@Nonnull byte[] payload) throws IOException {
+		in = ByteBuffer.wrap(payload);
+		try {
+			JournalRecord.Type type = JournalRecord.Type.of(in.get());
+			switch (type) {
+				case START_LAUNCH:
+					StartLaunchRQ startLaunch = HttpRequestUtils.MAPPER.readValue(requireBytes(), StartLaunchRQ.class);
+					baseMicros = toMicros(startLaunch.getStartTime());
+					return JournalRecord.startLaunch(startLaunch);
+				case FINISH_LAUNCH:
+					String launchUuid = requireString(readRawString());
+					return JournalRecord.finishLaunch(launchUuid, HttpRequestUtils.MAPPER.readValue(requireBytes(), FinishExecutionRQ.class));
+				case START_ITEM:
+					return readStartItem();
+				case FINISH_ITEM:
+					return readFinishItem();
+				case LOG:
+					return JournalRecord.log(readLog());
+				case LOG_BATCH:
+					return JournalRecord.logBatch(readLogBatch());
+				default:
+					throw new IOException("Unsupported journal record type: " + type);
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Malformed journal record", e);
+		} finally {
+			in = null;
+		}
+	}
+
+	@Nonnull
+	private JournalRecord readStartItem() throws IOException {
+		String parentUuid = readItem();
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setUuid(readUuid());
+		if (rq.getUuid() != null) {
+			items.put(nextItemId++, rq.getUuid());
+		}
+		rq.setName(readString());
+		rq.setDescription(readString());
+		rq.setAttributes(readAttributes());
+		rq.setStartTime(readTime());
+		rq.setCodeRef(readString());
+		rq.setParameters(readParameters());
+		rq.setUniqueId(readUniqueId());
+		rq.setTestCaseId(readString());
+		rq.setLaunchUuid(readString());
+		rq.setType(readString());
+		rq.setRetry(readBoolean());
+		rq.setHasStats(Boolean.TRUE.equals(readBoolean()));
+		rq.setRetryOf(readItem());
+		return JournalRecord.startItem(parentUuid, rq);
+	}
+
+	@Nonnull
+	private JournalRecord readFinishItem() throws IOException {
+		long reference = readVarLong();
+		String itemUuid = requireString(readItem(reference));
+		if (reference >= ITEM_ID) {
+			items.remove((int) (reference - ITEM_ID));
+		}
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setEndTime(readTime());
+		rq.setStatus(readString());
+		rq.setDescription(readRawString());
+		rq.setAttributes(readAttributes());
+		byte[] issue = readBytes();
+		if (issue != null) {
+			rq.setIssue(HttpRequestUtils.MAPPER.readValue(issue, Issue.class));
+		}
+		rq.setRetry(readBoolean());
+		rq.setLaunchUuid(readString());
+		rq.setTestCaseId(readString());
+		rq.setRetryOf(readItem());
+		return JournalRecord.finishItem(itemUuid, rq);
+	}
+
+	@Nonnull
+	private SaveLogRQ readLog() throws IOException {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setUuid(readRawString());
+		rq.setItemUuid(readItem());
+		rq.setLaunchUuid(readString());
+		rq.setLogTime(readTime());
+		rq.setMessage(readRawString());
+		rq.setLevel(readString());
+		if (readVarLong() != 0) {
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(readString());
+			file.setContentType(readString());
+			file.setContent(readBytes());
+			rq.setFile(file);
+		}
+		return rq;
+	}
+
+	@Nonnull
+	private List<JournalRecord.LogPart> readLogBatch() throws IOException {
+		int partNumber = readSize();
+		List<JournalRecord.LogPart> parts = new ArrayList<>(partNumber);
+		for (int i = 0; i < partNumber; i++) {
+			int headerNumber = readSize();
+			List<String> headers = new ArrayList<>(headerNumber);
+			for (int j = 0; j < headerNumber; j++) {
+				headers.add(requireString(readString()));
+			}
+			String contentType = readString();
+			byte[] content = readBytes();
+			parts.add(new JournalRecord.LogPart(headers, contentType, content == null ? new byte[0] : content));
+		}
+		return parts;
+	}
+
+	@Nullable
+	private Set<ItemAttributesRQ> readAttributes() throws IOException {
+		long size = readVarLong();
+		if (size == 0) {
+			return null;
+		}
+		Set<ItemAttributesRQ> attributes = new LinkedHashSet<>();
+		for (long i = 1; i < size; i++) {
+			String key = readString();
+			String value = readString();
+			attributes.add(new ItemAttributesRQ(key, value, in.get() != 0));
+		}
+		return attributes;
+	}
+
+	@Nullable
+	private List<ParameterResource> readParameters() throws IOException {
+		long size = readVarLong();
+		if (size == 0) {
+			return null;
+		}
+		List<ParameterResource> parameters = new ArrayList<>();
+		for (long i = 1; i < size; i++) {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey(readString());
+			parameter.setValue(readString());
+			parameters.add(parameter);
+		}
+		return parameters;
+	}
+
+	@Nullable
+	private Comparable<? extends Comparable<?>> readTime() throws IOException {
+		int type = in.get();
+		switch (type) {
+			case TIME_NULL:
+				return null;
+			case TIME_INSTANT_MICROS:
+				long micros = unZigZag(readVarLong()) + baseMicros;
+				return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000L);
+			case TIME_INSTANT_NANOS:
+				long seconds = unZigZag(readVarLong()) + baseMicros / 1_000_000L;
+				return Instant.ofEpochSecond(seconds, readVarLong());
+			case TIME_DATE:
+				return new Date(unZigZag(readVarLong()) + baseMicros / 1000L);
+			default:
+				throw new IOException("Unknown time type: " + type);
+		}
+	}
+
+	@Nullable
+	private Boolean readBoolean() {
+		int value = in.get();
+		return value == BOOLEAN_NULL ? null : value == BOOLEAN_TRUE;
+	}
+
+	@Nullable
+	private String readItem() throws IOException {
+		return readItem(readVarLong());
+	}
+
+	@Nullable
+	private String readItem(long reference) throws IOException {
+		if (reference == ITEM_NULL) {
+			return null;
+		}
+		if (reference == ITEM_UUID) {
+			return readUuid();
+		}
+		String uuid = items.get((int) (reference - ITEM_ID));
+		if (uuid == null) {
+			throw new IOException("Unknown journal item ID: " + (reference - ITEM_ID));
+		}
+		return uuid;
+	}
+
+	@Nullable
+	private String readUuid() throws IOException {
+		int type = in.get();
+		switch (type) {
+			case UUID_NULL:
+				return null;
+			case UUID_BINARY:
+				return new UUID(in.getLong(), in.getLong()).toString();
+			case UUID_TEXT:
+				return readUtf8();
+			default:
+				throw new IOException("Unknown UUID type: " + type);
+		}
+	}
+
+	@Nullable
+	private String readUniqueId() throws IOException {
+		long prefix = readVarLong();
+		if (prefix == 0) {
+			return null;
+		}
+		if (prefix - 1 > previousUniqueId.length()) {
+			throw new IOException("Malformed journal record: unique ID prefix exceeds the previous unique ID");
+		}
+		previousUniqueId = previousUniqueId.substring(0, (int) (prefix - 1)) + readUtf8();
+		return previousUniqueId;
+	}
+
+	@Nullable
+	private String readString() throws IOException {
+		long reference = readVarLong();
+		if (reference == STRING_NULL) {
+			return null;
+		}
+		if (reference == STRING_NEW) {
+			String value = readUtf8();
+			dictionary.add(value);
+			return value;
+		}
+		if (reference == STRING_RAW) {
+			return readUtf8();
+		}
+		long index = reference - STRING_INDEX;
+		if (index >= dictionary.size()) {
+			throw new IOException("Unknown journal string index: " + index);
+		}
+		return dictionary.get((int) index);
+	}
+
+	@Nullable
+	private String readRawString() throws IOException {
+		byte[] bytes = readBytes();
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	@Nonnull
+	private String readUtf8() throws IOException {
+		byte[] bytes = new byte[readSize()];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	@Nullable
+	private byte[] readBytes() throws IOException {
+		long length = readVarLong();
+		if (length == 0) {
+			return null;
+		}
+		if (length - 1 > in.remaining()) {
+			throw new IOException("Malformed journal record: length " + (length - 1) + " exceeds the record");
+		}
+		byte[] bytes = new byte[(int) (length - 1)];
+		in.get(bytes);
+		return bytes;
+	}
+
+	@Nonnull
+	private byte[] requireBytes() throws IOException {
+		byte[] bytes = readBytes();
+		if (bytes == null) {
+			throw new IOException("Journal record has no request");
+		}
+		return bytes;
+	}
+
+	@Nonnull
+	private static String requireString(@Nullable String value) throws IOException {
+		if (value == null) {
+			throw new IOException("Journal record has no ID");
+		}
+		return value;
+	}
+
+	private int readSize() throws IOException {
+		long size = readVarLong();
+		if (size > in.remaining()) {
+			throw new IOException("Malformed journal record: size " + size + " exceeds the record");
+		}
+		return (int) size;
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private long readVarLong() throws IOException {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IOException("Malformed journal record: variable-length number is too long");
+	}
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.journal;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes journal records into a compact binary form. The encoder is stateful, records must be decoded by a {@link JournalDecoder} in
+ * the same order they were encoded:
+ * <ul>
+ *     <li>repeated strings (names, code references, attributes, parameters, types) are written once and then referenced by their index
+ *     in a per-journal dictionary;</li>
+ *     <li>item UUIDs are written once at the item start as 16 bytes, parents, finishes and logs reference items by an integer ID;</li>
+ *     <li>unique IDs are written as a suffix after the prefix they share with the previous unique ID;</li>
+ *     <li>times are written as variable-length differences from the launch start time.</li>
+ * </ul>
+ * Launch start and finish records are written once per journal, their requests are stored as JSON.
+ */
+public final class JournalEncoder {
+
+	// String references: null, a new string which is added to the dictionary, a string which is not added (the dictionary is full),
+	// then dictionary indexes
+	static final int STRING_NULL = 0;
+	static final int STRING_NEW = 1;
+	static final int STRING_RAW = 2;
+	static final int STRING_INDEX = 3;
+
+	// Item references: null, an unknown item UUID, then item IDs
+	static final int ITEM_NULL = 0;
+	static final int ITEM_UUID = 1;
+	static final int ITEM_ID = 2;
+
+	static final int TIME_NULL = 0;
+	static final int TIME_INSTANT_MICROS = 1;
+	static final int TIME_INSTANT_NANOS = 2;
+	static final int TIME_DATE = 3;
+
+	static final int UUID_NULL = 0;
+	static final int UUID_BINARY = 1;
+	static final int UUID_TEXT = 2;
+
+	static final int BOOLEAN_NULL = 0;
+	static final int BOOLEAN_FALSE = 1;
+	static final int BOOLEAN_TRUE = 2;
+
+	/**
+	 * Maximum number of dictionary strings, the rest are written as is
+	 */
+	static final int DICTIONARY_LIMIT = 1 << 20;
+
+	private final Map<String, Integer> dictionary = new HashMap<>();
+	private final Map<String, Integer> items = new HashMap<>();
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+	private String previousUniqueId = "";
+	private int nextItemId;
+	private long baseMicros;
+
+	/**
+	 * Encodes a record
+	 *
+	 * @param record a journal record
+	 * @return record payload
+	 * @throws IOException if the record cannot be encoded
+	 */
+	@Nonnull
+	public byte[] encode(@Nonnull JournalRecord record) throws IOException {
+		out.reset();
+		out.write(record.getType().getCode());
+		switch (record.getType()) {
+			case START_LAUNCH:
+				StartLaunchRQ startLaunch = record.getRequest(StartLaunchRQ.class);
+				writeBytes(HttpRequestUtils.MAPPER.writeValueAsBytes(startLaunch));
+				baseMicros = toMicros(startLaunch.getStartTime());
+				break;
+			case FINISH_LAUNCH:
+				writeRawString(record.getId());
+				writeBytes(HttpRequestUtils.MAPPER.writeValueAsBytes(record.getRequest(FinishExecutionRQ.class)));
+				break;
+			case START_ITEM:
+				writeStartItem(record.getId(), record.getRequest(StartTestItemRQ.class));
+				break;
+			case FINISH_ITEM:
+				writeFinishItem(record.getId(), record.getRequest(FinishTestItemRQ.class));
+				break;
+			case LOG:
+				writeLog(record.getRequest(SaveLogRQ.class));
+				break;
+			case LOG_BATCH:
+				writeLogBatch(record.getParts());
+				break;
+		}
+		return out.toByteArray();
+	}
+
+	private void writeStartItem(@Nullable String parentUuid, @Nonnull StartTestItemRQ rq) throws IOException {
+		writeItem(parentUuid);
+		writeUuid(rq.getUuid());
+		if (rq.getUuid() != null) {
+			items.put(rq.getUuid(), nextItemId++);
+		}
+		writeString(rq.getName());
+		writeString(rq.getDescription());
+		writeAttributes(rq.getAttributes());
+		writeTime(rq.getStartTime());
+		writeString(rq.getCodeRef());
+		writeParameters(rq.getParameters());
+		writeUniqueId(rq.getUniqueId());
+		writeString(rq.getTestCaseId());
+		writeString(rq.getLaunchUuid());
+		writeString(rq.getType());
+		writeBoolean(rq.isRetry());
+		writeBoolean(rq.isHasStats());
+		writeItem(rq.getRetryOf());
+	}
+
+	private void writeFinishItem(@Nullable String itemUuid, @Nonnull FinishTestItemRQ rq) throws IOException {
+		writeItem(itemUuid);
+		if (itemUuid != null) {
+			// Finished items are referenced by logs rarely, they fall back to UUIDs
+			items.remove(itemUuid);
+		}
+		writeTime(rq.getEndTime());
+		writeString(rq.getStatus());
+		writeRawString(rq.getDescription());
+		writeAttributes(rq.getAttributes());
+		writeBytes(rq.getIssue() == null ? null : HttpRequestUtils.MAPPER.writeValueAsBytes(rq.getIssue()));
+		writeBoolean(rq.isRetry());
+		writeString(rq.getLaunchUuid());
+		writeString(rq.getTestCaseId());
+		writeItem(rq.getRetryOf());
+	}
+
+	private void writeLog(@Nonnull SaveLogRQ rq) throws IOException {
+		writeRawString(rq.getUuid());
+		writeItem(rq.getItemUuid());
+		writeString(rq.getLaunchUuid());
+		writeTime(rq.getLogTime());
+		writeRawString(rq.getMessage());
+		writeString(rq.getLevel());
+		SaveLogRQ.File file = rq.getFile();
+		if (file == null) {
+			writeVarLong(0);
+		} else {
+			writeVarLong(1);
+			writeString(file.getName());
+			writeString(file.getContentType());
+			writeBytes(file.getContent());
+		}
+	}
+
+	private void writeLogBatch(@Nonnull List<JournalRecord.LogPart> parts) throws IOException {
+		writeVarLong(parts.size());
+		for (JournalRecord.LogPart part : parts) {
+			writeVarLong(part.getHeaders().size());
+			for (String header : part.getHeaders()) {
+				writeString(header);
+			}
+			writeString(part.getContentType());
+			writeBytes(part.getContent());
+		}
+	}
+
+	private void writeAttributes(@Nullable Collection<ItemAttributesRQ> attributes) {
+		if (attributes == null) {
+			writeVarLong(0);
+			return;
+		}
+		writeVarLong(attributes.size() + 1);
+		for (ItemAttributesRQ attribute : attributes) {
+			writeString(attribute.getKey());
+			writeString(attribute.getValue());
+			out.write(attribute.isSystem() ? 1 : 0);
+		}
+	}
+
+	private void writeParameters(@Nullable List<ParameterResource> parameters) {
+		if (parameters == null) {
+			writeVarLong(0);
+			return;
+		}
+		writeVarLong(parameters.size() + 1);
+		for (ParameterResource parameter : parameters) {
+			writeString(parameter.getKey());
+			writeString(parameter.getValue());
+		}
+	}
+
+	static long toMicros(@Nullable Comparable<?> time) {
+		if (time instanceof Instant) {
+			Instant instant = (Instant) time;
+			return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1000;
+		}
+		if (time instanceof Date) {
+			return ((Date) time).getTime() * 1000L;
+		}
+		return 0L;
+	}
+
+	private void writeTime(@Nullable Comparable<?> time) throws IOException {
+		if (time == null) {
+			out.write(TIME_NULL);
+		} else if (time instanceof Instant) {
+			Instant instant = (Instant) time;
+			if (instant.getNano() % 1000 == 0) {
+				out.write(TIME_INSTANT_MICROS);
+				writeVarLong(zigZag(toMicros(instant) - baseMicros));
+			} else {
+				out.write(TIME_INSTANT_NANOS);
+				writeVarLong(zigZag(instant.getEpochSecond() - baseMicros / 1_000_000L));
+				writeVarLong(instant.getNano());
+			}
+		} else if (time instanceof Date) {
+			out.write(TIME_DATE);
+			writeVarLong(zigZag(((Date) time).getTime() - baseMicros / 1000L));
+		} else {
+			throw new IOException("Unsupported time type: " + time.getClass().getName());
+		}
+	}
+
+	private void writeBoolean(@Nullable Boolean value) {
+		out.write(value == null ? BOOLEAN_NULL : value ? BOOLEAN_TRUE : BOOLEAN_FALSE);
+	}
+
+	private void writeItem(@Nullable String uuid) {
+		if (uuid == null) {
+			writeVarLong(ITEM_NULL);
+			return;
+		}
+		Integer id = items.get(uuid);
+		if (id == null) {
+			writeVarLong(ITEM_UUID);
+			writeUuid(uuid);
+		} else {
+			writeVarLong(ITEM_ID + id);
+		}
+	}
+
+	private void writeUuid(@Nullable String uuid) {
+		if (uuid == null) {
+			out.write(UUID_NULL);
+			return;
+		}
+		UUID parsed = parseUuid(uuid);
+		if (parsed == null) {
+			out.write(UUID_TEXT);
+			writeUtf8(uuid);
+		} else {
+			out.write(UUID_BINARY);
+			writeLong(parsed.getMostSignificantBits());
+			writeLong(parsed.getLeastSignificantBits());
+		}
+	}
+
+	/**
+	 * @return parsed UUID if it is written in the canonical form, so it is restored to the same string
+	 */
+	@Nullable
+	private static UUID parseUuid(@Nonnull String uuid) {
+		if (uuid.length() != 36) {
+			return null;
+		}
+		try {
+			UUID parsed = UUID.fromString(uuid);
+			return parsed.toString().equals(uuid) ? parsed : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private void writeUniqueId(@Nullable String uniqueId) {
+		if (uniqueId == null) {
+			writeVarLong(0);
+			return;
+		}
+		int prefix = 0;
+		int limit = Math.min(uniqueId.length(), previousUniqueId.length());
+		while (prefix < limit && uniqueId.charAt(prefix) == previousUniqueId.charAt(prefix)) {
+			prefix++;
+		}
+		if (prefix > 0 && Character.isHighSurrogate(uniqueId.charAt(prefix - 1))) {
+			prefix--;
+		}
+		writeVarLong(prefix + 1L);
+		writeUtf8(uniqueId.substring(prefix));
+		previousUniqueId = uniqueId;
+	}
+
+	private void writeLong(long value) {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			out.write((int) (value >>> shift));
+		}
+	}
+
+	private void writeString(@Nullable String value) {
+		if (value == null) {
+			writeVarLong(STRING_NULL);
+			return;
+		}
+		Integer index = dictionary.get(value);
+		if (index != null) {
+			writeVarLong(STRING_INDEX + (long) index);
+		} else if (dictionary.size() < DICTIONARY_LIMIT) {
+			dictionary.put(value, dictionary.size());
+			writeVarLong(STRING_NEW);
+			writeUtf8(value);
+		} else {
+			writeVarLong(STRING_RAW);
+			writeUtf8(value);
+		}
+	}
+
+	private void writeRawString(@Nullable String value) {
+		if (value == null) {
+			writeVarLong(0);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(bytes.length + 1L);
+			out.write(bytes, 0, bytes.length);
+		}
+	}
+
+	private void writeUtf8(@Nonnull String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private void writeBytes(@Nullable byte[] value) {
+		if (value == null) {
+			writeVarLong(0);
+		} else {
+			writeVarLong(value.length + 1L);
+			out.write(value, 0, value.length);
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private void writeVarLong(long value) {
+		long remaining = value;
+		while ((remaining & ~0x7FL) != 0) {
+			out.write((int) ((remaining & 0x7F) | 0x80));
+			remaining >>>= 7;
+		}
+		out.write((int) remaining);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.journal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static com.epam.reportportal.junit5.journal.JournalWriter.*;
+
+/**
+ * Reads records of a journal written by {@link JournalWriter}. Reading stops at the first incomplete or corrupted record, which is what
+ * a process crash in the middle of a write leaves in the file.
+ */
+public class JournalReader implements Closeable {
+
+	private final FileChannel channel;
+	private final long size;
+	private final int version;
+	private final ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+	private final CRC32 checksum = new CRC32();
+	private final JournalDecoder decoder = new JournalDecoder();
+	private long position;
+	private boolean truncated;
+
+	/**
+	 * @param file path to the journal file
+	 * @throws IOException if the file cannot be read or it is not a journal
+	 */
+	public JournalReader(@Nonnull Path file) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		size = channel.size();
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		if (size < HEADER_SIZE || !readFully(header, 0) || header.getInt(0) != MAGIC) {
+			channel.close();
+			throw new IOException("Not a journal file: " + file);
+		}
+		version = header.getInt(Integer.BYTES);
+		if (version != VERSION) {
+			channel.close();
+			throw new IOException("Unsupported journal version " + version + ": " + file);
+		}
+		position = HEADER_SIZE;
+	}
+
+	private boolean readFully(@Nonnull ByteBuffer buffer, long start) throws IOException {
+		long offset = start;
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, offset);
+			if (read < 0) {
+				return false;
+			}
+			offset += read;
+		}
+		return true;
+	}
+
+	/**
+	 * @return format version of the journal
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Reads the next record
+	 *
+	 * @return payload of the record or null if there are no more complete records
+	 * @throws IOException if the file cannot be read
+	 */
+	@Nullable
+	public byte[] next() throws IOException {
+		if (truncated || position + RECORD_HEADER_SIZE > size) {
+			return null;
+		}
+		recordHeader.clear();
+		readFully(recordHeader, position);
+		int length = recordHeader.getInt(0);
+		if (length <= 0 || position + RECORD_HEADER_SIZE + length > size) {
+			truncated = length != 0;
+			return null;
+		}
+		ByteBuffer payload = ByteBuffer.allocate(length);
+		readFully(payload, position + RECORD_HEADER_SIZE);
+		checksum.reset();
+		checksum.update(payload.array());
+		if ((int) checksum.getValue() != recordHeader.getInt(Integer.BYTES)) {
+			truncated = true;
+			return null;
+		}
+		position += RECORD_HEADER_SIZE + length;
+		return payload.array();
+	}
+
+	/**
+	 * Reads and decodes the next record
+	 *
+	 * @return the record or null if there are no more complete records
+	 * @throws IOException if the file cannot be read or the record is malformed
+	 */
+	@Nullable
+	public JournalRecord nextRecord() throws IOException {
+		byte[] payload = next();
+		return payload == null ? null : decoder.decode(payload);
+	}
+
+	/**
+	 * @return true if reading stopped at a torn or corrupted record rather than at the regular end of the journal
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
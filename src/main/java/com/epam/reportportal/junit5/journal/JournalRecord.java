@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.journal;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single ReportPortal API call recorded in a journal: its type, the ID of the item or launch it is addressed to and the request body.
+ * Records are written to journal files by {@link JournalEncoder} and read back by {@link JournalDecoder}.
+ */
+public final class JournalRecord {
+
+	/**
+	 * Recorded API call. Codes are written to journal files, so they must never change.
+	 */
+	public enum Type {
+		START_LAUNCH(1),
+		FINISH_LAUNCH(2),
+		START_ITEM(3),
+		FINISH_ITEM(4),
+		LOG(5),
+		LOG_BATCH(6);
+
+		private final byte code;
+
+		Type(int code) {
+			this.code = (byte) code;
+		}
+
+		byte getCode() {
+			return code;
+		}
+
+		@Nonnull
+		static Type of(byte code) throws IOException {
+			for (Type type : values()) {
+				if (type.code == code) {
+					return type;
+				}
+			}
+			throw new IOException("Unknown journal record type: " + code);
+		}
+	}
+
+	/**
+	 * A part of a multipart log request: part headers, content type and content bytes
+	 */
+	public static final class LogPart {
+		private final List<String> headers;
+		private final String contentType;
+		private final byte[] content;
+
+		public LogPart(@Nonnull List<String> headers, @Nullable String contentType, @Nonnull byte[] content) {
+			this.headers = Collections.unmodifiableList(headers);
+			this.contentType = contentType;
+			this.content = content;
+		}
+
+		/**
+		 * Copies a multipart request part
+		 *
+		 * @param part a part of a log request
+		 * @return the part copy
+		 * @throws IOException if the part body cannot be read
+		 */
+		@Nonnull
+		public static LogPart of(@Nonnull MultipartBody.Part part) throws IOException {
+			List<String> headers = new ArrayList<>();
+			Headers partHeaders = part.headers();
+			if (partHeaders != null) {
+				for (int i = 0; i < partHeaders.size(); i++) {
+					headers.add(partHeaders.name(i));
+					headers.add(partHeaders.value(i));
+				}
+			}
+			RequestBody body = part.body();
+			Buffer buffer = new Buffer();
+			body.writeTo(buffer);
+			MediaType type = body.contentType();
+			return new LogPart(headers, type == null ? null : type.toString(), buffer.readByteArray());
+		}
+
+		/**
+		 * @return header names and values one after another
+		 */
+		@Nonnull
+		public List<String> getHeaders() {
+			return headers;
+		}
+
+		@Nullable
+		public String getContentType() {
+			return contentType;
+		}
+
+		@Nonnull
+		public byte[] getContent() {
+			return content;
+		}
+
+		/**
+		 * @return a multipart request part equal to the copied one
+		 */
+		@Nonnull
+		public MultipartBody.Part toPart() {
+			RequestBody body = RequestBody.create(content, contentType == null ? null : MediaType.get(contentType));
+			return MultipartBody.Part.create(Headers.of(headers.toArray(new String[0])), body);
+		}
+	}
+
+	private final Type type;
+	private final String id;
+	private final Object request;
+
+	private JournalRecord(@Nonnull Type type, @Nullable String id, @Nonnull Object request) {
+		this.type = type;
+		this.id = id;
+		this.request = request;
+	}
+
+	@Nonnull
+	public static JournalRecord startLaunch(@Nonnull StartLaunchRQ rq) {
+		return new JournalRecord(Type.START_LAUNCH, null, rq);
+	}
+
+	@Nonnull
+	public static JournalRecord finishLaunch(@Nonnull String launchUuid, @Nonnull FinishExecutionRQ rq) {
+		return new JournalRecord(Type.FINISH_LAUNCH, launchUuid, rq);
+	}
+
+	@Nonnull
+	public static JournalRecord startItem(@Nullable String parentUuid, @Nonnull StartTestItemRQ rq) {
+		return new JournalRecord(Type.START_ITEM, parentUuid, rq);
+	}
+
+	@Nonnull
+	public static JournalRecord finishItem(@Nonnull String itemUuid, @Nonnull FinishTestItemRQ rq) {
+		return new JournalRecord(Type.FINISH_ITEM, itemUuid, rq);
+	}
+
+	@Nonnull
+	public static JournalRecord log(@Nonnull SaveLogRQ rq) {
+		return new JournalRecord(Type.LOG, null, rq);
+	}
+
+	@Nonnull
+	public static JournalRecord logBatch(@Nonnull List<LogPart> parts) {
+		return new JournalRecord(Type.LOG_BATCH, null, Collections.unmodifiableList(parts));
+	}
+
+	@Nonnull
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return launch UUID for {@link Type#FINISH_LAUNCH}, parent item UUID (null for root items) for {@link Type#START_ITEM} and item UUID
+	 * for {@link Type#FINISH_ITEM}, null for other types
+	 */
+	@Nullable
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the request of the record
+	 *
+	 * @param requestType expected request type
+	 * @param <T>         request type
+	 * @return the request
+	 */
+	@Nonnull
+	public <T> T getRequest(@Nonnull Class<T> requestType) {
+		return requestType.cast(request);
+	}
+
+	/**
+	 * @return parts of a {@link Type#LOG_BATCH} request
+	 */
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	public List<LogPart> getParts() {
+		return (List<LogPart>) request;
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.journal;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MultipartBody;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * ReportPortal client which writes every launch, item and log request into a {@link JournalWriter journal} instead of sending it, so
+ * tests run at local disk speed regardless of ReportPortal server availability. Launch and item UUIDs are generated on the client side
+ * and stored in the requests, so the journal can be uploaded later with the same UUIDs.
+ * <p>
+ * Requests which read data from ReportPortal are not supported and return empty results.
+ */
+public class JournalReportPortalClient implements ReportPortalClient, Closeable {
+
+	private final JournalWriter writer;
+
+	/**
+	 * @param file path to the journal file, an existing file is overwritten
+	 * @throws IOException if the journal cannot be created
+	 */
+	public JournalReportPortalClient(@Nonnull Path file) throws IOException {
+		this(new JournalWriter(file));
+	}
+
+	public JournalReportPortalClient(@Nonnull JournalWriter writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * @return the journal the client writes to
+	 */
+	@Nonnull
+	public JournalWriter getWriter() {
+		return writer;
+	}
+
+	@Nonnull
+	private <T> Maybe<T> append(@Nonnull JournalRecord record, @Nonnull T response) {
+		try {
+			writer.append(record);
+			return Maybe.just(response);
+		} catch (IOException | RuntimeException e) {
+			return Maybe.error(e);
+		}
+	}
+
+	@Nonnull
+	private static String uuid(@Nonnull StartRQ rq) {
+		String uuid = ofNullable(rq.getUuid()).orElseGet(() -> UUID.randomUUID().toString());
+		rq.setUuid(uuid);
+		return uuid;
+	}
+
+	@Override
+	public Maybe<ApiInfo> getApiInfo() {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		String uuid = uuid(rq);
+		return append(JournalRecord.startLaunch(rq), new StartLaunchRS(uuid, null));
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launchId, UpdateLaunchRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launchId, FinishExecutionRQ rq) {
+		Maybe<OperationCompletionRS> result = append(
+				JournalRecord.finishLaunch(launchId, rq),
+				new OperationCompletionRS("Launch " + launchId + " is written to the journal")
+		);
+		writer.force();
+		return result;
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return startTestItem(null, rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(@Nullable String parentId, StartTestItemRQ rq) {
+		String uuid = uuid(rq);
+		return append(JournalRecord.startItem(parentId, rq), new ItemCreatedRS(uuid, uuid));
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		return append(JournalRecord.finishItem(itemId, rq), new OperationCompletionRS("Item " + itemId + " is written to the journal"));
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		String uuid = ofNullable(rq.getUuid()).orElseGet(() -> UUID.randomUUID().toString());
+		rq.setUuid(uuid);
+		return append(JournalRecord.log(rq), new EntryCreatedAsyncRS(uuid));
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+		List<JournalRecord.LogPart> copies = new ArrayList<>(parts.size());
+		try {
+			for (MultipartBody.Part part : parts) {
+				copies.add(JournalRecord.LogPart.of(part));
+			}
+		} catch (IOException e) {
+			return Maybe.error(e);
+		}
+		return append(JournalRecord.logBatch(copies), new BatchSaveOperatingRS());
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return Maybe.empty();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+}
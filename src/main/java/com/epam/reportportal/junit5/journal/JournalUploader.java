@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.journal;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MultipartBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Replays journals written in spool mode (see {@link JournalReportPortalClient}) to ReportPortal. Items keep the UUIDs they got in the
+ * journal, so parent references are resolved in a single streaming pass: every request waits only for the requests it depends on (an
+ * item start for its parent start, an item finish for its children and logs, a log for its item start) and runs concurrently with all
+ * the others. The launch is finished after all other requests complete.
+ * <p>
+ * Command line usage, ReportPortal connection parameters are read from <code>reportportal.properties</code> file and system properties,
+ * the number of concurrent requests is <code>rp.io.pool.size</code>:
+ * <pre>
+ * java -cp &lt;classpath&gt; com.epam.reportportal.junit5.journal.JournalUploader &lt;journal file or directory&gt;...
+ * </pre>
+ */
+public class JournalUploader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalUploader.class);
+
+	private static final String THREAD_NAME_PREFIX = "rp-upload-";
+	private static final int IN_FLIGHT_PER_THREAD = 16;
+
+	private final ReportPortalClient client;
+	private final int concurrency;
+
+	/**
+	 * @param client      ReportPortal client to send requests with
+	 * @param concurrency maximum number of concurrent requests
+	 */
+	public JournalUploader(@Nonnull ReportPortalClient client, int concurrency) {
+		this.client = client;
+		this.concurrency = Math.max(concurrency, 1);
+	}
+
+	/**
+	 * Upload statistics of a journal
+	 */
+	public static final class Result {
+		private final String launchUuid;
+		private final long items;
+		private final long logs;
+		private final long failures;
+		private final boolean truncated;
+		private final long durationMillis;
+
+		private Result(@Nullable String launchUuid, long items, long logs, long failures, boolean truncated, long durationMillis) {
+			this.launchUuid = launchUuid;
+			this.items = items;
+			this.logs = logs;
+			this.failures = failures;
+			this.truncated = truncated;
+			this.durationMillis = durationMillis;
+		}
+
+		@Nullable
+		public String getLaunchUuid() {
+			return launchUuid;
+		}
+
+		/**
+		 * @return number of uploaded test items
+		 */
+		public long getItems() {
+			return items;
+		}
+
+		/**
+		 * @return number of uploaded log requests
+		 */
+		public long getLogs() {
+			return logs;
+		}
+
+		/**
+		 * @return number of failed requests, including requests skipped because a request they depend on failed
+		 */
+		public long getFailures() {
+			return failures;
+		}
+
+		/**
+		 * @return true if the journal ends with a torn or corrupted record
+		 */
+		public boolean isTruncated() {
+			return truncated;
+		}
+
+		public long getDurationMillis() {
+			return durationMillis;
+		}
+	}
+
+	/**
+	 * State of a single journal replay
+	 */
+	private final class Replay {
+		private final ExecutorService executor;
+		private final Semaphore inFlight = new Semaphore(concurrency * IN_FLIGHT_PER_THREAD);
+		private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+		// The last scheduled request of an item: its start, then its finish. Finished items are removed.
+		private final Map<String, CompletableFuture<?>> items = new ConcurrentHashMap<>();
+		// Reader thread only
+		private final Map<String, List<String>> children = new HashMap<>();
+		private final Map<String, List<CompletableFuture<?>>> logs = new HashMap<>();
+		private final AtomicLong itemCount = new AtomicLong();
+		private final AtomicLong logCount = new AtomicLong();
+		private final AtomicLong failures = new AtomicLong();
+		private CompletableFuture<?> launchStart;
+		private String launchUuid;
+		private boolean launchFinished;
+
+		private Replay(@Nonnull ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Nonnull
+		private CompletableFuture<?> submit(@Nonnull List<CompletableFuture<?>> dependencies, @Nonnull Runnable request) {
+			inFlight.acquireUninterruptibly();
+			CompletableFuture<?> result = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+					.thenRunAsync(request, executor);
+			pending.add(result);
+			result.whenComplete((r, e) -> {
+				pending.remove(result);
+				inFlight.release();
+				if (e != null) {
+					failures.incrementAndGet();
+					LOGGER.debug("Unable to upload a journal record", e);
+				}
+			});
+			return result;
+		}
+
+		@Nonnull
+		private CompletableFuture<?> dependency(@Nullable String itemUuid) {
+			CompletableFuture<?> item = itemUuid == null ? null : items.get(itemUuid);
+			return item == null ? launchStart() : item;
+		}
+
+		@Nonnull
+		private CompletableFuture<?> launchStart() {
+			if (launchStart == null) {
+				throw new IllegalStateException("Journal record found before the launch start");
+			}
+			return launchStart;
+		}
+
+		private void replay(@Nonnull JournalRecord record) throws IOException {
+			switch (record.getType()) {
+				case START_LAUNCH:
+					StartLaunchRQ startLaunch = record.getRequest(StartLaunchRQ.class);
+					launchUuid = startLaunch.getUuid();
+					launchStart = submit(Collections.emptyList(), () -> client.startLaunch(startLaunch).blockingGet());
+					break;
+				case START_ITEM:
+					StartTestItemRQ startItem = record.getRequest(StartTestItemRQ.class);
+					String parentUuid = record.getId();
+					CompletableFuture<?> start = submit(
+							Collections.singletonList(dependency(parentUuid)), parentUuid == null ?
+									() -> client.startTestItem(startItem).blockingGet() :
+									() -> client.startTestItem(parentUuid, startItem).blockingGet()
+					);
+					items.put(startItem.getUuid(), start);
+					ofNullable(parentUuid).ifPresent(p -> children.computeIfAbsent(p, k -> new ArrayList<>()).add(startItem.getUuid()));
+					itemCount.incrementAndGet();
+					break;
+				case FINISH_ITEM:
+					String itemUuid = record.getId();
+					FinishTestItemRQ finishItem = record.getRequest(FinishTestItemRQ.class);
+					// Children which are not in the map are already finished
+					List<CompletableFuture<?>> dependencies = ofNullable(children.remove(itemUuid)).orElse(Collections.emptyList())
+							.stream()
+							.map(items::get)
+							.filter(Objects::nonNull)
+							.collect(Collectors.toCollection(ArrayList::new));
+					dependencies.addAll(ofNullable(logs.remove(itemUuid)).orElse(Collections.emptyList()));
+					dependencies.add(dependency(itemUuid));
+					CompletableFuture<?> finish = submit(dependencies, () -> client.finishTestItem(itemUuid, finishItem).blockingGet());
+					items.put(itemUuid, finish);
+					finish.whenComplete((r, e) -> items.remove(itemUuid, finish));
+					break;
+				case LOG:
+					SaveLogRQ log = record.getRequest(SaveLogRQ.class);
+					CompletableFuture<?> logged = submit(
+							Collections.singletonList(dependency(log.getItemUuid())),
+							() -> client.log(log).blockingGet()
+					);
+					addLog(Collections.singleton(log.getItemUuid()), logged);
+					logCount.incrementAndGet();
+					break;
+				case LOG_BATCH:
+					List<MultipartBody.Part> parts = record.getParts().stream().map(JournalRecord.LogPart::toPart).collect(Collectors.toList());
+					Set<String> logItems = new HashSet<>();
+					for (JournalRecord.LogPart part : record.getParts()) {
+						logItems.addAll(logItemUuids(part));
+					}
+					List<CompletableFuture<?>> logDependencies = logItems.stream().map(this::dependency).collect(Collectors.toList());
+					if (logDependencies.isEmpty()) {
+						logDependencies.add(launchStart());
+					}
+					addLog(logItems, submit(logDependencies, () -> client.log(parts).blockingGet()));
+					logCount.incrementAndGet();
+					break;
+				case FINISH_LAUNCH:
+					finishLaunch(record.getId(), record.getRequest(FinishExecutionRQ.class));
+					break;
+			}
+		}
+
+		/**
+		 * An item is finished after its logs are uploaded
+		 */
+		private void addLog(@Nonnull Collection<String> itemUuids, @Nonnull CompletableFuture<?> log) {
+			itemUuids.stream().filter(Objects::nonNull).forEach(uuid -> logs.computeIfAbsent(uuid, k -> new ArrayList<>()).add(log));
+		}
+
+		/**
+		 * Reads item UUIDs of log entries from the JSON part of a multipart log request
+		 */
+		@Nonnull
+		private Set<String> logItemUuids(@Nonnull JournalRecord.LogPart part) throws IOException {
+			if (part.getContentType() == null || !part.getContentType().startsWith("application/json")) {
+				return Collections.emptySet();
+			}
+			Set<String> result = new HashSet<>();
+			for (JsonNode log : HttpRequestUtils.MAPPER.readTree(part.getContent())) {
+				JsonNode itemUuid = log.get("itemUuid");
+				if (itemUuid != null && !itemUuid.isNull()) {
+					result.add(itemUuid.asText());
+				}
+			}
+			return result;
+		}
+
+		private void finishLaunch(@Nonnull String uuid, @Nonnull FinishExecutionRQ rq) {
+			List<CompletableFuture<?>> dependencies = new ArrayList<>(pending);
+			dependencies.add(launchStart());
+			// The launch is finished even if some requests failed, so it does not stay in progress on the server
+			CompletableFuture<?> all = CompletableFuture.allOf(dependencies.stream()
+					.map(f -> f.handle((r, e) -> null))
+					.toArray(CompletableFuture<?>[]::new));
+			submit(Collections.singletonList(all), () -> client.finishLaunch(uuid, rq).blockingGet());
+			launchFinished = true;
+		}
+
+		private void await() {
+			while (!pending.isEmpty()) {
+				CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).handle((r, e) -> null).join();
+			}
+		}
+	}
+
+	/**
+	 * Uploads a journal to ReportPortal. If the journal has no launch finish record (the test process died), the launch is finished after
+	 * all recorded requests are uploaded.
+	 *
+	 * @param journal path to a journal file
+	 * @return upload statistics
+	 * @throws IOException if the journal cannot be read
+	 */
+	@Nonnull
+	public Result upload(@Nonnull Path journal) throws IOException {
+		long start = System.nanoTime();
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(
+				concurrency, r -> {
+					Thread thread = new Thread(r, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		Replay replay = new Replay(executor);
+		boolean truncated;
+		try (JournalReader reader = new JournalReader(journal)) {
+			JournalRecord record;
+			while ((record = reader.nextRecord()) != null) {
+				replay.replay(record);
+			}
+			truncated = reader.isTruncated();
+			if (truncated) {
+				LOGGER.warn("Journal {} ends with a torn record, the rest of the journal is skipped", journal);
+			}
+			if (!replay.launchFinished && replay.launchStart != null) {
+				LOGGER.warn("Journal {} has no launch finish record, the launch is finished after the upload", journal);
+				FinishExecutionRQ rq = new FinishExecutionRQ();
+				rq.setEndTime(Instant.now());
+				replay.finishLaunch(replay.launchUuid, rq);
+			}
+		} finally {
+			replay.await();
+			executor.shutdown();
+		}
+		return new Result(
+				replay.launchUuid,
+				replay.itemCount.get(),
+				replay.logCount.get(),
+				replay.failures.get(),
+				truncated,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+		);
+	}
+
+	/**
+	 * Lists journals to upload
+	 *
+	 * @param path path to a journal file or to a directory with journal files
+	 * @return the file itself, or journal files of the directory sorted by name
+	 * @throws IOException if the directory cannot be read
+	 */
+	@Nonnull
+	public static List<Path> listJournals(@Nonnull Path path) throws IOException {
+		if (!Files.isDirectory(path)) {
+			return Collections.singletonList(path);
+		}
+		try (Stream<Path> files = Files.list(path)) {
+			return files.filter(f -> f.getFileName().toString().endsWith(JournalWriter.FILE_EXTENSION))
+					.filter(Files::isRegularFile)
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("Usage: " + JournalUploader.class.getName() + " <journal file or directory>...");
+			System.exit(2);
+		}
+		ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+		ReportPortalClient client = ReportPortal.builder().withParameters(parameters).build().getClient();
+		if (client == null) {
+			System.err.println("ReportPortal client is not configured, check 'rp.enable' and 'rp.endpoint' properties");
+			System.exit(2);
+		}
+		JournalUploader uploader = new JournalUploader(client, parameters.getIoPoolSize());
+		long failures = 0;
+		for (String arg : args) {
+			for (Path journal : listJournals(Paths.get(arg))) {
+				Result result = uploader.upload(journal);
+				failures += result.getFailures();
+				System.out.printf(
+						"%s: launch %s, %d items and %d log requests uploaded in %d ms (%.1f items/s), %d failed requests%s%n",
+						journal,
+						result.getLaunchUuid(),
+						result.getItems(),
+						result.getLogs(),
+						result.getDurationMillis(),
+						result.getItems() * 1000.0 / Math.max(result.getDurationMillis(), 1),
+						result.getFailures(),
+						result.isTruncated() ? ", the journal is truncated" : ""
+				);
+			}
+		}
+		System.exit(failures > 0 ? 1 : 0);
+	}
+}
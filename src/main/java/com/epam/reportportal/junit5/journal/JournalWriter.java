@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.journal;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal file written through memory mapped regions of the file. The file starts with a header (magic number and format
+ * version), then records follow, every record is <code>[payload length][CRC32 of payload][payload]</code>. Version 2 payloads are
+ * encoded by {@link JournalEncoder}.
+ * <p>
+ * The length of a record is written after its payload and checksum, and the file is extended with zeros, so if the process dies in the
+ * middle of a write a reader sees either the whole record or a zero length, which marks the end of the journal. A record with a checksum
+ * mismatch is treated the same way.
+ */
+public class JournalWriter implements Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalWriter.class);
+
+	static final int MAGIC = 0x52504A35; // "RPJ5"
+	static final int HEADER_SIZE = Integer.BYTES * 2;
+	static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+	/**
+	 * Journal format version
+	 */
+	public static final int VERSION = 2;
+
+	/**
+	 * Extension of journal files
+	 */
+	public static final String FILE_EXTENSION = ".rpj";
+
+	private static final int REGION_SIZE = 8 * 1024 * 1024;
+
+	private final Path file;
+	private final FileChannel channel;
+	private final CRC32 checksum = new CRC32();
+	private final JournalEncoder encoder = new JournalEncoder();
+	// Filled regions which were not flushed since they were left, they stay mapped until the next force
+	private final List<MappedByteBuffer> filledRegions = new ArrayList<>();
+	private MappedByteBuffer region;
+	private long regionStart;
+	private long position;
+	private boolean closed;
+
+	/**
+	 * Creates a new journal, an existing file is overwritten
+	 *
+	 * @param file path to the journal file
+	 * @throws IOException if the file cannot be created or mapped
+	 */
+	public JournalWriter(@Nonnull Path file) throws IOException {
+		this.file = file;
+		channel = FileChannel.open(
+				file,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING
+		);
+		map(0, HEADER_SIZE);
+		region.putInt(0, MAGIC);
+		region.putInt(Integer.BYTES, VERSION);
+		position = HEADER_SIZE;
+	}
+
+	private void map(long start, int size) throws IOException {
+		if (region != null) {
+			filledRegions.add(region);
+		}
+		region = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.max(REGION_SIZE, size));
+		regionStart = start;
+	}
+
+	/**
+	 * @return path to the journal file
+	 */
+	@Nonnull
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Appends a record to the journal
+	 *
+	 * @param payload record content
+	 * @throws IOException if the journal is closed or the file cannot be extended
+	 */
+	public synchronized void append(@Nonnull byte[] payload) throws IOException {
+		if (closed) {
+			throw new IOException("Journal is closed: " + file);
+		}
+		int size = RECORD_HEADER_SIZE + payload.length;
+		if (position + size > regionStart + region.capacity()) {
+			map(position, size);
+		}
+		int offset = (int) (position - regionStart);
+		checksum.reset();
+		checksum.update(payload);
+		ByteBuffer target = region.duplicate();
+		target.position(offset + RECORD_HEADER_SIZE);
+		target.put(payload);
+		region.putInt(offset + Integer.BYTES, (int) checksum.getValue());
+		region.putInt(offset, payload.length);
+		position += size;
+	}
+
+	/**
+	 * Encodes and appends a record to the journal
+	 *
+	 * @param record a journal record
+	 * @throws IOException if the record cannot be encoded or the journal is closed
+	 */
+	public synchronized void append(@Nonnull JournalRecord record) throws IOException {
+		append(encoder.encode(record));
+	}
+
+	/**
+	 * Flushes written records to the storage device
+	 */
+	public synchronized void force() {
+		if (!closed) {
+			forceRegions();
+		}
+	}
+
+	private void forceRegions() {
+		filledRegions.forEach(MappedByteBuffer::force);
+		filledRegions.clear();
+		region.force();
+	}
+
+	/**
+	 * Flushes the journal and cuts the unused mapped tail of the file
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		forceRegions();
+		try {
+			channel.truncate(position);
+		} catch (IOException e) {
+			// Some platforms do not allow to truncate a mapped file, zeros at the end are treated as the end of the journal anyway
+			LOGGER.debug("Unable to truncate journal file {}", file, e);
+		}
+		channel.close();
+	}
+}
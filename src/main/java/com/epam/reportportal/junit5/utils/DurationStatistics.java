@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Count, time span and duration percentiles of test invocations which are not reported one by one. Durations are kept in a plain
+ * array, so an invocation costs 8 bytes.
+ */
+public final class DurationStatistics {
+
+	private long[] durations = new long[16];
+	private int count;
+	private Instant firstStart;
+	private Instant lastEnd;
+
+	/**
+	 * Adds an invocation
+	 *
+	 * @param start invocation start time
+	 * @param end   invocation end time
+	 */
+	public synchronized void add(@Nonnull Instant start, @Nonnull Instant end) {
+		if (count == durations.length) {
+			durations = Arrays.copyOf(durations, count * 2);
+		}
+		durations[count++] = Math.max(0, Duration.between(start, end).toNanos());
+		if (firstStart == null || start.isBefore(firstStart)) {
+			firstStart = start;
+		}
+		if (lastEnd == null || end.isAfter(lastEnd)) {
+			lastEnd = end;
+		}
+	}
+
+	/**
+	 * @return number of invocations
+	 */
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the earliest invocation start time, null if there are no invocations
+	 */
+	@Nullable
+	public synchronized Instant getFirstStart() {
+		return firstStart;
+	}
+
+	/**
+	 * @return the latest invocation end time, null if there are no invocations
+	 */
+	@Nullable
+	public synchronized Instant getLastEnd() {
+		return lastEnd;
+	}
+
+	/**
+	 * Returns a duration percentile by the nearest-rank method, e.g. 0 is the minimum, 50 is the median and 100 is the maximum
+	 *
+	 * @param percentile a percentile from 0 to 100
+	 * @return the duration, zero if there are no invocations
+	 */
+	@Nonnull
+	public Duration getPercentile(double percentile) {
+		return getPercentiles(percentile)[0];
+	}
+
+	/**
+	 * Returns several duration percentiles, see {@link #getPercentile(double)}. Durations are sorted once for all of them.
+	 *
+	 * @param percentiles percentiles from 0 to 100
+	 * @return the durations in the same order
+	 */
+	@Nonnull
+	public synchronized Duration[] getPercentiles(@Nonnull double... percentiles) {
+		Duration[] result = new Duration[percentiles.length];
+		long[] sorted = Arrays.copyOf(durations, count);
+		Arrays.sort(sorted);
+		for (int i = 0; i < percentiles.length; i++) {
+			if (percentiles[i] < 0 || percentiles[i] > 100) {
+				throw new IllegalArgumentException("Percentile should be from 0 to 100: " + percentiles[i]);
+			}
+			if (count == 0) {
+				result[i] = Duration.ZERO;
+				continue;
+			}
+			int rank = (int) Math.ceil(percentiles[i] / 100 * count);
+			result[i] = Duration.ofNanos(sorted[Math.max(0, rank - 1)]);
+		}
+		return result;
+	}
+}
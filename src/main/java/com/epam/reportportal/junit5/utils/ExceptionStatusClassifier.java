@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import jakarta.annotation.Nonnull;
+import org.opentest4j.TestAbortedException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Maps exception classes to an item status: {@link ItemStatus#SKIPPED} for assumption failures (the class or any of its superclasses is
+ * a known assumption exception) and {@link ItemStatus#FAILED} for everything else. The result is computed once per exception class.
+ */
+public class ExceptionStatusClassifier extends ClassValue<ItemStatus> {
+
+	/**
+	 * Exceptions which are always treated as assumption failures
+	 */
+	public static final Set<String> DEFAULT_ASSUMPTION_EXCEPTIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			TestAbortedException.class.getName(),
+			"org.junit.AssumptionViolatedException"
+	)));
+
+	private final Set<String> assumptionExceptions;
+
+	public ExceptionStatusClassifier() {
+		this(Collections.emptySet());
+	}
+
+	/**
+	 * @param additionalExceptions names (binary or canonical) of exception classes to treat as assumption failures in addition to the
+	 *                             default ones
+	 */
+	public ExceptionStatusClassifier(@Nonnull Collection<String> additionalExceptions) {
+		Set<String> exceptions = new HashSet<>(DEFAULT_ASSUMPTION_EXCEPTIONS);
+		exceptions.addAll(additionalExceptions);
+		assumptionExceptions = Collections.unmodifiableSet(exceptions);
+	}
+
+	@Override
+	protected ItemStatus computeValue(@Nonnull Class<?> type) {
+		if (assumptionExceptions.contains(type.getName()) || assumptionExceptions.contains(type.getCanonicalName())) {
+			return ItemStatus.SKIPPED;
+		}
+		Class<?> superclass = type.getSuperclass();
+		return superclass == null || superclass == Object.class ? ItemStatus.FAILED : get(superclass);
+	}
+
+	/**
+	 * Returns a status of an item which finished with the exception
+	 *
+	 * @param throwable an exception thrown by a test or a configuration method
+	 * @return {@link ItemStatus#SKIPPED} for assumption failures, {@link ItemStatus#FAILED} otherwise
+	 */
+	@Nonnull
+	public ItemStatus getStatus(@Nonnull Throwable throwable) {
+		return get(throwable.getClass());
+	}
+}
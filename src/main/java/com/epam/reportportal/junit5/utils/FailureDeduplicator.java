@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded LRU cache of reported failures keyed by a normalized stack trace hash. When a shared fixture breaks, many tests fail with the
+ * same stack trace, only the first of them needs the full trace, others can refer to it.
+ * <p>
+ * The hash covers exception classes and frames (class, method and line) of the cause chain, exception messages are ignored, since they
+ * often contain generated values. A reference still contains the first line of the actual exception with its message. Frames below the
+ * point where a test framework called the code under test are ignored too: they depend on the way the framework iterates tests, not on
+ * the failure.
+ */
+public class FailureDeduplicator {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final Map<Long, Failure> failures;
+	private final String[] frameworkPackages;
+
+	/**
+	 * @param capacity          maximum number of cached failures, the least recently seen ones are evicted first
+	 * @param frameworkPackages package or class name prefixes of test framework and reflection frames
+	 */
+	public FailureDeduplicator(int capacity, @Nonnull Collection<String> frameworkPackages) {
+		this.frameworkPackages = frameworkPackages.toArray(new String[0]);
+		failures = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Failure> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * A failure which was reported with the full stack trace
+	 */
+	public static final class Failure {
+		private final String hash;
+		private final String itemName;
+		private volatile String itemUuid;
+		private boolean described;
+		private boolean logged;
+
+		private Failure(@Nonnull String hash, @Nonnull String itemName) {
+			this.hash = hash;
+			this.itemName = itemName;
+		}
+
+		/**
+		 * @return hexadecimal stack trace hash
+		 */
+		@Nonnull
+		public String getHash() {
+			return hash;
+		}
+
+		/**
+		 * @return a name of the first item which failed this way
+		 */
+		@Nonnull
+		public String getItemName() {
+			return itemName;
+		}
+
+		/**
+		 * @return UUID of the first item which failed this way or null if it is not known yet
+		 */
+		@Nullable
+		public String getItemUuid() {
+			return itemUuid;
+		}
+
+		public void setItemUuid(@Nullable String itemUuid) {
+			this.itemUuid = itemUuid;
+		}
+
+		/**
+		 * Marks the failure as reported in an item description
+		 *
+		 * @return true if it is the first description with the failure, so it should contain the full stack trace
+		 */
+		public synchronized boolean describe() {
+			boolean first = !described;
+			described = true;
+			return first;
+		}
+
+		/**
+		 * Marks the failure as reported in a log entry
+		 *
+		 * @return true if it is the first log entry with the failure, so it should contain the full stack trace
+		 */
+		public synchronized boolean log() {
+			boolean first = !logged;
+			logged = true;
+			return first;
+		}
+
+		/**
+		 * Builds a short reference to the first report of the failure
+		 *
+		 * @param throwable an exception with the same stack trace
+		 * @return the first line of the exception and a reference to the first failed item
+		 */
+		@Nonnull
+		public String reference(@Nonnull Throwable throwable) {
+			StringBuilder result = new StringBuilder().append(throwable).append("\n\t... the same stack trace as in '").append(itemName).append('\'');
+			String uuid = itemUuid;
+			if (uuid != null) {
+				result.append(" (item ").append(uuid).append(')');
+			}
+			return result.append(", failure ").append(hash).append('\n').toString();
+		}
+	}
+
+	/**
+	 * Returns a cached failure with the same stack trace or caches a new one
+	 *
+	 * @param throwable an exception
+	 * @param itemName  a name of the failed item
+	 * @return the failure
+	 */
+	@Nonnull
+	public synchronized Failure get(@Nonnull Throwable throwable, @Nonnull String itemName) {
+		long hash = hash(throwable, frameworkPackages);
+		return failures.computeIfAbsent(hash, h -> new Failure(String.format("%016x", h), itemName));
+	}
+
+	/**
+	 * @return number of cached failures
+	 */
+	public synchronized int size() {
+		return failures.size();
+	}
+
+	private static long hash(long hash, @Nonnull String value) {
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private static long hash(long hash, int value) {
+		return (hash ^ value) * FNV_PRIME;
+	}
+
+	private static boolean isFramework(@Nonnull StackTraceElement frame, @Nonnull String[] frameworkPackages) {
+		String className = frame.getClassName();
+		for (String prefix : frameworkPackages) {
+			if (className.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Calculates a normalized stack trace hash: exception classes and frames of the cause chain without messages. Frames of each exception
+	 * are taken from the top down to the first framework frame which follows a frame of other code.
+	 *
+	 * @param throwable         an exception
+	 * @param frameworkPackages package or class name prefixes of test framework and reflection frames
+	 * @return 64-bit FNV-1a hash
+	 */
+	public static long hash(@Nonnull Throwable throwable, @Nonnull String... frameworkPackages) {
+		long hash = FNV_OFFSET;
+		Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Throwable current = throwable; current != null && visited.add(current); current = current.getCause()) {
+			hash = hash(hash, current.getClass().getName());
+			boolean ownCode = false;
+			for (StackTraceElement frame : current.getStackTrace()) {
+				boolean framework = isFramework(frame, frameworkPackages);
+				if (framework && ownCode) {
+					break;
+				}
+				ownCode |= !framework;
+				hash = hash(hash, frame.getClassName());
+				hash = hash(hash, frame.getMethodName());
+				hash = hash(hash, frame.getLineNumber());
+			}
+		}
+		return hash;
+	}
+}
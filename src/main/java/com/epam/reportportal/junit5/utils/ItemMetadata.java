@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.annotations.*;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.utils.AttributeParser;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable snapshot of ReportPortal annotations of a test class or method. Annotations are read once per class or method and then
+ * reused for every test invocation, e.g. for each row of a parameterized test.
+ */
+public final class ItemMetadata {
+
+	private static final ClassValue<ItemMetadata> CLASS_METADATA = new ClassValue<>() {
+		@Override
+		protected ItemMetadata computeValue(Class<?> type) {
+			return new ItemMetadata(type);
+		}
+	};
+
+	private static final ClassValue<Map<Method, ItemMetadata>> METHOD_METADATA = new ClassValue<>() {
+		@Override
+		protected Map<Method, ItemMetadata> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final String codeRef;
+	private final String displayName;
+	private final String description;
+	// Attribute requests are mutable, so only their keys and values are kept
+	private final List<Pair<String, String>> attributes;
+	private final TestCaseId testCaseId;
+	private final Issue issue;
+	private final Issues issues;
+
+	private ItemMetadata(@Nonnull Class<?> testClass) {
+		this(testClass, String.valueOf(testClass.getCanonicalName()));
+	}
+
+	private ItemMetadata(@Nonnull Method method) {
+		this(method, method.getDeclaringClass().getCanonicalName() + "." + method.getName());
+	}
+
+	private ItemMetadata(@Nonnull AnnotatedElement element, @Nonnull String codeRef) {
+		this.codeRef = codeRef;
+		displayName = ofNullable(element.getAnnotation(DisplayName.class)).map(DisplayName::value).orElse(null);
+		description = ofNullable(element.getAnnotation(Description.class)).map(Description::value).orElse(null);
+		attributes = ofNullable(element.getAnnotation(Attributes.class)).map(AttributeParser::retrieveAttributes)
+				.map(a -> a.stream().map(it -> Pair.of(it.getKey(), it.getValue())).collect(Collectors.toUnmodifiableList()))
+				.orElse(Collections.emptyList());
+		testCaseId = element.getAnnotation(TestCaseId.class);
+		issue = element.getAnnotation(Issue.class);
+		issues = element.getAnnotation(Issues.class);
+	}
+
+	/**
+	 * Returns metadata of a test class
+	 *
+	 * @param testClass a test class
+	 * @return cached metadata
+	 */
+	@Nonnull
+	public static ItemMetadata of(@Nonnull Class<?> testClass) {
+		return CLASS_METADATA.get(testClass);
+	}
+
+	/**
+	 * Returns metadata of a test method
+	 *
+	 * @param method a test method
+	 * @return cached metadata
+	 */
+	@Nonnull
+	public static ItemMetadata of(@Nonnull Method method) {
+		return METHOD_METADATA.get(method.getDeclaringClass()).computeIfAbsent(method, ItemMetadata::new);
+	}
+
+	/**
+	 * @return a code reference of the class or method
+	 */
+	@Nonnull
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	/**
+	 * @return a value of {@link DisplayName} annotation or null if there is no such annotation
+	 */
+	@Nullable
+	public String getDisplayName() {
+		return displayName;
+	}
+
+	/**
+	 * @return a value of {@link Description} annotation or null if there is no such annotation
+	 */
+	@Nullable
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * @return new set of new attributes parsed from {@link Attributes} annotation, callers are free to modify both
+	 */
+	@Nonnull
+	public Set<ItemAttributesRQ> getAttributes() {
+		Set<ItemAttributesRQ> result = new HashSet<>();
+		attributes.forEach(a -> result.add(new ItemAttributesRQ(a.getKey(), a.getValue())));
+		return result;
+	}
+
+	@Nullable
+	public TestCaseId getTestCaseId() {
+		return testCaseId;
+	}
+
+	@Nullable
+	public Issue getIssue() {
+		return issue;
+	}
+
+	@Nullable
+	public Issues getIssues() {
+		return issues;
+	}
+}
@@ -68,4 +68,40 @@ public class ItemTreeUtils {
 	public static TestItemTree.TestItemLeaf retrieveLeaf(TestInfo testInfo, TestItemTree testItemTree) {
 		return retrieveLeaf(testInfo.getDisplayName(), testItemTree);
 	}
+
+	/**
+	 * Returns a leaf of the most recently started test with the display name
+	 *
+	 * @param name          a display name of the test
+	 * @param testItemIndex an index of test item leaves
+	 * @return the leaf or null if there is no such test
+	 */
+	@Nullable
+	public static TestItemTree.TestItemLeaf retrieveLeaf(String name, TestItemIndex testItemIndex) {
+		return testItemIndex.getByName(name);
+	}
+
+	/**
+	 * Returns a leaf of the most recently started test with the display name of the test info
+	 *
+	 * @param testInfo      JUnit's test info
+	 * @param testItemIndex an index of test item leaves
+	 * @return the leaf or null if there is no such test
+	 */
+	@Nullable
+	public static TestItemTree.TestItemLeaf retrieveLeaf(TestInfo testInfo, TestItemIndex testItemIndex) {
+		return retrieveLeaf(testInfo.getDisplayName(), testItemIndex);
+	}
+
+	/**
+	 * Returns a leaf of the test by its unique ID, so tests with the same display name are told apart
+	 *
+	 * @param extensionContext JUnit's test context
+	 * @param testItemIndex    an index of test item leaves
+	 * @return the leaf or null if there is no such test
+	 */
+	@Nullable
+	public static TestItemTree.TestItemLeaf retrieveLeaf(ExtensionContext extensionContext, TestItemIndex testItemIndex) {
+		return testItemIndex.get(extensionContext.getUniqueId());
+	}
 }
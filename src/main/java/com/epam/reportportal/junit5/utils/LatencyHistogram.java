@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values, e.g. durations in nanoseconds. Values are counted in log-linear buckets: each power of two
+ * is split into 32 sub-buckets, so a value is reported with a relative error under 3%. Recording is a couple of atomic increments and
+ * the memory footprint is fixed, about 15 KB.
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) Math.max(0, value);
+		}
+		int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+	}
+
+	static long highestValue(int index) {
+		int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+		long lowest = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	/**
+	 * Records a value, negative values are counted as zero
+	 *
+	 * @param value a value to record
+	 */
+	public void record(long value) {
+		long positive = Math.max(0, value);
+		counts.incrementAndGet(index(positive));
+		total.add(positive);
+		max.accumulateAndGet(positive, Math::max);
+	}
+
+	/**
+	 * @return number of recorded values
+	 */
+	public long getCount() {
+		long result = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			result += counts.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * @return exact sum of recorded values
+	 */
+	public long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * @return exact maximum of recorded values, zero if there are no values
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns a value percentile by the nearest-rank method, e.g. 50 is the median and 100 is the maximum
+	 *
+	 * @param percentile a percentile from 0 to 100
+	 * @return the highest value of the bucket the percentile falls into, zero if there are no values
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile should be from 0 to 100: " + percentile);
+		}
+		long[] snapshot = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (snapshot[i] > 0 && seen >= rank) {
+				return Math.min(highestValue(i), getMax());
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * @return counts of non-empty buckets by the highest value of the bucket, in ascending order
+	 */
+	@Nonnull
+	public Map<Long, Long> getBuckets() {
+		Map<Long, Long> result = new LinkedHashMap<>();
+		for (int i = 0; i < BUCKETS; i++) {
+			long count = counts.get(i);
+			if (count > 0) {
+				result.put(highestValue(i), count);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.*;
+
+/**
+ * Formats exception stack traces for item descriptions and logs within a budget: a limit of printed frames per exception, a limit of
+ * causes and a limit of the result size in bytes (UTF-8). Suppressed exceptions and causes are printed the same way as
+ * {@link Throwable#printStackTrace()} does and share the cause limit. Runs of frames of test frameworks, reflection and proxies are
+ * collapsed into a single line, frames which an exception shares with the stack of the formatting thread or with the enclosing exception
+ * are printed as "... N more".
+ * <p>
+ * Frames are taken from cached {@link Throwable#getStackTrace()} arrays and from {@link StackWalker}, only printed frames are converted
+ * to strings.
+ */
+public class StackTraceFormatter {
+
+	/**
+	 * Package and class name prefixes of frames of test frameworks, reflection and proxies
+	 */
+	public static final Set<String> FRAMEWORK_PACKAGES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+			"org.junit.",
+			"junit.framework.",
+			"java.lang.reflect.",
+			"jdk.internal.reflect.",
+			"sun.reflect.",
+			"org.mockito.",
+			"org.aspectj."
+	)));
+
+	private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.SHOW_REFLECT_FRAMES);
+
+	private static final String LINE_DELIMITER = "\n";
+	private static final String FRAME_PREFIX = "\tat ";
+	private static final String CAUSE_PREFIX = "Caused by: ";
+	private static final String SUPPRESSED_PREFIX = "Suppressed: ";
+	private static final String TRUNCATED_MARKER = "\t... the rest of the stack trace is truncated" + LINE_DELIMITER;
+
+	private final int maxFrames;
+	private final int maxBytes;
+	private final int maxCauses;
+	private final String[] collapsedPackages;
+
+	/**
+	 * Creates a formatter without limits and frame collapsing
+	 */
+	public StackTraceFormatter() {
+		this(-1, -1, -1, Collections.emptySet());
+	}
+
+	/**
+	 * @param maxFrames         maximum number of printed frames of each exception in the cause chain, negative for no limit
+	 * @param maxBytes          maximum size of the result in bytes, negative for no limit
+	 * @param maxCauses         maximum number of printed causes, negative for no limit
+	 * @param collapsedPackages package or class name prefixes of frames to collapse
+	 */
+	public StackTraceFormatter(int maxFrames, int maxBytes, int maxCauses, @Nonnull Collection<String> collapsedPackages) {
+		this.maxFrames = maxFrames;
+		this.maxBytes = maxBytes;
+		this.maxCauses = maxCauses;
+		this.collapsedPackages = collapsedPackages.toArray(new String[0]);
+	}
+
+	/**
+	 * Exceptions printed so far and the number of printed causes
+	 */
+	private static final class State {
+		private final Throwable root;
+		private final Set<Throwable> printed = Collections.newSetFromMap(new IdentityHashMap<>());
+		private int causes;
+
+		private State(@Nonnull Throwable root) {
+			this.root = root;
+		}
+	}
+
+	/**
+	 * Formats a stack trace of the exception, its suppressed exceptions and causes
+	 *
+	 * @param throwable an exception
+	 * @return the stack trace within the budget
+	 */
+	@Nonnull
+	public String format(@Nonnull Throwable throwable) {
+		StringBuilder result = new StringBuilder();
+		StackTraceElement[] enclosing = WALKER.walk(s -> s.map(StackWalker.StackFrame::toStackTraceElement)
+				.toArray(StackTraceElement[]::new));
+		appendThrowable(result, throwable, enclosing, "", "", new State(throwable));
+		return truncate(result);
+	}
+
+	/**
+	 * Appends an exception with its suppressed exceptions and its cause
+	 *
+	 * @return false if the cause limit is reached and nothing else should be printed
+	 */
+	private boolean appendThrowable(@Nonnull StringBuilder result, @Nonnull Throwable throwable, @Nonnull StackTraceElement[] enclosing,
+			@Nonnull String caption, @Nonnull String prefix, @Nonnull State state) {
+		if (!state.printed.add(throwable)) {
+			result.append(prefix).append("\t[CIRCULAR REFERENCE: ").append(throwable).append(']').append(LINE_DELIMITER);
+			return true;
+		}
+		result.append(prefix).append(caption).append(throwable).append(LINE_DELIMITER);
+		StackTraceElement[] frames = throwable.getStackTrace();
+		int common = commonFrames(frames, enclosing);
+		appendFrames(result, prefix, frames, frames.length - common);
+		if (common > 0) {
+			result.append(prefix).append("\t... ").append(common).append(" more").append(LINE_DELIMITER);
+		}
+		Throwable[] suppressed = throwable.getSuppressed();
+		Throwable cause = throwable.getCause();
+		for (int i = 0; i <= suppressed.length; i++) {
+			boolean isSuppressed = i < suppressed.length;
+			Throwable next = isSuppressed ? suppressed[i] : cause;
+			if (next == null) {
+				continue;
+			}
+			if (!state.printed.contains(next)) {
+				if (maxCauses >= 0 && state.causes >= maxCauses) {
+					result.append(prefix).append("\t... ").append(countUnprinted(state)).append(" more causes").append(LINE_DELIMITER);
+					return false;
+				}
+				state.causes++;
+			}
+			boolean proceed = isSuppressed ?
+					appendThrowable(result, next, frames, SUPPRESSED_PREFIX, prefix + "\t", state) :
+					appendThrowable(result, next, frames, CAUSE_PREFIX, prefix, state);
+			if (!proceed) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return number of suppressed exceptions and causes reachable from the root exception which are not printed
+	 */
+	private static int countUnprinted(@Nonnull State state) {
+		Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Throwable> queue = new ArrayDeque<>();
+		queue.add(state.root);
+		int count = 0;
+		while (!queue.isEmpty()) {
+			Throwable current = queue.poll();
+			if (!visited.add(current)) {
+				continue;
+			}
+			if (!state.printed.contains(current)) {
+				count++;
+			}
+			queue.addAll(Arrays.asList(current.getSuppressed()));
+			if (current.getCause() != null) {
+				queue.add(current.getCause());
+			}
+		}
+		return count;
+	}
+
+	private static boolean sameFrame(@Nonnull StackTraceElement first, @Nonnull StackTraceElement second) {
+		return first.getLineNumber() == second.getLineNumber() && first.getMethodName().equals(second.getMethodName())
+				&& first.getClassName().equals(second.getClassName());
+	}
+
+	/**
+	 * @return number of frames at the bottom of the stack which both arrays share
+	 */
+	private static int commonFrames(@Nonnull StackTraceElement[] frames, @Nonnull StackTraceElement[] enclosing) {
+		int i = frames.length - 1;
+		int j = enclosing.length - 1;
+		while (i >= 0 && j >= 0 && sameFrame(frames[i], enclosing[j])) {
+			i--;
+			j--;
+		}
+		return frames.length - 1 - i;
+	}
+
+	private boolean isCollapsed(@Nonnull StackTraceElement frame) {
+		String className = frame.getClassName();
+		for (String prefix : collapsedPackages) {
+			if (className.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void appendFrames(@Nonnull StringBuilder result, @Nonnull String prefix, @Nonnull StackTraceElement[] frames, int end) {
+		int printed = 0;
+		int collapsed = 0;
+		for (int i = 0; i < end; i++) {
+			StackTraceElement frame = frames[i];
+			// The top frame is always printed, it tells where the exception was thrown
+			if (i > 0 && isCollapsed(frame)) {
+				collapsed++;
+				continue;
+			}
+			collapsed = appendCollapsed(result, prefix, collapsed);
+			if (maxFrames >= 0 && printed >= maxFrames) {
+				result.append(prefix).append("\t... ").append(end - i).append(" frames omitted").append(LINE_DELIMITER);
+				return;
+			}
+			result.append(prefix).append(FRAME_PREFIX).append(frame).append(LINE_DELIMITER);
+			printed++;
+		}
+		appendCollapsed(result, prefix, collapsed);
+	}
+
+	private static int appendCollapsed(@Nonnull StringBuilder result, @Nonnull String prefix, int collapsed) {
+		if (collapsed > 0) {
+			result.append(prefix).append("\t... ").append(collapsed).append(collapsed == 1 ? " framework frame" : " framework frames").append(LINE_DELIMITER);
+		}
+		return 0;
+	}
+
+	private static int utf8Length(char c) {
+		if (c < 0x80) {
+			return 1;
+		}
+		if (c < 0x800 || Character.isSurrogate(c)) {
+			// A surrogate pair takes 4 bytes
+			return 2;
+		}
+		return 3;
+	}
+
+	/**
+	 * Cuts the result at the last line which fits into the byte limit, or inside the first line if even it does not fit
+	 */
+	@Nonnull
+	private String truncate(@Nonnull StringBuilder result) {
+		if (maxBytes < 0 || result.length() <= maxBytes / 3) {
+			return result.toString();
+		}
+		int limit = Math.max(0, maxBytes - TRUNCATED_MARKER.length() - LINE_DELIMITER.length());
+		int bytes = 0;
+		int fit = 0;
+		int lineEnd = -1;
+		for (int i = 0; i < result.length(); i++) {
+			char c = result.charAt(i);
+			bytes += utf8Length(c);
+			if (bytes <= limit) {
+				fit = Character.isHighSurrogate(c) ? i : i + 1;
+				if (c == '\n') {
+					lineEnd = i + 1;
+				}
+			}
+		}
+		if (bytes <= maxBytes) {
+			return result.toString();
+		}
+		if (lineEnd < 0) {
+			result.setLength(fit);
+			result.append(LINE_DELIMITER);
+		} else {
+			result.setLength(lineEnd);
+		}
+		return result.append(TRUNCATED_MARKER).toString();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Index of {@link TestItemTree.TestItemLeaf} objects for callback reporting. Leaves are keyed by JUnit's unique ID of the test, which
+ * is exact even if several tests have the same display name, e.g. parameterized invocations with the same arguments. A secondary
+ * multi-map by display name serves lookups by {@link org.junit.jupiter.api.TestInfo}, which has no unique ID.
+ */
+public final class TestItemIndex {
+
+	private final Map<String, Entry> byUniqueId = new ConcurrentHashMap<>();
+	private final Map<String, Deque<Entry>> byName = new ConcurrentHashMap<>();
+
+	private static final class Entry {
+		private final String name;
+		private final TestItemTree.TestItemLeaf leaf;
+
+		private Entry(@Nonnull String name, @Nonnull TestItemTree.TestItemLeaf leaf) {
+			this.name = name;
+			this.leaf = leaf;
+		}
+	}
+
+	/**
+	 * Adds a leaf to the index, a leaf previously registered with the same unique ID is replaced
+	 *
+	 * @param uniqueId JUnit's unique ID of the test
+	 * @param name     a display name of the test
+	 * @param leaf     a leaf of the test item
+	 */
+	public void put(@Nonnull String uniqueId, @Nonnull String name, @Nonnull TestItemTree.TestItemLeaf leaf) {
+		Entry entry = new Entry(name, leaf);
+		ofNullable(byUniqueId.put(uniqueId, entry)).ifPresent(this::removeName);
+		byName.compute(name, (k, v) -> {
+			Deque<Entry> entries = v == null ? new ConcurrentLinkedDeque<>() : v;
+			entries.add(entry);
+			return entries;
+		});
+	}
+
+	private void removeName(@Nonnull Entry entry) {
+		byName.computeIfPresent(
+				entry.name, (k, v) -> {
+					v.remove(entry);
+					return v.isEmpty() ? null : v;
+				}
+		);
+	}
+
+	/**
+	 * Returns a leaf of the test
+	 *
+	 * @param uniqueId JUnit's unique ID of the test
+	 * @return the leaf or null if there is no such test in the index
+	 */
+	@Nullable
+	public TestItemTree.TestItemLeaf get(@Nonnull String uniqueId) {
+		return ofNullable(byUniqueId.get(uniqueId)).map(e -> e.leaf).orElse(null);
+	}
+
+	/**
+	 * Returns a leaf of the most recently started test with the display name
+	 *
+	 * @param name a display name of the test
+	 * @return the leaf or null if there is no such test in the index
+	 */
+	@Nullable
+	public TestItemTree.TestItemLeaf getByName(@Nonnull String name) {
+		return ofNullable(byName.get(name)).map(Deque::peekLast).map(e -> e.leaf).orElse(null);
+	}
+
+	/**
+	 * Returns leaves of all tests with the display name in their start order
+	 *
+	 * @param name a display name of the test
+	 * @return unmodifiable list of leaves
+	 */
+	@Nonnull
+	public List<TestItemTree.TestItemLeaf> getAllByName(@Nonnull String name) {
+		Deque<Entry> entries = byName.get(name);
+		if (entries == null) {
+			return Collections.emptyList();
+		}
+		List<TestItemTree.TestItemLeaf> result = new ArrayList<>();
+		entries.forEach(e -> result.add(e.leaf));
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Removes a leaf of the test if the unique ID is still mapped to it
+	 *
+	 * @param uniqueId JUnit's unique ID of the test
+	 * @param leaf     a leaf to remove
+	 */
+	public void remove(@Nonnull String uniqueId, @Nonnull TestItemTree.TestItemLeaf leaf) {
+		Entry entry = byUniqueId.get(uniqueId);
+		if (entry != null && entry.leaf == leaf && byUniqueId.remove(uniqueId, entry)) {
+			removeName(entry);
+		}
+	}
+
+	/**
+	 * @return number of indexed leaves
+	 */
+	public int size() {
+		return byUniqueId.size();
+	}
+}
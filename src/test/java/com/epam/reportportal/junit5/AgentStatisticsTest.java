@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.jmx.JmxFeatureTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.stubbing.Answer;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AgentStatisticsTest {
+
+	public static class AgentStatisticsTestExtension extends ReportPortalExtension {
+		static final ExtensionParameters PARAMETERS = new ExtensionParameters();
+		static Launch LAUNCH;
+
+		static {
+			PARAMETERS.setJmx(true);
+		}
+
+		@Override
+		protected ExtensionParameters getExtensionParameters() {
+			return PARAMETERS;
+		}
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+	}
+
+	@BeforeEach
+	public void setupMock() {
+		Launch launch = mock(Launch.class);
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		when(launch.startTestItem(any())).thenAnswer((Answer<Maybe<String>>) invocation -> CommonUtils.createMaybeUuid());
+		when(launch.startTestItem(any(), any())).thenAnswer((Answer<Maybe<String>>) invocation -> CommonUtils.createMaybeUuid());
+		when(launch.finishTestItem(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		AgentStatisticsTestExtension.LAUNCH = launch;
+	}
+
+	private static AgentStatisticsMXBean getStatistics() throws MalformedObjectNameException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(AgentStatistics.OBJECT_NAME);
+		return server.isRegistered(name) ? JMX.newMXBeanProxy(server, name, AgentStatisticsMXBean.class) : null;
+	}
+
+	private static long delta(Map<String, Long> before, Map<String, Long> after, String key) {
+		return after.get(key) - before.getOrDefault(key, 0L);
+	}
+
+	@Test
+	public void verify_statistics_are_exposed_as_mbean() throws MalformedObjectNameException {
+		AgentStatisticsMXBean before = getStatistics();
+		Map<String, Long> startedBefore = before == null ? Collections.emptyMap() : before.getStartedItems();
+		Map<String, Long> callsBefore = before == null ? Collections.emptyMap() : before.getCallbackCalls();
+		long contextsBefore = before == null ? 0 : before.getActiveContexts();
+
+		TestUtils.runClasses(JmxFeatureTest.class);
+
+		AgentStatisticsMXBean statistics = getStatistics();
+		assertThat(statistics, notNullValue());
+		Map<String, Long> started = statistics.getStartedItems();
+		assertThat(delta(startedBefore, started, ItemType.SUITE.name()), equalTo(1L));
+		assertThat(delta(startedBefore, started, ItemType.TEMPLATE.name()), equalTo(1L));
+		assertThat(delta(startedBefore, started, ItemType.STEP.name()), equalTo(4L));
+		assertThat(delta(startedBefore, started, ItemType.BEFORE_METHOD.name()), equalTo(4L));
+		assertThat(statistics.getFinishedItems(), equalTo(started));
+		assertThat(statistics.getItemsInProgress(), equalTo(0));
+		assertThat(statistics.getActiveContexts(), equalTo(contextsBefore));
+
+		Map<String, Long> calls = statistics.getCallbackCalls();
+		assertThat(delta(callsBefore, calls, "beforeAll"), equalTo(1L));
+		assertThat(delta(callsBefore, calls, "afterAll"), equalTo(1L));
+		assertThat(delta(callsBefore, calls, "interceptTestMethod"), equalTo(2L));
+		assertThat(delta(callsBefore, calls, "interceptTestTemplateMethod"), equalTo(2L));
+		assertThat(statistics.getCallbackTimeMillis().keySet(), equalTo(calls.keySet()));
+	}
+}
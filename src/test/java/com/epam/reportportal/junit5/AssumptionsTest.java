@@ -18,6 +18,7 @@ package com.epam.reportportal.junit5;
 
 import com.epam.reportportal.junit5.features.skipped.*;
 import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.junit5.utils.ExceptionStatusClassifier;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.step.StepReporter;
@@ -34,6 +35,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -48,11 +50,18 @@ public class AssumptionsTest {
 
 	public static class AssumptionsTestExtension extends ReportPortalExtension {
 		static Launch LAUNCH;
+		private static final ExceptionStatusClassifier CLASSIFIER = new ExceptionStatusClassifier(Collections.singleton(
+				CustomAssumptionFailedTest.SkipException.class.getName()));
 
 		@Override
 		protected Launch getLaunch(ExtensionContext context) {
 			return LAUNCH;
 		}
+
+		@Override
+		protected ExceptionStatusClassifier getExceptionClassifier() {
+			return CLASSIFIER;
+		}
 	}
 
 	@BeforeEach
@@ -66,7 +75,7 @@ public class AssumptionsTest {
 
 	@ParameterizedTest
 	@ValueSource(classes = { AssumptionFailedTest.class, Junit4AssumptionFailedTest.class, AssertJAssumptionFailedTest.class,
-			Junit4ExtendedAssumptionFailedTest.class })
+			Junit4ExtendedAssumptionFailedTest.class, CustomAssumptionFailedTest.class })
 	public void verify_assumption_failure_marks_test_as_skipped(Class<?> testClass) {
 		TestUtils.runClasses(testClass);
 
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.async.AsyncClientReportedTest;
+import com.epam.reportportal.junit5.features.async.AsyncLoggedTest;
+import com.epam.reportportal.junit5.features.async.AsyncReportedTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.stubbing.Answer;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class AsyncReportingTest {
+
+	public static class TestExtension extends ReportPortalExtension {
+		static final ExtensionParameters PARAMETERS = new ExtensionParameters();
+		static final Set<String> BUILDING_THREADS = ConcurrentHashMap.newKeySet();
+		static Launch LAUNCH;
+
+		static {
+			PARAMETERS.setAsyncReporting(true);
+		}
+
+		@Override
+		protected StartTestItemRQ buildStartStepRq(ExtensionContext context, List<Object> arguments, ItemType itemType, String description,
+				Instant startTime) {
+			BUILDING_THREADS.add(Thread.currentThread().getName());
+			return super.buildStartStepRq(context, arguments, itemType, description, startTime);
+		}
+
+		@Override
+		protected FinishTestItemRQ buildFinishTestRq(ExtensionContext context, ItemStatus status) {
+			BUILDING_THREADS.add(Thread.currentThread().getName());
+			return super.buildFinishTestRq(context, status);
+		}
+
+		@Override
+		protected void sendStackTrace(ExtensionContext context, Throwable throwable) {
+			BUILDING_THREADS.add(Thread.currentThread().getName());
+			super.sendStackTrace(context, throwable);
+		}
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+
+		@Override
+		protected ExtensionParameters getExtensionParameters() {
+			return PARAMETERS;
+		}
+	}
+
+	public static class ClientTestExtension extends ReportPortalExtension {
+		static ReportPortal REPORT_PORTAL;
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected ExtensionParameters getExtensionParameters() {
+			return TestExtension.PARAMETERS;
+		}
+	}
+
+	private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+	private final Set<Maybe<String>> virtualIds = ConcurrentHashMap.newKeySet();
+	private final Set<Maybe<String>> realIds = ConcurrentHashMap.newKeySet();
+	private final Set<String> reportingThreads = ConcurrentHashMap.newKeySet();
+
+	@BeforeEach
+	public void setupMock() {
+		TestExtension.BUILDING_THREADS.clear();
+		Launch launch = mock(Launch.class);
+		TestExtension.LAUNCH = launch;
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		when(launch.createVirtualItem()).thenAnswer((Answer<Maybe<String>>) invocation -> {
+			Maybe<String> id = CommonUtils.createMaybeUuid();
+			virtualIds.add(id);
+			return id;
+		});
+		Answer<Maybe<String>> startAnswer = invocation -> {
+			reportingThreads.add(Thread.currentThread().getName());
+			Maybe<String> id = CommonUtils.createMaybeUuid();
+			realIds.add(id);
+			return id;
+		};
+		when(launch.startVirtualTestItem(any(), any())).thenAnswer(startAnswer);
+		when(launch.startVirtualTestItem(any(), any(), any())).thenAnswer(startAnswer);
+		when(launch.finishTestItem(any(), any())).thenAnswer(invocation -> {
+			reportingThreads.add(Thread.currentThread().getName());
+			return Maybe.empty();
+		});
+	}
+
+	@Test
+	public void verify_items_are_reported_on_reporter_thread_with_real_ids() {
+		TestUtils.runClasses(AsyncReportedTest.class);
+
+		Launch launch = TestExtension.LAUNCH;
+		// Suite, 2 tests, a template and its 2 invocations, 4 @BeforeEach methods
+		verify(launch, timeout(TIMEOUT).times(10)).finishTestItem(any(), any());
+		verify(launch, times(10)).createVirtualItem();
+		verify(launch, times(1)).startVirtualTestItem(any(), any());
+		ArgumentCaptor<Maybe<String>> parentCaptor = ArgumentCaptor.forClass(Maybe.class);
+		verify(launch, times(9)).startVirtualTestItem(parentCaptor.capture(), any(), any());
+		verify(launch, never()).startTestItem(any());
+		verify(launch, never()).startTestItem(any(), any());
+
+		assertThat(reportingThreads, equalTo(Collections.singleton(AsyncReporter.THREAD_NAME)));
+		parentCaptor.getAllValues().forEach(parent -> assertThat(realIds, hasItem(parent)));
+
+		ArgumentCaptor<Maybe<String>> finishIdCaptor = ArgumentCaptor.forClass(Maybe.class);
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(10)).finishTestItem(finishIdCaptor.capture(), finishCaptor.capture());
+		assertThat(realIds, containsInAnyOrder(finishIdCaptor.getAllValues().toArray()));
+		finishIdCaptor.getAllValues().forEach(id -> assertThat(virtualIds, not(hasItem(id))));
+
+		List<String> statuses = finishCaptor.getAllValues()
+				.stream()
+				.map(FinishTestItemRQ::getStatus)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		assertThat(statuses, hasItem(ItemStatus.FAILED.name()));
+		assertThat(statuses.stream().filter(ItemStatus.FAILED.name()::equals).count(), equalTo(1L));
+	}
+
+	@Test
+	public void verify_requests_and_stack_traces_are_built_on_reporter_thread() {
+		TestUtils.runClasses(AsyncReportedTest.class);
+
+		verify(TestExtension.LAUNCH, timeout(TIMEOUT).times(10)).finishTestItem(any(), any());
+		assertThat(TestExtension.BUILDING_THREADS, equalTo(Collections.singleton(AsyncReporter.THREAD_NAME)));
+	}
+
+	@Test
+	public void verify_start_time_is_taken_on_test_thread() {
+		Instant before = Instant.now();
+		TestUtils.runClasses(AsyncReportedTest.class);
+		Instant after = Instant.now();
+
+		Launch launch = TestExtension.LAUNCH;
+		verify(launch, timeout(TIMEOUT).times(10)).finishTestItem(any(), any());
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(9)).startVirtualTestItem(any(), any(), startCaptor.capture());
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(10)).finishTestItem(any(), finishCaptor.capture());
+
+		startCaptor.getAllValues()
+				.forEach(rq -> assertThat((Instant) rq.getStartTime(), allOf(greaterThanOrEqualTo(before), lessThanOrEqualTo(after))));
+		finishCaptor.getAllValues()
+				.forEach(rq -> assertThat((Instant) rq.getEndTime(), allOf(greaterThanOrEqualTo(before), lessThanOrEqualTo(after))));
+	}
+
+	@Test
+	public void verify_queued_items_are_reported_before_launch_finish() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		String launchUuid = CommonUtils.namedId("launch_");
+		String suiteUuid = CommonUtils.namedId("suite_");
+		List<String> testUuids = Arrays.asList(CommonUtils.namedId("test_"), CommonUtils.namedId("test_"));
+		TestUtils.mockLaunch(client, launchUuid, suiteUuid, testUuids);
+		TestUtils.mockLogging(client);
+		ClientTestExtension.REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+
+		TestUtils.runClasses(AsyncClientReportedTest.class);
+		new ClientTestExtension().finish();
+
+		InOrder order = inOrder(client);
+		order.verify(client).startLaunch(any());
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		order.verify(client).finishTestItem(eq(suiteUuid), any());
+		order.verify(client).finishLaunch(eq(launchUuid), any());
+		testUuids.forEach(uuid -> verify(client).finishTestItem(eq(uuid), finishCaptor.capture()));
+		assertThat(
+				finishCaptor.getAllValues().stream().map(FinishTestItemRQ::getStatus).collect(Collectors.toList()),
+				containsInAnyOrder(ItemStatus.PASSED.name(), ItemStatus.FAILED.name())
+		);
+	}
+
+	@Test
+	public void verify_log_of_test_body_is_attached_to_test_item() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		String launchUuid = CommonUtils.namedId("launch_");
+		String suiteUuid = CommonUtils.namedId("suite_");
+		String testUuid = CommonUtils.namedId("test_");
+		TestUtils.mockLaunch(client, launchUuid, suiteUuid, testUuid);
+		// Log item UUIDs by message
+		Map<String, String> logs = new ConcurrentHashMap<>();
+		when(client.log(anyList())).thenAnswer(invocation -> {
+			List<MultipartBody.Part> parts = invocation.getArgument(0);
+			Buffer buffer = new Buffer();
+			parts.get(0).body().writeTo(buffer);
+			for (JsonNode log : HttpRequestUtils.MAPPER.readTree(buffer.inputStream())) {
+				logs.put(log.get("message").asText(), log.get("itemUuid").asText());
+			}
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		ClientTestExtension.REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+
+		TestUtils.runClasses(AsyncLoggedTest.class);
+		new ClientTestExtension().finish();
+
+		verify(client, timeout(TIMEOUT)).finishTestItem(eq(testUuid), any());
+		assertThat(logs, hasEntry(AsyncLoggedTest.LOG_MESSAGE, testUuid));
+	}
+}
@@ -18,12 +18,14 @@ package com.epam.reportportal.junit5;
 
 import com.epam.reportportal.junit5.features.callback.CallbackFeatureTest;
 import com.epam.reportportal.junit5.features.callback.CallbackLogFeatureTest;
+import com.epam.reportportal.junit5.features.callback.CallbackSameNameFeatureTest;
 import com.epam.reportportal.junit5.util.TestUtils;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.ReportPortal;
 import com.epam.reportportal.service.ReportPortalClient;
 import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.service.tree.TestItemTree;
 import com.epam.ta.reportportal.ws.model.EntryCreatedAsyncRS;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
@@ -34,15 +36,15 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.mockito.ArgumentCaptor;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
 import static com.epam.reportportal.junit5.CallbackReportingTest.CallbackReportingExtension.*;
+import static com.epam.reportportal.junit5.ReportPortalExtension.TEST_ITEM_INDEX;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -88,6 +90,7 @@ public class CallbackReportingTest {
 			when(REPORT_PORTAL.get().newLaunch(any())).thenReturn(LAUNCH.get());
 
 			LISTENER_PARAMETERS.set(mock(ListenerParameters.class));
+			when(LISTENER_PARAMETERS.get().getEnable()).thenReturn(true);
 			when(LISTENER_PARAMETERS.get().isCallbackReportingEnabled()).thenReturn(true);
 			when(REPORT_PORTAL.get().getParameters()).thenReturn(LISTENER_PARAMETERS.get());
 
@@ -102,11 +105,8 @@ public class CallbackReportingTest {
 			when(REPORT_PORTAL.get().getClient()).thenReturn(REPORT_PORTAL_CLIENT.get());
 
 			try {
-				Field rpField = ReportPortalExtension.class.getDeclaredField("REPORT_PORTAL");
+				Field rpField = ReportPortalExtension.class.getDeclaredField("reportPortal");
 				rpField.setAccessible(true);
-				Field modifiersField = Field.class.getDeclaredField("modifiers");
-				modifiersField.setAccessible(true);
-				modifiersField.setInt(rpField, rpField.getModifiers() & ~Modifier.FINAL);
 				rpField.set(null, REPORT_PORTAL.get());
 			} catch (NoSuchFieldException | IllegalAccessException e) {
 				e.printStackTrace();
@@ -163,4 +163,16 @@ public class CallbackReportingTest {
 		assertThat(log.getLogTime(), equalTo(LOG_TIME));
 	}
 
+	@Test
+	void invocationsWithTheSameNameGetOwnLeavesTest() {
+		CallbackSameNameFeatureTest.LEAVES.clear();
+
+		TestUtils.runClasses(CallbackSameNameFeatureTest.class);
+
+		List<TestItemTree.TestItemLeaf> leaves = CallbackSameNameFeatureTest.LEAVES;
+		assertThat(leaves, hasSize(2));
+		assertThat(leaves.get(0), notNullValue());
+		assertThat(leaves.get(1), allOf(notNullValue(), not(sameInstance(leaves.get(0)))));
+		assertThat(TEST_ITEM_INDEX.getAllByName(CallbackSameNameFeatureTest.NAME), hasItems(leaves.get(0), leaves.get(1)));
+	}
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.callback.CallbackRetentionFeatureTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.junit5.utils.ItemTreeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.epam.reportportal.junit5.ReportPortalExtension.TEST_ITEM_TREE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CallbackRetentionTest {
+
+	public static class CallbackRetentionExtension extends CallbackReportingTest.CallbackReportingExtension {
+		private static final ExtensionParameters PARAMETERS = new ExtensionParameters();
+
+		static {
+			PARAMETERS.setCallbackTreeRetention(CallbackTreeRetention.CLASS);
+		}
+
+		@Override
+		protected ExtensionParameters getExtensionParameters() {
+			return PARAMETERS;
+		}
+	}
+
+	@BeforeEach
+	public void setup() {
+		CallbackRetentionFeatureTest.TESTS.clear();
+		CallbackRetentionFeatureTest.LEAF_PRESENT.clear();
+	}
+
+	@Test
+	public void verify_leaves_are_removed_after_the_class_finish() {
+		TestUtils.runClasses(CallbackRetentionFeatureTest.class);
+
+		assertThat(CallbackRetentionFeatureTest.LEAF_PRESENT.values(), hasSize(2));
+		assertThat(CallbackRetentionFeatureTest.LEAF_PRESENT.values(), everyItem(equalTo(Boolean.TRUE)));
+		assertThat(CallbackRetentionFeatureTest.TESTS, hasSize(2));
+		CallbackRetentionFeatureTest.TESTS.forEach(t -> assertThat(ItemTreeUtils.retrieveLeaf(t, TEST_ITEM_TREE), nullValue()));
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.utils.TestItemIndex;
+import com.epam.reportportal.service.tree.TestItemTree;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.epam.reportportal.junit5.utils.ItemTreeUtils.createItemTreeKey;
+import static com.epam.reportportal.service.tree.TestItemTree.createTestItemLeaf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CallbackTreeCleanerTest {
+
+	private final TestItemTree tree = new TestItemTree();
+	private final TestItemIndex index = new TestItemIndex();
+
+	private static ExtensionContext context(ExtensionContext parent, AnnotatedElement element) {
+		ExtensionContext context = mock(ExtensionContext.class);
+		when(context.getUniqueId()).thenReturn(UUID.randomUUID().toString());
+		when(context.getParent()).thenReturn(Optional.ofNullable(parent));
+		when(context.getElement()).thenReturn(Optional.ofNullable(element));
+		return context;
+	}
+
+	private Maybe<String> start(CallbackTreeCleaner cleaner, ExtensionContext context, String name) {
+		Maybe<String> itemId = Maybe.just(name);
+		TestItemTree.ItemTreeKey key = createItemTreeKey(name);
+		TestItemTree.TestItemLeaf leaf = createTestItemLeaf(itemId);
+		tree.getTestItems().put(key, leaf);
+		index.put(context.getUniqueId(), name, leaf);
+		cleaner.started(context, itemId, key, leaf);
+		return itemId;
+	}
+
+	private boolean contains(String name) {
+		return tree.getTestItems().containsKey(createItemTreeKey(name));
+	}
+
+	@Test
+	public void verify_size_policy_keeps_last_finished_leaves() {
+		CallbackTreeCleaner cleaner = new CallbackTreeCleaner(tree, index, CallbackTreeRetention.SIZE, 2, 0);
+		Maybe<String> first = start(cleaner, context(null, null), "first");
+		Maybe<String> second = start(cleaner, context(null, null), "second");
+		Maybe<String> third = start(cleaner, context(null, null), "third");
+
+		cleaner.finished(second);
+		cleaner.finished(first);
+		assertThat(tree.getTestItems().keySet(), hasSize(3));
+
+		cleaner.finished(third);
+		assertThat(contains("second"), equalTo(Boolean.FALSE));
+		assertThat(contains("first"), equalTo(Boolean.TRUE));
+		assertThat(contains("third"), equalTo(Boolean.TRUE));
+		assertThat(cleaner.size(), equalTo(2));
+	}
+
+	@Test
+	public void verify_time_policy_removes_expired_leaves() {
+		CallbackTreeCleaner cleaner = new CallbackTreeCleaner(tree, index, CallbackTreeRetention.TIME, 0, 0);
+		Maybe<String> running = start(cleaner, context(null, null), "running");
+		Maybe<String> finished = start(cleaner, context(null, null), "finished");
+
+		cleaner.finished(finished);
+
+		assertThat(contains("finished"), equalTo(Boolean.FALSE));
+		assertThat(contains("running"), equalTo(Boolean.TRUE));
+		assertThat(index.getByName("finished"), nullValue());
+		assertThat(index.getByName("running"), notNullValue());
+		assertThat(cleaner.size(), equalTo(1));
+		cleaner.finished(running);
+		assertThat(tree.getTestItems().keySet(), empty());
+	}
+
+	@Test
+	public void verify_time_policy_removes_expired_leaves_on_item_start() throws InterruptedException {
+		CallbackTreeCleaner cleaner = new CallbackTreeCleaner(tree, index, CallbackTreeRetention.TIME, 0, 100);
+		Maybe<String> first = start(cleaner, context(null, null), "first");
+		cleaner.finished(first);
+		assertThat(contains("first"), equalTo(Boolean.TRUE));
+
+		Thread.sleep(150);
+		start(cleaner, context(null, null), "second");
+
+		assertThat(contains("first"), equalTo(Boolean.FALSE));
+		assertThat(contains("second"), equalTo(Boolean.TRUE));
+		assertThat(cleaner.size(), equalTo(1));
+	}
+
+	@Test
+	public void verify_repeated_finish_is_ignored() {
+		CallbackTreeCleaner cleaner = new CallbackTreeCleaner(tree, index, CallbackTreeRetention.SIZE, 1, 0);
+		Maybe<String> first = start(cleaner, context(null, null), "first");
+		Maybe<String> second = start(cleaner, context(null, null), "second");
+
+		cleaner.finished(first);
+		cleaner.finished(second);
+		// Released context states finish their items once more
+		cleaner.finished(second);
+		cleaner.finished(first);
+
+		assertThat(contains("first"), equalTo(Boolean.FALSE));
+		assertThat(contains("second"), equalTo(Boolean.TRUE));
+		assertThat(cleaner.size(), equalTo(1));
+	}
+
+	@Test
+	public void verify_class_policy_removes_leaves_of_finished_class() {
+		CallbackTreeCleaner cleaner = new CallbackTreeCleaner(tree, index, CallbackTreeRetention.CLASS, 0, 0);
+		ExtensionContext root = context(null, null);
+		ExtensionContext firstClass = context(root, String.class);
+		ExtensionContext secondClass = context(root, Integer.class);
+		start(cleaner, firstClass, "first class");
+		Maybe<String> test = start(cleaner, context(firstClass, null), "first test");
+		start(cleaner, secondClass, "second class");
+		start(cleaner, context(secondClass, null), "second test");
+
+		cleaner.finished(test);
+		assertThat(tree.getTestItems().keySet(), hasSize(4));
+
+		cleaner.classFinished(firstClass);
+		assertThat(contains("first class"), equalTo(Boolean.FALSE));
+		assertThat(contains("first test"), equalTo(Boolean.FALSE));
+		assertThat(contains("second class"), equalTo(Boolean.TRUE));
+		assertThat(contains("second test"), equalTo(Boolean.TRUE));
+	}
+
+	@Test
+	public void verify_newer_leaf_with_the_same_name_is_kept() {
+		CallbackTreeCleaner cleaner = new CallbackTreeCleaner(tree, index, CallbackTreeRetention.TIME, 0, 0);
+		ExtensionContext context = context(null, null);
+		Maybe<String> first = start(cleaner, context, "test");
+		Maybe<String> second = start(cleaner, context, "test");
+
+		cleaner.finished(first);
+		assertThat(tree.getTestItems().get(createItemTreeKey("test")).getItemId(), sameInstance(second));
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.deferred.DeferredLeavesReportedTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DeferredLeafReportingTest {
+
+	public static class DeferredTestExtension extends ReportPortalExtension {
+		static ReportPortal REPORT_PORTAL;
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+	}
+
+	private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+	// Item names by UUID and start request times by item name
+	private static final Map<String, String> NAMES = new ConcurrentHashMap<>();
+	private static final Map<String, Long> START_TIMES = new ConcurrentHashMap<>();
+	private static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	/**
+	 * Waits until a start request of the test is sent
+	 *
+	 * @param name a test method name
+	 * @throws InterruptedException if the thread is interrupted
+	 */
+	public static void awaitStart(String name) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT);
+		while (!START_TIMES.containsKey(name) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static String name(StartTestItemRQ rq) {
+		return rq.getName().replace("()", "");
+	}
+
+	@BeforeEach
+	public void setupMock() {
+		NAMES.clear();
+		START_TIMES.clear();
+		EVENTS.clear();
+		DeferredLeavesReportedTest.END_TIMES.clear();
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(CommonUtils.namedId("launch_"), 1L)));
+		Answer<Maybe<ItemCreatedRS>> startAnswer = invocation -> {
+			StartTestItemRQ rq = invocation.getArgument(invocation.getArguments().length - 1);
+			String uuid = rq.getUuid() == null ? CommonUtils.namedId("item_") : rq.getUuid();
+			NAMES.put(uuid, name(rq));
+			START_TIMES.put(name(rq), System.nanoTime());
+			EVENTS.add("start:" + name(rq));
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		};
+		when(client.startTestItem(any())).thenAnswer(startAnswer);
+		when(client.startTestItem(anyString(), any())).thenAnswer(startAnswer);
+		when(client.finishTestItem(anyString(), any())).thenAnswer(invocation -> {
+			EVENTS.add("finish:" + NAMES.get(invocation.<String>getArgument(0)));
+			return Maybe.just(new OperationCompletionRS());
+		});
+		when(client.log(anyList())).thenAnswer(invocation -> {
+			EVENTS.add("log");
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		when(client.finishLaunch(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+	}
+
+	@AfterEach
+	public void closeClient() throws IOException {
+		if (DeferredTestExtension.REPORT_PORTAL != null) {
+			((DeferredLeafReportPortalClient) DeferredTestExtension.REPORT_PORTAL.getClient()).close();
+			DeferredTestExtension.REPORT_PORTAL = null;
+		}
+	}
+
+	@Test
+	public void verify_fast_test_is_started_after_it_ends_and_busy_tests_are_started_eagerly() {
+		DeferredTestExtension.REPORT_PORTAL = ReportPortal.create(
+				new DeferredLeafReportPortalClient(client, 10, TimeUnit.MINUTES),
+				TestUtils.standardParameters()
+		);
+
+		TestUtils.runClasses(DeferredLeavesReportedTest.class);
+		new DeferredTestExtension().finish();
+
+		Map<String, Long> endTimes = DeferredLeavesReportedTest.END_TIMES;
+		assertThat(START_TIMES.get("fastTest"), greaterThan(endTimes.get("fastTest")));
+		assertThat(START_TIMES.get("loggingTest"), lessThan(endTimes.get("loggingTest")));
+		assertThat(START_TIMES.get("nestedStepTest"), lessThan(endTimes.get("nestedStepTest")));
+
+		// Every item is started before it is finished and before its logs
+		NAMES.values().forEach(name -> assertThat(EVENTS.indexOf("start:" + name), lessThan(EVENTS.indexOf("finish:" + name))));
+		assertThat(EVENTS.indexOf("start:loggingTest"), lessThan(EVENTS.indexOf("log")));
+		assertThat(EVENTS.indexOf("start:nestedStepTest"), lessThan(EVENTS.indexOf("start:Nested step")));
+	}
+
+	@Test
+	public void verify_held_start_is_sent_after_threshold() throws IOException {
+		String parentUuid = CommonUtils.namedId("suite_");
+		StartTestItemRQ suiteRq = new StartTestItemRQ();
+		suiteRq.setName("suite");
+		suiteRq.setType(ItemType.SUITE.name());
+		StartTestItemRQ stepRq = new StartTestItemRQ();
+		stepRq.setName("step");
+		stepRq.setType(ItemType.STEP.name());
+
+		try (DeferredLeafReportPortalClient deferredClient = new DeferredLeafReportPortalClient(client, 50, TimeUnit.MILLISECONDS)) {
+			deferredClient.startTestItem(suiteRq).blockingGet();
+			verify(client).startTestItem(same(suiteRq));
+
+			String stepUuid = deferredClient.startTestItem(parentUuid, stepRq).blockingGet().getId();
+			assertThat(stepUuid, equalTo(stepRq.getUuid()));
+			verify(client, timeout(TIMEOUT)).startTestItem(eq(parentUuid), same(stepRq));
+
+			deferredClient.finishTestItem(stepUuid, new FinishTestItemRQ()).blockingGet();
+			ArgumentCaptor<String> finishCaptor = ArgumentCaptor.forClass(String.class);
+			verify(client).finishTestItem(finishCaptor.capture(), any());
+			assertThat(finishCaptor.getValue(), equalTo(stepUuid));
+			verify(client, times(1)).startTestItem(anyString(), any());
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.enable.ReportingDisabledTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+
+public class DisabledReportingTest {
+
+	public static class TestExtension extends ReportPortalExtension {
+		static Launch LAUNCH;
+		static ReportPortal REPORT_PORTAL;
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+	}
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestExtension.LAUNCH = mock(Launch.class);
+		ListenerParameters parameters = TestUtils.standardParameters();
+		parameters.setEnable(false);
+		TestExtension.REPORT_PORTAL = ReportPortal.create(client, parameters);
+	}
+
+	@Test
+	public void verify_disabled_reporting_does_not_touch_launch_and_runs_tests() {
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		TestUtils.runClasses(listener, ReportingDisabledTest.class);
+
+		verifyNoInteractions(TestExtension.LAUNCH, client);
+		TestExecutionSummary summary = listener.getSummary();
+		assertThat(summary.getTestsSucceededCount(), equalTo(4L));
+		assertThat(summary.getTestsFailedCount(), equalTo(1L));
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.failurededup.RepeatedFailureTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class FailureDeduplicationTest {
+
+	public static class DeduplicationTestExtension extends ReportPortalExtension {
+		static final ExtensionParameters PARAMETERS = new ExtensionParameters();
+		static ReportPortal REPORT_PORTAL;
+
+		static {
+			PARAMETERS.setFailureDeduplication(true);
+		}
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected ExtensionParameters getExtensionParameters() {
+			return PARAMETERS;
+		}
+	}
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final Map<String, String> names = new ConcurrentHashMap<>();
+	// Log messages by item UUID
+	private final Map<String, String> logs = new ConcurrentHashMap<>();
+	private final List<String> failedItems = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	public void setupMock() {
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(CommonUtils.namedId("launch_"), 1L)));
+		Answer<Maybe<ItemCreatedRS>> startAnswer = invocation -> {
+			StartTestItemRQ rq = invocation.getArgument(invocation.getArguments().length - 1);
+			String uuid = CommonUtils.namedId("item_");
+			names.put(uuid, rq.getName());
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		};
+		when(client.startTestItem(any())).thenAnswer(startAnswer);
+		when(client.startTestItem(anyString(), any())).thenAnswer(startAnswer);
+		when(client.finishTestItem(anyString(), any())).thenAnswer(invocation -> {
+			FinishTestItemRQ rq = invocation.getArgument(1);
+			if ("FAILED".equals(rq.getStatus()) && rq.getDescription() != null) {
+				failedItems.add(invocation.getArgument(0));
+			}
+			return Maybe.just(new OperationCompletionRS());
+		});
+		when(client.log(anyList())).thenAnswer(invocation -> {
+			List<MultipartBody.Part> parts = invocation.getArgument(0);
+			Buffer buffer = new Buffer();
+			parts.get(0).body().writeTo(buffer);
+			for (JsonNode log : HttpRequestUtils.MAPPER.readTree(buffer.inputStream())) {
+				if ("ERROR".equals(log.get("level").asText())) {
+					logs.put(log.get("itemUuid").asText(), log.get("message").asText());
+				}
+			}
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		when(client.finishLaunch(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		DeduplicationTestExtension.REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+	}
+
+	@Test
+	public void verify_repeated_failure_refers_to_the_first_one() {
+		TestUtils.runClasses(RepeatedFailureTest.class);
+		new DeduplicationTestExtension().finish();
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, atLeastOnce()).finishTestItem(anyString(), finishCaptor.capture());
+		List<String> descriptions = finishCaptor.getAllValues()
+				.stream()
+				.filter(rq -> "FAILED".equals(rq.getStatus()) && rq.getDescription() != null)
+				.map(FinishTestItemRQ::getDescription)
+				.collect(Collectors.toList());
+		assertThat(descriptions, hasSize(3));
+		assertThat(descriptions.get(0), containsString("repetition 1\n\tat "));
+		for (int i = 1; i < descriptions.size(); i++) {
+			assertThat(descriptions.get(i), containsString("repetition " + (i + 1) + "\n\t... the same stack trace as in 'repetition 1 of 3'"));
+			assertThat(descriptions.get(i), not(containsString("\tat ")));
+		}
+
+		assertThat(logs.keySet(), hasSize(3));
+		String firstItem = failedItems.get(0);
+		assertThat(logs.get(firstItem), containsString("repetition 1\n\tat "));
+		failedItems.stream()
+				.skip(1)
+				.forEach(item -> assertThat(logs.get(item), containsString("the same stack trace as in 'repetition 1 of 3' (item " + firstItem + ")")));
+	}
+}
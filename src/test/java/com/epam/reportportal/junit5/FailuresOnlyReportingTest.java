@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.failuresonly.FailuresOnlyReportedTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class FailuresOnlyReportingTest {
+
+	public static class FailuresOnlyTestExtension extends ReportPortalExtension {
+		static ReportPortal REPORT_PORTAL;
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+	}
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final List<String> started = new CopyOnWriteArrayList<>();
+	private final List<String> logs = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	public void setupMock() {
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(CommonUtils.namedId("launch_"), 1L)));
+		Answer<Maybe<ItemCreatedRS>> startAnswer = invocation -> {
+			StartTestItemRQ rq = invocation.getArgument(invocation.getArguments().length - 1);
+			started.add(rq.getName());
+			return Maybe.just(new ItemCreatedRS(rq.getUuid(), rq.getUuid()));
+		};
+		when(client.startTestItem(any())).thenAnswer(startAnswer);
+		when(client.startTestItem(anyString(), any())).thenAnswer(startAnswer);
+		when(client.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.log(anyList())).thenAnswer(invocation -> {
+			List<MultipartBody.Part> parts = invocation.getArgument(0);
+			Buffer buffer = new Buffer();
+			parts.get(0).body().writeTo(buffer);
+			for (JsonNode log : HttpRequestUtils.MAPPER.readTree(buffer.inputStream())) {
+				logs.add(log.get("message").asText());
+			}
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		when(client.finishLaunch(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+	}
+
+	private static StartTestItemRQ startRq(String name, ItemType type) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setType(type.name());
+		rq.setStartTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishRq(String status) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus(status);
+		rq.setEndTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	@Test
+	public void verify_only_failed_and_skipped_tests_are_reported_with_their_ancestors() {
+		FailuresOnlyReportPortalClient failuresOnlyClient = new FailuresOnlyReportPortalClient(client, 1024 * 1024);
+		FailuresOnlyTestExtension.REPORT_PORTAL = ReportPortal.create(failuresOnlyClient, TestUtils.standardParameters());
+
+		TestUtils.runClasses(FailuresOnlyReportedTest.class);
+		new FailuresOnlyTestExtension().finish();
+
+		assertThat(started, containsInAnyOrder(FailuresOnlyReportedTest.class.getSimpleName(), "failedTest()", "skippedTest()"));
+		assertThat(started.get(0), equalTo(FailuresOnlyReportedTest.class.getSimpleName()));
+		verify(client, times(3)).finishTestItem(anyString(), any());
+		assertThat(logs, hasItem("Failed test log"));
+		assertThat(logs, not(hasItem("Passed test log")));
+
+		ArgumentCaptor<FinishExecutionRQ> launchFinish = ArgumentCaptor.forClass(FinishExecutionRQ.class);
+		verify(client).finishLaunch(anyString(), launchFinish.capture());
+		Map<String, String> attributes = launchFinish.getValue()
+				.getAttributes()
+				.stream()
+				.collect(Collectors.toMap(ItemAttributesRQ::getKey, ItemAttributesRQ::getValue));
+		assertThat(attributes, hasEntry(FailuresOnlyReportPortalClient.COLLAPSED_TESTS_ATTRIBUTE, "2"));
+		assertThat(attributes, hasEntry(FailuresOnlyReportPortalClient.COLLAPSED_ITEMS_ATTRIBUTE, "3"));
+		assertThat(failuresOnlyClient.getBufferSize(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_buffered_item_is_restored_from_compact_form() {
+		FailuresOnlyReportPortalClient failuresOnlyClient = new FailuresOnlyReportPortalClient(client, 1024 * 1024);
+		StartTestItemRQ suiteRq = startRq("suite", ItemType.SUITE);
+		suiteRq.setAttributes(Collections.singleton(new ItemAttributesRQ("key", "value")));
+		String suiteId = failuresOnlyClient.startTestItem(suiteRq).blockingGet().getId();
+		String stepId = failuresOnlyClient.startTestItem(suiteId, startRq("step", ItemType.STEP)).blockingGet().getId();
+		assertThat(failuresOnlyClient.getBufferSize(), greaterThan(0L));
+		verify(client, never()).startTestItem(any());
+
+		failuresOnlyClient.finishTestItem(stepId, finishRq(ItemStatus.FAILED.name())).blockingGet();
+		failuresOnlyClient.finishTestItem(suiteId, finishRq(ItemStatus.PASSED.name())).blockingGet();
+
+		ArgumentCaptor<StartTestItemRQ> suiteCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(suiteCaptor.capture());
+		StartTestItemRQ suite = suiteCaptor.getValue();
+		assertThat(suite.getUuid(), equalTo(suiteId));
+		assertThat(suite.getName(), equalTo("suite"));
+		assertThat(suite.getStartTime(), equalTo(suiteRq.getStartTime()));
+		assertThat(suite.getAttributes(), hasSize(1));
+		verify(client).startTestItem(eq(suiteId), any());
+		verify(client).finishTestItem(eq(stepId), any());
+		verify(client).finishTestItem(eq(suiteId), any());
+		assertThat(failuresOnlyClient.getBufferSize(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_items_are_reported_as_usual_when_buffer_is_full() {
+		FailuresOnlyReportPortalClient failuresOnlyClient = new FailuresOnlyReportPortalClient(client, 0);
+		String suiteId = failuresOnlyClient.startTestItem(startRq("suite", ItemType.SUITE)).blockingGet().getId();
+		verify(client).startTestItem(any());
+		String stepId = failuresOnlyClient.startTestItem(suiteId, startRq("step", ItemType.STEP)).blockingGet().getId();
+		verify(client).startTestItem(eq(suiteId), any());
+
+		SaveLogRQ log = new SaveLogRQ();
+		log.setItemUuid(stepId);
+		log.setMessage("Step log");
+		log.setLevel("INFO");
+		log.setLogTime(Calendar.getInstance().getTime());
+		failuresOnlyClient.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(log))).blockingGet();
+		assertThat(logs, contains("Step log"));
+
+		failuresOnlyClient.finishTestItem(stepId, finishRq(ItemStatus.PASSED.name())).blockingGet();
+		failuresOnlyClient.finishTestItem(suiteId, finishRq(ItemStatus.PASSED.name())).blockingGet();
+		verify(client, times(2)).finishTestItem(anyString(), any());
+		assertThat(failuresOnlyClient.getCollapsedItems(), equalTo(0L));
+	}
+
+	private static SaveLogRQ logRq(String itemId, String message) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemId);
+		rq.setMessage(message);
+		rq.setLevel("INFO");
+		rq.setLogTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	@Test
+	public void verify_held_logs_are_released_by_finishes_of_their_items() {
+		FailuresOnlyReportPortalClient failuresOnlyClient = new FailuresOnlyReportPortalClient(client, 1024 * 1024);
+		String suiteId = failuresOnlyClient.startTestItem(startRq("suite", ItemType.SUITE)).blockingGet().getId();
+		String firstId = failuresOnlyClient.startTestItem(suiteId, startRq("first", ItemType.STEP)).blockingGet().getId();
+		String secondId = failuresOnlyClient.startTestItem(suiteId, startRq("second", ItemType.STEP)).blockingGet().getId();
+		String passedId = failuresOnlyClient.startTestItem(suiteId, startRq("passed", ItemType.STEP)).blockingGet().getId();
+
+		failuresOnlyClient.log(HttpRequestUtils.buildLogMultiPartRequest(Arrays.asList(
+				logRq(firstId, "First log"),
+				logRq(secondId, "Second log")
+		))).blockingGet();
+		failuresOnlyClient.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(logRq(passedId, "Passed log"))))
+				.blockingGet();
+
+		failuresOnlyClient.finishTestItem(passedId, finishRq(ItemStatus.PASSED.name())).blockingGet();
+		failuresOnlyClient.finishTestItem(firstId, finishRq(ItemStatus.FAILED.name())).blockingGet();
+		// The batch still waits for the second item
+		assertThat(logs, empty());
+
+		failuresOnlyClient.finishTestItem(secondId, finishRq(ItemStatus.FAILED.name())).blockingGet();
+		assertThat(logs, containsInAnyOrder("First log", "Second log"));
+		failuresOnlyClient.finishTestItem(suiteId, finishRq(ItemStatus.FAILED.name())).blockingGet();
+		assertThat(failuresOnlyClient.getBufferSize(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_held_logs_are_sent_when_the_buffer_overflows() throws IOException {
+		FailuresOnlyReportPortalClient failuresOnlyClient = new FailuresOnlyReportPortalClient(client, 2048);
+		String stepId = failuresOnlyClient.startTestItem(startRq("step", ItemType.STEP)).blockingGet().getId();
+		verify(client, never()).startTestItem(any());
+
+		SaveLogRQ log = new SaveLogRQ();
+		log.setItemUuid(stepId);
+		log.setMessage("Step log");
+		log.setLevel("INFO");
+		log.setLogTime(Calendar.getInstance().getTime());
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName("attachment.bin");
+		file.setContent(new byte[4096]);
+		file.setContentType("application/octet-stream");
+		log.setFile(file);
+		failuresOnlyClient.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(log))).blockingGet();
+
+		verify(client).startTestItem(any());
+		assertThat(logs, contains("Step log"));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client).log(logCaptor.capture());
+		assertThat(logCaptor.getValue(), hasSize(2));
+		assertThat(logCaptor.getValue().get(1).body().contentLength(), equalTo(4096L));
+		failuresOnlyClient.close();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.jfr.JfrFeatureTest;
+import com.epam.reportportal.junit5.jfr.AgentEvents;
+import com.epam.reportportal.junit5.jfr.EventHandle;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.reactivex.Maybe;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FlightRecorderEventsTest {
+
+	private static final String EVENT_PREFIX = "com.epam.reportportal.junit5.";
+	private static final String FEATURE_CLASS = JfrFeatureTest.class.getCanonicalName();
+
+	public static class FlightRecorderTestExtension extends ReportPortalExtension {
+		static Launch LAUNCH;
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+	}
+
+	@BeforeEach
+	public void setupMock() {
+		Launch launch = mock(Launch.class);
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		when(launch.startTestItem(any())).thenAnswer((Answer<Maybe<String>>) invocation -> CommonUtils.createMaybeUuid());
+		when(launch.startTestItem(any(), any())).thenAnswer((Answer<Maybe<String>>) invocation -> CommonUtils.createMaybeUuid());
+		when(launch.finishTestItem(any(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		FlightRecorderTestExtension.LAUNCH = launch;
+	}
+
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+		return events.stream().filter(e -> e.getEventType().getName().equals(EVENT_PREFIX + name)).collect(Collectors.toList());
+	}
+
+	private static List<String> values(List<RecordedEvent> events, String field) {
+		return events.stream().map(e -> e.<String>getValue(field)).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_reporting_operations_are_recorded(@TempDir Path dir) throws IOException {
+		Path file = dir.resolve("agent.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_PREFIX + "ItemStart").withThreshold(java.time.Duration.ZERO);
+			recording.enable(EVENT_PREFIX + "ConfigurationStart").withThreshold(java.time.Duration.ZERO);
+			recording.enable(EVENT_PREFIX + "ItemFinish").withThreshold(java.time.Duration.ZERO);
+			recording.enable(EVENT_PREFIX + "TemplatesFinish").withThreshold(java.time.Duration.ZERO);
+			recording.enable(EVENT_PREFIX + "StackTraceFormat").withThreshold(java.time.Duration.ZERO);
+			recording.start();
+			TestUtils.runClasses(JfrFeatureTest.class);
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		List<RecordedEvent> starts = events(events, "ItemStart");
+		assertThat(values(starts, "itemType"), containsInAnyOrder("SUITE", "STEP", "STEP", "TEMPLATE", "STEP", "STEP"));
+		assertThat(values(starts, "codeRef"), hasItems(FEATURE_CLASS, FEATURE_CLASS + ".passedTest", FEATURE_CLASS + ".parameterizedTest"));
+
+		List<RecordedEvent> configurations = events(events, "ConfigurationStart");
+		assertThat(configurations, hasSize(4));
+		assertThat(values(configurations, "itemType"), everyItem(equalTo(ItemType.BEFORE_METHOD.name())));
+		assertThat(values(configurations, "codeRef"), everyItem(equalTo(FEATURE_CLASS + ".beforeEach")));
+
+		List<RecordedEvent> finishes = events(events, "ItemFinish");
+		assertThat(values(finishes, "itemType"), containsInAnyOrder("SUITE", "STEP", "STEP", "STEP", "STEP"));
+
+		List<RecordedEvent> templates = events(events, "TemplatesFinish");
+		assertThat(templates, hasSize(1));
+		assertThat(templates.get(0).getString("codeRef"), equalTo(FEATURE_CLASS));
+
+		List<RecordedEvent> stackTraces = events(events, "StackTraceFormat");
+		assertThat(stackTraces, not(empty()));
+		assertThat(values(stackTraces, "codeRef"), everyItem(equalTo(FEATURE_CLASS + ".failedTest")));
+		assertThat(values(stackTraces, "itemType"), everyItem(equalTo(ItemType.STEP.name())));
+	}
+
+	@Test
+	public void verify_events_are_no_op_without_recording() {
+		assertThat(AgentEvents.itemStart(), sameInstance(EventHandle.NOOP));
+		assertThat(AgentEvents.itemFinish(), sameInstance(EventHandle.NOOP));
+
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_PREFIX + "ItemStart");
+			recording.start();
+			EventHandle event = AgentEvents.itemStart();
+			assertThat(event.isEnabled(), equalTo(Boolean.TRUE));
+			event.commit(ItemType.STEP, () -> FEATURE_CLASS);
+			assertThat(AgentEvents.itemFinish(), sameInstance(EventHandle.NOOP));
+			recording.stop();
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.lifecycle.FailedBeforeAllFeatureTest;
+import com.epam.reportportal.junit5.features.lifecycle.FailedConstructorFeatureTest;
+import com.epam.reportportal.junit5.features.lifecycle.ManyTestsFeatureTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.service.Launch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Runs 100k tests with an extension which stays reachable after the run, like a globally registered one, and verifies that it does not
+ * retain test contexts, and so test instances, including contexts of classes with failed constructors and <code>@BeforeAll</code>
+ * methods.
+ */
+public class LifecycleStateTest {
+
+	public static class LifecycleStateTestExtension extends ReportPortalExtension {
+		static final List<ReportPortalExtension> INSTANCES = new CopyOnWriteArrayList<>();
+		static final Queue<Reference<ExtensionContext>> CONTEXTS = new ConcurrentLinkedQueue<>();
+
+		public LifecycleStateTestExtension() {
+			INSTANCES.add(this);
+		}
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return Launch.NOOP_LAUNCH;
+		}
+
+		@Override
+		public void beforeAll(ExtensionContext context) {
+			CONTEXTS.add(new WeakReference<>(context));
+			super.beforeAll(context);
+		}
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+			CONTEXTS.add(new WeakReference<>(context));
+			super.beforeEach(context);
+		}
+
+		@Override
+		public void interceptDynamicTest(Invocation<Void> invocation, DynamicTestInvocationContext invocationContext,
+				ExtensionContext extensionContext) throws Throwable {
+			CONTEXTS.add(new WeakReference<>(extensionContext));
+			super.interceptDynamicTest(invocation, invocationContext, extensionContext);
+		}
+
+		@Override
+		public void testFailed(ExtensionContext context, Throwable cause) {
+			CONTEXTS.add(new WeakReference<>(context));
+			super.testFailed(context, cause);
+		}
+	}
+
+	@BeforeEach
+	public void setup() {
+		LifecycleStateTestExtension.INSTANCES.clear();
+		LifecycleStateTestExtension.CONTEXTS.clear();
+	}
+
+	private static long retainedContexts() throws InterruptedException {
+		long retained = Long.MAX_VALUE;
+		for (int i = 0; i < 10 && retained > 0; i++) {
+			System.gc();
+			Thread.sleep(100);
+			retained = LifecycleStateTestExtension.CONTEXTS.stream().filter(r -> r.get() != null).count();
+		}
+		return retained;
+	}
+
+	@Test
+	public void verify_extension_does_not_retain_test_contexts() throws InterruptedException {
+		TestUtils.runClasses(ManyTestsFeatureTest.class, FailedConstructorFeatureTest.class, FailedBeforeAllFeatureTest.class);
+
+		assertThat(LifecycleStateTestExtension.INSTANCES, hasSize(3));
+		assertThat(LifecycleStateTestExtension.CONTEXTS.size(), greaterThan(ManyTestsFeatureTest.DYNAMIC_TESTS));
+		assertThat(retainedContexts(), equalTo(0L));
+	}
+}
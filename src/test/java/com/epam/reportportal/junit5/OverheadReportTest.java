@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class OverheadReportTest {
+
+	private static final long TEST_TIME = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private static AgentStatistics statistics() throws Throwable {
+		AgentStatistics statistics = new AgentStatistics(() -> 0, () -> 0, () -> 0);
+		statistics.start(AgentStatistics.Callback.BEFORE_ALL).stop();
+		AgentStatistics.Timer timer = statistics.start(AgentStatistics.Callback.INTERCEPT_TEST_METHOD);
+		timer.exclude(new InvocationInterceptor.Invocation<Void>() {
+			@Override
+			public Void proceed() throws InterruptedException {
+				Thread.sleep(TimeUnit.NANOSECONDS.toMillis(TEST_TIME));
+				return null;
+			}
+
+			@Override
+			public void skip() {
+			}
+		}).proceed();
+		timer.stop();
+		return statistics;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_report_is_published_at_launch_finish(@TempDir Path dir) throws Throwable {
+		Path file = dir.resolve("reports").resolve("overhead.json");
+		OverheadReport report = new OverheadReport(statistics(), file);
+		Launch launch = mock(Launch.class);
+		FinishExecutionRQ rq = new FinishExecutionRQ();
+		rq.setAttributes(Collections.singleton(new ItemAttributesRQ("key", "value")));
+
+		report.publish(launch, rq);
+
+		Map<String, String> attributes = rq.getAttributes()
+				.stream()
+				.collect(Collectors.toMap(ItemAttributesRQ::getKey, ItemAttributesRQ::getValue));
+		assertThat(attributes.keySet(), containsInAnyOrder("key", OverheadReport.OVERHEAD_ATTRIBUTE, OverheadReport.TIME_ATTRIBUTE));
+		assertThat(attributes.get(OverheadReport.OVERHEAD_ATTRIBUTE), endsWith("%"));
+		assertThat(attributes.get(OverheadReport.TIME_ATTRIBUTE), endsWith(" ms"));
+
+		ArgumentCaptor<Function<String, SaveLogRQ>> logCaptor = ArgumentCaptor.forClass(Function.class);
+		verify(launch).log(logCaptor.capture());
+		SaveLogRQ logRq = logCaptor.getValue().apply("launch-uuid");
+		assertThat(logRq.getLaunchUuid(), equalTo("launch-uuid"));
+		assertThat(logRq.getItemUuid(), nullValue());
+		assertThat(logRq.getFile().getName(), equalTo("overhead.json"));
+		assertThat(logRq.getFile().getContentType(), equalTo(OverheadReport.CONTENT_TYPE));
+		assertThat(Files.readAllBytes(file), equalTo(logRq.getFile().getContent()));
+
+		JsonNode json = HttpRequestUtils.MAPPER.readTree(Files.readAllBytes(file));
+		assertThat(json.get("testTimeNs").asLong(), greaterThanOrEqualTo(TEST_TIME));
+		assertThat(json.get("overheadPercent").asDouble(), lessThan(50d));
+		JsonNode callbacks = json.get("callbacks");
+		assertThat(callbacks.size(), equalTo(2));
+		JsonNode testMethod = callbacks.get("interceptTestMethod");
+		assertThat(testMethod.get("calls").asLong(), equalTo(1L));
+		assertThat(testMethod.get("testTimeNs").asLong(), greaterThanOrEqualTo(TEST_TIME));
+		assertThat(testMethod.get("agentTimeNs").asLong(), lessThan(TEST_TIME));
+		assertThat(testMethod.get("histogramNs").size(), equalTo(1));
+		assertThat(callbacks.get("beforeAll").get("testTimeNs").asLong(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_overhead_percent() {
+		assertThat(OverheadReport.getOverheadPercent(0, 0), equalTo(0d));
+		assertThat(OverheadReport.getOverheadPercent(1, 3), equalTo(25d));
+		assertThat(OverheadReport.getOverheadPercent(1, 2), equalTo(33.33d));
+	}
+
+	@Test
+	public void verify_default_report_file_is_named_after_process() {
+		assertThat(
+				ExtensionParameters.DEFAULT_OVERHEAD_REPORT_FILE,
+				equalTo("reportportal-overhead-" + ProcessHandle.current().pid() + ".json")
+		);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.spool.SpoolReportedTest;
+import com.epam.reportportal.junit5.journal.JournalReader;
+import com.epam.reportportal.junit5.journal.JournalRecord;
+import com.epam.reportportal.junit5.journal.JournalReportPortalClient;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SpoolReportingTest {
+
+	public static class SpoolTestExtension extends ReportPortalExtension {
+		static ReportPortal REPORT_PORTAL;
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+	}
+
+	@TempDir
+	Path tempDir;
+
+	private static List<JournalRecord> readJournal(Path file) throws IOException {
+		List<JournalRecord> records = new ArrayList<>();
+		try (JournalReader reader = new JournalReader(file)) {
+			JournalRecord record;
+			while ((record = reader.nextRecord()) != null) {
+				records.add(record);
+			}
+			assertThat(reader.isTruncated(), equalTo(false));
+		}
+		return records;
+	}
+
+	@Test
+	public void verify_launch_is_written_to_journal() throws IOException {
+		Path file = tempDir.resolve("launch.rpj");
+		SpoolTestExtension.REPORT_PORTAL = ReportPortal.create(new JournalReportPortalClient(file), TestUtils.standardParameters());
+
+		TestUtils.runClasses(SpoolReportedTest.class);
+		new SpoolTestExtension().finish();
+
+		List<JournalRecord> records = readJournal(file);
+		assertThat(records.get(0).getType(), equalTo(JournalRecord.Type.START_LAUNCH));
+		String launchUuid = records.get(0).getRequest(StartLaunchRQ.class).getUuid();
+		assertThat(launchUuid, not(emptyOrNullString()));
+		List<JournalRecord> launchFinishes = records.stream()
+				.filter(r -> r.getType() == JournalRecord.Type.FINISH_LAUNCH)
+				.collect(Collectors.toList());
+		assertThat(launchFinishes, hasSize(1));
+		assertThat(launchFinishes.get(0).getId(), equalTo(launchUuid));
+		assertThat(launchFinishes.get(0).getRequest(FinishExecutionRQ.class).getEndTime(), notNullValue());
+
+		List<JournalRecord> starts = records.stream()
+				.filter(r -> r.getType() == JournalRecord.Type.START_ITEM)
+				.collect(Collectors.toList());
+		assertThat(starts, hasSize(3));
+		StartTestItemRQ suite = starts.get(0).getRequest(StartTestItemRQ.class);
+		assertThat(starts.get(0).getId(), nullValue());
+		assertThat(suite.getLaunchUuid(), equalTo(launchUuid));
+		assertThat(suite.getCodeRef(), equalTo(SpoolReportedTest.class.getCanonicalName()));
+		starts.subList(1, starts.size()).forEach(r -> assertThat(r.getId(), equalTo(suite.getUuid())));
+
+		Map<String, String> testUuids = starts.subList(1, starts.size())
+				.stream()
+				.map(r -> r.getRequest(StartTestItemRQ.class))
+				.collect(Collectors.toMap(StartTestItemRQ::getName, StartTestItemRQ::getUuid));
+		Map<String, FinishTestItemRQ> finishes = records.stream()
+				.filter(r -> r.getType() == JournalRecord.Type.FINISH_ITEM)
+				.collect(Collectors.toMap(JournalRecord::getId, r -> r.getRequest(FinishTestItemRQ.class)));
+		assertThat(finishes.keySet(), containsInAnyOrder(suite.getUuid(), testUuids.get("passedTest()"), testUuids.get("failedTest()")));
+		assertThat(finishes.get(testUuids.get("passedTest()")).getStatus(), equalTo(ItemStatus.PASSED.name()));
+		assertThat(finishes.get(testUuids.get("failedTest()")).getStatus(), equalTo(ItemStatus.FAILED.name()));
+
+		String logs = records.stream()
+				.filter(r -> r.getType() == JournalRecord.Type.LOG_BATCH)
+				.flatMap(r -> r.getParts().stream())
+				.map(part -> new String(part.getContent(), StandardCharsets.UTF_8))
+				.collect(Collectors.joining("\n"));
+		assertThat(logs, allOf(containsString("Spooled failure"), containsString(testUuids.get("failedTest()"))));
+	}
+}
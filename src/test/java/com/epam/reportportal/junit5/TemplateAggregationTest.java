@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5;
+
+import com.epam.reportportal.junit5.features.aggregation.AggregatedLoggedTemplateTest;
+import com.epam.reportportal.junit5.features.aggregation.AggregatedTemplatesTest;
+import com.epam.reportportal.junit5.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.Matchers.endsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+public class TemplateAggregationTest {
+
+	public static class AggregationTestExtension extends ReportPortalExtension {
+		static final ExtensionParameters PARAMETERS = new ExtensionParameters();
+		static final String TEMPLATE_FINISH_DESCRIPTION = "Finished template";
+		static Launch LAUNCH;
+
+		static {
+			PARAMETERS.setTemplateAggregation(true);
+		}
+
+		@Override
+		protected Launch getLaunch(ExtensionContext context) {
+			return LAUNCH;
+		}
+
+		@Override
+		protected ExtensionParameters getExtensionParameters() {
+			return PARAMETERS;
+		}
+
+		@Override
+		protected FinishTestItemRQ buildFinishTemplateRq(ExtensionContext context) {
+			FinishTestItemRQ rq = super.buildFinishTemplateRq(context);
+			rq.setDescription(TEMPLATE_FINISH_DESCRIPTION);
+			return rq;
+		}
+	}
+
+	public static class ClientAggregationExtension extends ReportPortalExtension {
+		static ReportPortal REPORT_PORTAL;
+
+		@Override
+		protected ReportPortal getReporter() {
+			return REPORT_PORTAL;
+		}
+
+		@Override
+		protected ExtensionParameters getExtensionParameters() {
+			return AggregationTestExtension.PARAMETERS;
+		}
+	}
+
+	private final Map<Maybe<String>, StartTestItemRQ> items = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	public void setupMock() {
+		Launch launch = mock(Launch.class);
+		AggregationTestExtension.LAUNCH = launch;
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		Answer<Maybe<String>> startAnswer = invocation -> {
+			Maybe<String> id = CommonUtils.createMaybeUuid();
+			items.put(id, invocation.getArgument(invocation.getArguments().length - 1));
+			return id;
+		};
+		when(launch.startTestItem(any())).thenAnswer(startAnswer);
+		when(launch.startTestItem(any(), any())).thenAnswer(startAnswer);
+	}
+
+	@Test
+	public void verify_passed_invocations_are_reported_as_summary_items() {
+		TestUtils.runClasses(AggregatedTemplatesTest.class);
+
+		Launch launch = AggregationTestExtension.LAUNCH;
+		verify(launch, times(1)).startTestItem(any());
+		ArgumentCaptor<Maybe<String>> parentCaptor = ArgumentCaptor.forClass(Maybe.class);
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		// Two templates, a failed and a skipped invocation and two summary items
+		verify(launch, times(6)).startTestItem(parentCaptor.capture(), startCaptor.capture());
+		ArgumentCaptor<Maybe<String>> finishIdCaptor = ArgumentCaptor.forClass(Maybe.class);
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(7)).finishTestItem(finishIdCaptor.capture(), finishCaptor.capture());
+
+		List<StartTestItemRQ> steps = startCaptor.getAllValues()
+				.stream()
+				.filter(rq -> ItemType.STEP.name().equals(rq.getType()))
+				.collect(Collectors.toList());
+		List<StartTestItemRQ> summaries = steps.stream().filter(rq -> rq.getName().startsWith("Passed invocations")).collect(Collectors.toList());
+		assertThat(summaries, hasSize(2));
+		summaries.forEach(rq -> {
+			assertThat(rq.getName(), equalTo("Passed invocations (3)"));
+			Map<String, String> attributes = rq.getAttributes()
+					.stream()
+					.collect(Collectors.toMap(ItemAttributesRQ::getKey, ItemAttributesRQ::getValue));
+			assertThat(attributes.keySet(), containsInAnyOrder("invocations", "min", "p50", "p99", "max"));
+			assertThat(attributes.get("invocations"), equalTo("3"));
+			assertThat(attributes.get("p99"), endsWith(" ms"));
+		});
+
+		// Summary items are children of their templates
+		List<Maybe<String>> parents = parentCaptor.getAllValues();
+		for (int i = 0; i < parents.size(); i++) {
+			if (summaries.contains(startCaptor.getAllValues().get(i))) {
+				assertThat(items.get(parents.get(i)).getType(), equalTo(ItemType.SUITE.name()));
+			}
+		}
+
+		List<StartTestItemRQ> invocations = steps.stream().filter(rq -> !summaries.contains(rq)).collect(Collectors.toList());
+		assertThat(invocations, hasSize(2));
+		assertThat(
+				invocations.stream().map(rq -> rq.getParameters().get(0).getValue()).collect(Collectors.toList()),
+				containsInAnyOrder("3", "4")
+		);
+
+		Map<String, String> statuses = new HashMap<>();
+		List<Maybe<String>> finishIds = finishIdCaptor.getAllValues();
+		for (int i = 0; i < finishIds.size(); i++) {
+			StartTestItemRQ rq = items.get(finishIds.get(i));
+			if (invocations.contains(rq)) {
+				statuses.put(rq.getParameters().get(0).getValue(), finishCaptor.getAllValues().get(i).getStatus());
+			} else if (summaries.contains(rq)) {
+				assertThat(finishCaptor.getAllValues().get(i).getStatus(), equalTo(ItemStatus.PASSED.name()));
+			}
+		}
+		assertThat(statuses, equalTo(Map.of("3", ItemStatus.FAILED.name(), "4", ItemStatus.SKIPPED.name())));
+	}
+
+	@Test
+	public void verify_summary_items_have_code_references_of_their_templates() {
+		TestUtils.runClasses(AggregatedTemplatesTest.class);
+
+		Launch launch = AggregationTestExtension.LAUNCH;
+		ArgumentCaptor<Maybe<String>> parentCaptor = ArgumentCaptor.forClass(Maybe.class);
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(6)).startTestItem(parentCaptor.capture(), startCaptor.capture());
+
+		// Summary items are started after their template contexts are closed
+		List<String> codeRefs = new ArrayList<>();
+		for (int i = 0; i < startCaptor.getAllValues().size(); i++) {
+			StartTestItemRQ rq = startCaptor.getAllValues().get(i);
+			if (rq.getName().startsWith("Passed invocations")) {
+				StartTestItemRQ template = items.get(parentCaptor.getAllValues().get(i));
+				assertThat(rq.getCodeRef(), equalTo(template.getCodeRef()));
+				codeRefs.add(rq.getCodeRef());
+			}
+		}
+		String classCodeRef = AggregatedTemplatesTest.class.getCanonicalName();
+		assertThat(codeRefs, containsInAnyOrder(classCodeRef + ".parameterizedTest", classCodeRef + ".repeatedTest"));
+	}
+
+	@Test
+	public void verify_template_finish_request_is_built_by_extension_point() {
+		TestUtils.runClasses(AggregatedTemplatesTest.class);
+
+		Launch launch = AggregationTestExtension.LAUNCH;
+		ArgumentCaptor<Maybe<String>> finishIdCaptor = ArgumentCaptor.forClass(Maybe.class);
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(7)).finishTestItem(finishIdCaptor.capture(), finishCaptor.capture());
+
+		List<String> templateDescriptions = new ArrayList<>();
+		for (int i = 0; i < finishIdCaptor.getAllValues().size(); i++) {
+			StartTestItemRQ rq = items.get(finishIdCaptor.getAllValues().get(i));
+			// Templates are suites with code references of their methods
+			if (rq != null && ItemType.SUITE.name().equals(rq.getType()) && !AggregatedTemplatesTest.class.getCanonicalName()
+					.equals(rq.getCodeRef())) {
+				templateDescriptions.add(finishCaptor.getAllValues().get(i).getDescription());
+			}
+		}
+		assertThat(templateDescriptions, contains(
+				AggregationTestExtension.TEMPLATE_FINISH_DESCRIPTION,
+				AggregationTestExtension.TEMPLATE_FINISH_DESCRIPTION
+		));
+	}
+
+	@Test
+	public void verify_logs_of_failed_invocation_are_attached_to_its_item() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(CommonUtils.namedId("launch_"), 1L)));
+		Map<String, StartTestItemRQ> started = new ConcurrentHashMap<>();
+		Answer<Maybe<ItemCreatedRS>> startAnswer = invocation -> {
+			StartTestItemRQ rq = invocation.getArgument(invocation.getArguments().length - 1);
+			String uuid = CommonUtils.namedId("item_");
+			started.put(uuid, rq);
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		};
+		when(client.startTestItem(any())).thenAnswer(startAnswer);
+		when(client.startTestItem(anyString(), any())).thenAnswer(startAnswer);
+		when(client.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.finishLaunch(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		// Log item UUIDs by message
+		Map<String, String> logs = new ConcurrentHashMap<>();
+		when(client.log(anyList())).thenAnswer(invocation -> {
+			List<MultipartBody.Part> parts = invocation.getArgument(0);
+			Buffer buffer = new Buffer();
+			parts.get(0).body().writeTo(buffer);
+			for (JsonNode log : HttpRequestUtils.MAPPER.readTree(buffer.inputStream())) {
+				logs.put(log.get("message").asText(), log.get("itemUuid").asText());
+			}
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		ClientAggregationExtension.REPORT_PORTAL = ReportPortal.create(client, TestUtils.standardParameters());
+
+		TestUtils.runClasses(AggregatedLoggedTemplateTest.class);
+		new ClientAggregationExtension().finish();
+
+		assertThat(logs.keySet(), containsInAnyOrder(AggregatedLoggedTemplateTest.PASSED_LOG, AggregatedLoggedTemplateTest.FAILED_LOG));
+		StartTestItemRQ failedItem = started.get(logs.get(AggregatedLoggedTemplateTest.FAILED_LOG));
+		assertThat(failedItem, notNullValue());
+		assertThat(failedItem.getType(), equalTo(ItemType.STEP.name()));
+		assertThat(failedItem.getParameters().get(0).getValue(), equalTo("2"));
+		StartTestItemRQ passedItem = started.get(logs.get(AggregatedLoggedTemplateTest.PASSED_LOG));
+		assertThat(passedItem, notNullValue());
+		// Logs of passed invocations go to the template item
+		assertThat(passedItem.getType(), equalTo(ItemType.SUITE.name()));
+		assertThat(passedItem.getCodeRef(), equalTo(AggregatedLoggedTemplateTest.class.getCanonicalName() + ".parameterizedTest"));
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.features.aggregation;
+
+import com.epam.reportportal.junit5.TemplateAggregationTest;
+import com.epam.reportportal.service.ReportPortal;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@ExtendWith(TemplateAggregationTest.ClientAggregationExtension.class)
+public class AggregatedLoggedTemplateTest {
+
+	public static final String PASSED_LOG = "Passed invocation log";
+	public static final String FAILED_LOG = "Failed invocation log";
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2 })
+	public void parameterizedTest(int value) {
+		ReportPortal.emitLog(value == 2 ? FAILED_LOG : PASSED_LOG, "INFO", Instant.now());
+		assertNotEquals(2, value, "Failed invocation");
+	}
+}
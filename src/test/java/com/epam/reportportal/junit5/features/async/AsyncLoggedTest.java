@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.async;
+
+import com.epam.reportportal.junit5.AsyncReportingTest;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Calendar;
+
+@ExtendWith(AsyncReportingTest.ClientTestExtension.class)
+public class AsyncLoggedTest {
+
+	public static final String LOG_MESSAGE = "Log from a test body";
+
+	@Test
+	public void loggedTest() {
+		ReportPortal.emitLog(itemUuid -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid(itemUuid);
+			rq.setLevel("INFO");
+			rq.setLogTime(Calendar.getInstance().getTime());
+			rq.setMessage(LOG_MESSAGE);
+			return rq;
+		});
+	}
+}
@@ -30,8 +30,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.Calendar;
 
 import static com.epam.reportportal.junit5.CallbackReportingTest.ITEM_CALLBACK_FINISH_STATUS;
-import static com.epam.reportportal.junit5.ReportPortalExtension.REPORT_PORTAL;
 import static com.epam.reportportal.junit5.ReportPortalExtension.TEST_ITEM_TREE;
+import static com.epam.reportportal.junit5.ReportPortalExtension.getReportPortal;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -56,7 +56,7 @@ public class CallbackFeatureTest {
 		FinishTestItemRQ finishTestItemRQ = new FinishTestItemRQ();
 		finishTestItemRQ.setStatus(status);
 		finishTestItemRQ.setEndTime(Calendar.getInstance().getTime());
-		ItemTreeReporter.finishItem(REPORT_PORTAL.getClient(), finishTestItemRQ, TEST_ITEM_TREE.getLaunchId(), testItemLeaf)
+		ItemTreeReporter.finishItem(getReportPortal().getClient(), finishTestItemRQ, TEST_ITEM_TREE.getLaunchId(), testItemLeaf)
 				.cache()
 				.blockingGet();
 	}
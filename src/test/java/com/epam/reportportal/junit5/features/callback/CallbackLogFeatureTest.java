@@ -27,8 +27,8 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static com.epam.reportportal.junit5.CallbackReportingTest.*;
-import static com.epam.reportportal.junit5.ReportPortalExtension.REPORT_PORTAL;
 import static com.epam.reportportal.junit5.ReportPortalExtension.TEST_ITEM_TREE;
+import static com.epam.reportportal.junit5.ReportPortalExtension.getReportPortal;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -51,7 +51,7 @@ public class CallbackLogFeatureTest {
 
 	private static void attachLog(TestItemTree.TestItemLeaf testItemLeaf) {
 		ItemTreeReporter.sendLog(
-				REPORT_PORTAL.getClient(),
+				getReportPortal().getClient(),
 				ERROR_LOG_LEVEL,
 				LOG_MESSAGE,
 				LOG_TIME,
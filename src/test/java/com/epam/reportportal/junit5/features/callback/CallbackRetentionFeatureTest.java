@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.features.callback;
+
+import com.epam.reportportal.junit5.CallbackRetentionTest;
+import com.epam.reportportal.junit5.utils.ItemTreeUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.epam.reportportal.junit5.ReportPortalExtension.TEST_ITEM_TREE;
+
+@ExtendWith(CallbackRetentionTest.CallbackRetentionExtension.class)
+public class CallbackRetentionFeatureTest {
+
+	public static final List<TestInfo> TESTS = new CopyOnWriteArrayList<>();
+	public static final Map<String, Boolean> LEAF_PRESENT = new ConcurrentHashMap<>();
+
+	@Test
+	void firstRetainedTest() {
+		Assertions.assertEquals(1, 1);
+	}
+
+	@Test
+	void secondRetainedTest() {
+		Assertions.assertEquals(1, 1);
+	}
+
+	@AfterEach
+	void afterMethod(TestInfo testInfo) {
+		TESTS.add(testInfo);
+		LEAF_PRESENT.put(testInfo.getDisplayName(), ItemTreeUtils.retrieveLeaf(testInfo, TEST_ITEM_TREE) != null);
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.features.callback;
+
+import com.epam.reportportal.junit5.CallbackReportingTest;
+import com.epam.reportportal.junit5.utils.ItemTreeUtils;
+import com.epam.reportportal.service.tree.TestItemTree;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.epam.reportportal.junit5.ReportPortalExtension.TEST_ITEM_INDEX;
+
+@ExtendWith(CallbackReportingTest.CallbackReportingExtension.class)
+public class CallbackSameNameFeatureTest {
+
+	public static final String NAME = "Same callback name";
+
+	public static final List<TestItemTree.TestItemLeaf> LEAVES = new CopyOnWriteArrayList<>();
+
+	@ParameterizedTest(name = NAME)
+	@ValueSource(ints = { 1, 2 })
+	void sameNameTest(int value) {
+		Assertions.assertTrue(value > 0);
+	}
+
+	@AfterEach
+	void afterMethod(TestInfo testInfo) {
+		LEAVES.add(ItemTreeUtils.retrieveLeaf(testInfo, TEST_ITEM_INDEX));
+	}
+}
@@ -0,0 +1,24 @@
+package com.epam.reportportal.junit5.features.configname;
+
+import com.epam.reportportal.junit5.miscellaneous.DisplayNamesForConfigurationItemsTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@DisplayNameGeneration(CountingDisplayNameGenerator.class)
+@ExtendWith(DisplayNamesForConfigurationItemsTest.TestExtension.class)
+public class ConfigurationMethodsRepeatedDisplayNameGeneratorTest {
+
+	public static final int REPETITIONS = 5;
+
+	@BeforeEach
+	public void beforeEach() {
+		System.out.println("Before each");
+	}
+
+	@RepeatedTest(REPETITIONS)
+	public void repeatedTest() {
+		System.out.println("Test");
+	}
+}
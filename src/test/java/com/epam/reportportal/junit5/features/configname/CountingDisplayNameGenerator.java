@@ -0,0 +1,18 @@
+package com.epam.reportportal.junit5.features.configname;
+
+import org.junit.jupiter.api.DisplayNameGenerator;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CountingDisplayNameGenerator extends DisplayNameGenerator.Standard {
+	public static final AtomicInteger BEFORE_EACH_NAME_COUNT = new AtomicInteger();
+
+	@Override
+	public String generateDisplayNameForMethod(Class<?> testClass, Method testMethod) {
+		if ("beforeEach".equals(testMethod.getName())) {
+			BEFORE_EACH_NAME_COUNT.incrementAndGet();
+		}
+		return super.generateDisplayNameForMethod(testClass, testMethod);
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.features.deferred;
+
+import com.epam.reportportal.junit5.DeferredLeafReportingTest;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@ExtendWith(DeferredLeafReportingTest.DeferredTestExtension.class)
+public class DeferredLeavesReportedTest {
+
+	public static final Map<String, Long> END_TIMES = new ConcurrentHashMap<>();
+
+	@Test
+	public void fastTest() {
+		END_TIMES.put("fastTest", System.nanoTime());
+	}
+
+	@Test
+	public void loggingTest() throws InterruptedException {
+		ReportPortal.emitLog("Deferred leaf log", "INFO", Instant.now());
+		DeferredLeafReportingTest.awaitStart("loggingTest");
+		END_TIMES.put("loggingTest", System.nanoTime());
+	}
+
+	@Test
+	public void nestedStepTest() throws InterruptedException {
+		Launch.currentLaunch().getStepReporter().sendStep("Nested step");
+		DeferredLeafReportingTest.awaitStart("nestedStepTest");
+		END_TIMES.put("nestedStepTest", System.nanoTime());
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.features.enable;
+
+import com.epam.reportportal.junit5.DisabledReportingTest;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+@ExtendWith(DisabledReportingTest.TestExtension.class)
+public class ReportingDisabledTest {
+
+	@BeforeAll
+	public static void beforeAll() {
+	}
+
+	@BeforeEach
+	public void beforeEach() {
+	}
+
+	@Test
+	public void passedTest() {
+	}
+
+	@Test
+	public void failedTest() {
+		fail("Test failed");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "one", "two" })
+	public void parameterizedTest(String value) {
+	}
+
+	@TestFactory
+	public Stream<DynamicTest> dynamicTests() {
+		return Stream.of(DynamicTest.dynamicTest("dynamic", () -> {
+		}));
+	}
+
+	@AfterEach
+	public void afterEach() {
+	}
+
+	@AfterAll
+	public static void afterAll() {
+	}
+}
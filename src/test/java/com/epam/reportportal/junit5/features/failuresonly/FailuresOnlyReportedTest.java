@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.features.failuresonly;
+
+import com.epam.reportportal.junit5.FailuresOnlyReportingTest;
+import com.epam.reportportal.service.ReportPortal;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+@ExtendWith(FailuresOnlyReportingTest.FailuresOnlyTestExtension.class)
+public class FailuresOnlyReportedTest {
+
+	@Test
+	public void passedTest() {
+		ReportPortal.emitLog("Passed test log", "INFO", Instant.now());
+	}
+
+	@Test
+	public void failedTest() {
+		ReportPortal.emitLog("Failed test log", "INFO", Instant.now());
+		fail("Failure");
+	}
+
+	@Test
+	public void skippedTest() {
+		Assumptions.assumeTrue(false);
+	}
+
+	@Nested
+	public class PassedSuite {
+		@Test
+		public void nestedPassedTest() {
+		}
+	}
+}
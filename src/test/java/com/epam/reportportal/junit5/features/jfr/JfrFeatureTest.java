@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.features.jfr;
+
+import com.epam.reportportal.junit5.FlightRecorderEventsTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(FlightRecorderEventsTest.FlightRecorderTestExtension.class)
+public class JfrFeatureTest {
+
+	@BeforeEach
+	public void beforeEach() {
+	}
+
+	@Test
+	public void passedTest() {
+	}
+
+	@Test
+	public void failedTest() {
+		throw new IllegalStateException("Failed test");
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2 })
+	public void parameterizedTest(int value) {
+		assertTrue(value > 0);
+	}
+}
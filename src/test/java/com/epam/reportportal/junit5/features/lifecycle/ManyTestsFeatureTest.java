@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.features.lifecycle;
+
+import com.epam.reportportal.junit5.LifecycleStateTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@ExtendWith(LifecycleStateTest.LifecycleStateTestExtension.class)
+public class ManyTestsFeatureTest {
+
+	public static final int DYNAMIC_TESTS = 100_000;
+
+	@TestFactory
+	Stream<DynamicTest> dynamicTests() {
+		return IntStream.range(0, DYNAMIC_TESTS).mapToObj(i -> DynamicTest.dynamicTest("Test " + i, () -> Assertions.assertTrue(i >= 0)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "one", "two", "three" })
+	void parameterizedTest(String value) {
+		Assertions.assertNotNull(value);
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.journal;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JournalCodecTest {
+
+	private static final Instant LAUNCH_START = Instant.parse("2026-01-01T10:00:00.123456Z");
+
+	private final JournalEncoder encoder = new JournalEncoder();
+	private final JournalDecoder decoder = new JournalDecoder();
+
+	private JournalRecord roundTrip(JournalRecord record) throws IOException {
+		return decoder.decode(encoder.encode(record));
+	}
+
+	private void startLaunch() throws IOException {
+		StartLaunchRQ rq = new StartLaunchRQ();
+		rq.setName("Launch");
+		rq.setUuid("launch-uuid");
+		rq.setStartTime(LAUNCH_START);
+		JournalRecord record = roundTrip(JournalRecord.startLaunch(rq));
+		assertThat(record.getRequest(StartLaunchRQ.class).getName(), equalTo("Launch"));
+		assertThat(record.getRequest(StartLaunchRQ.class).getUuid(), equalTo("launch-uuid"));
+	}
+
+	private static StartTestItemRQ startItem(String uuid, String name, Instant time) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setUuid(uuid);
+		rq.setName(name);
+		rq.setDescription("Description of " + name);
+		rq.setAttributes(new LinkedHashSet<>(Arrays.asList(new ItemAttributesRQ("key", "value"), new ItemAttributesRQ("agent", "junit5", true))));
+		rq.setStartTime(time);
+		rq.setCodeRef("com.example.MyTest.test");
+		ParameterResource parameter = new ParameterResource();
+		parameter.setKey("java.lang.String");
+		parameter.setValue(name);
+		rq.setParameters(Collections.singletonList(parameter));
+		rq.setUniqueId("[engine:junit-jupiter]/[class:com.example.MyTest]/[method:test()]/" + uuid);
+		rq.setTestCaseId("com.example.MyTest.test[" + name + "]");
+		rq.setLaunchUuid("launch-uuid");
+		rq.setType("STEP");
+		return rq;
+	}
+
+	@Test
+	public void verify_item_requests_survive_encoding() throws IOException {
+		startLaunch();
+		StartTestItemRQ suite = startItem("suite-uuid", "Suite", LAUNCH_START.plusMillis(1));
+		suite.setType("SUITE");
+		suite.setRetry(false);
+		suite.setHasStats(false);
+		StartTestItemRQ test = startItem("test-uuid", "Test", LAUNCH_START.plusNanos(1_000_001));
+		test.setRetry(true);
+		test.setRetryOf("previous-test-uuid");
+
+		JournalRecord suiteRecord = roundTrip(JournalRecord.startItem(null, suite));
+		JournalRecord testRecord = roundTrip(JournalRecord.startItem("suite-uuid", test));
+
+		assertThat(suiteRecord.getId(), nullValue());
+		assertThat(testRecord.getId(), equalTo("suite-uuid"));
+		StartTestItemRQ decodedSuite = suiteRecord.getRequest(StartTestItemRQ.class);
+		assertThat(HttpRequestUtils.MAPPER.writeValueAsString(decodedSuite), equalTo(HttpRequestUtils.MAPPER.writeValueAsString(suite)));
+		StartTestItemRQ decodedTest = testRecord.getRequest(StartTestItemRQ.class);
+		assertThat(HttpRequestUtils.MAPPER.writeValueAsString(decodedTest), equalTo(HttpRequestUtils.MAPPER.writeValueAsString(test)));
+		assertThat(decodedTest.getStartTime(), equalTo(test.getStartTime()));
+
+		FinishTestItemRQ finish = new FinishTestItemRQ();
+		finish.setEndTime(new Date(LAUNCH_START.toEpochMilli() - 5));
+		finish.setStatus("FAILED");
+		finish.setDescription("Error: \nAssertionError");
+		finish.setLaunchUuid("launch-uuid");
+		Issue issue = new Issue();
+		issue.setIssueType("pb001");
+		issue.setComment("Known issue");
+		finish.setIssue(issue);
+		JournalRecord finishRecord = roundTrip(JournalRecord.finishItem("test-uuid", finish));
+
+		assertThat(finishRecord.getId(), equalTo("test-uuid"));
+		FinishTestItemRQ decodedFinish = finishRecord.getRequest(FinishTestItemRQ.class);
+		assertThat(HttpRequestUtils.MAPPER.writeValueAsString(decodedFinish), equalTo(HttpRequestUtils.MAPPER.writeValueAsString(finish)));
+		assertThat(decodedFinish.getEndTime(), equalTo(finish.getEndTime()));
+	}
+
+	@Test
+	public void verify_finished_items_are_referenced_by_uuid() throws IOException {
+		startLaunch();
+		roundTrip(JournalRecord.startItem(null, startItem("test-uuid", "Test", LAUNCH_START)));
+		FinishTestItemRQ finish = new FinishTestItemRQ();
+		finish.setEndTime(LAUNCH_START.plusSeconds(1));
+		roundTrip(JournalRecord.finishItem("test-uuid", finish));
+
+		SaveLogRQ log = new SaveLogRQ();
+		log.setUuid("log-uuid");
+		log.setItemUuid("test-uuid");
+		log.setLaunchUuid("launch-uuid");
+		log.setLogTime(LAUNCH_START.plusSeconds(2));
+		log.setMessage("Late log");
+		log.setLevel("INFO");
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName("screenshot.png");
+		file.setContentType("image/png");
+		file.setContent(new byte[] { 1, 2, 3 });
+		log.setFile(file);
+		JournalRecord logRecord = roundTrip(JournalRecord.log(log));
+
+		SaveLogRQ decodedLog = logRecord.getRequest(SaveLogRQ.class);
+		assertThat(decodedLog.getItemUuid(), equalTo("test-uuid"));
+		assertThat(decodedLog.getLogTime(), equalTo(log.getLogTime()));
+		assertThat(decodedLog.getMessage(), equalTo("Late log"));
+		assertThat(decodedLog.getFile().getName(), equalTo("screenshot.png"));
+		assertThat(decodedLog.getFile().getContentType(), equalTo("image/png"));
+		assertThat(decodedLog.getFile().getContent(), equalTo(new byte[] { 1, 2, 3 }));
+	}
+
+	@Test
+	public void verify_repeated_strings_are_written_once() throws IOException {
+		startLaunch();
+		byte[] first = encoder.encode(JournalRecord.startItem(null, startItem(UUID.randomUUID().toString(), "Test", LAUNCH_START)));
+		byte[] second = encoder.encode(JournalRecord.startItem(null, startItem(UUID.randomUUID().toString(), "Test", LAUNCH_START)));
+
+		assertThat(second.length, lessThan(first.length));
+		decoder.decode(first);
+		StartTestItemRQ decoded = decoder.decode(second).getRequest(StartTestItemRQ.class);
+		assertThat(decoded.getCodeRef(), equalTo("com.example.MyTest.test"));
+		assertThat(decoded.getTestCaseId(), equalTo("com.example.MyTest.test[Test]"));
+	}
+
+	@Test
+	public void verify_log_batch_survives_encoding() throws IOException {
+		startLaunch();
+		MultipartBody.Part part = MultipartBody.Part.createFormData(
+				"file",
+				"log.txt",
+				RequestBody.create("log content".getBytes(StandardCharsets.UTF_8), MediaType.get("text/plain"))
+		);
+		JournalRecord batch = roundTrip(JournalRecord.logBatch(Collections.singletonList(JournalRecord.LogPart.of(part))));
+
+		assertThat(batch.getType(), equalTo(JournalRecord.Type.LOG_BATCH));
+		assertThat(batch.getParts(), hasSize(1));
+		JournalRecord.LogPart decodedPart = batch.getParts().get(0);
+		assertThat(decodedPart.getContentType(), startsWith("text/plain"));
+		assertThat(new String(decodedPart.getContent(), StandardCharsets.UTF_8), equalTo("log content"));
+		assertThat(decodedPart.getHeaders(), hasItem(containsString("log.txt")));
+		assertThat(decodedPart.toPart().body().contentType(), equalTo(part.body().contentType()));
+	}
+
+	@Test
+	public void verify_launch_finish_survives_encoding() throws IOException {
+		startLaunch();
+		FinishExecutionRQ rq = new FinishExecutionRQ();
+		rq.setEndTime(LAUNCH_START.plusSeconds(60));
+		JournalRecord record = roundTrip(JournalRecord.finishLaunch("launch-uuid", rq));
+
+		assertThat(record.getType(), equalTo(JournalRecord.Type.FINISH_LAUNCH));
+		assertThat(record.getId(), equalTo("launch-uuid"));
+		assertThat(record.getRequest(FinishExecutionRQ.class).getEndTime(), notNullValue());
+	}
+}
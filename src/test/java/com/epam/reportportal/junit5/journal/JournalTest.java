@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JournalTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void verify_records_are_read_in_write_order() throws IOException {
+		Path file = tempDir.resolve("journal.rpj");
+		byte[] big = new byte[5 * 1024 * 1024];
+		new Random(42).nextBytes(big);
+		try (JournalWriter writer = new JournalWriter(file)) {
+			writer.append("first".getBytes(StandardCharsets.UTF_8));
+			writer.append(big);
+			writer.append(big);
+			writer.append("last".getBytes(StandardCharsets.UTF_8));
+		}
+
+		try (JournalReader reader = new JournalReader(file)) {
+			assertThat(reader.getVersion(), equalTo(JournalWriter.VERSION));
+			assertThat(new String(reader.next(), StandardCharsets.UTF_8), equalTo("first"));
+			assertThat(reader.next(), equalTo(big));
+			assertThat(reader.next(), equalTo(big));
+			assertThat(new String(reader.next(), StandardCharsets.UTF_8), equalTo("last"));
+			assertThat(reader.next(), nullValue());
+			assertThat(reader.isTruncated(), equalTo(false));
+		}
+	}
+
+	@Test
+	public void verify_reading_stops_at_torn_record() throws IOException {
+		Path file = tempDir.resolve("journal.rpj");
+		try (JournalWriter writer = new JournalWriter(file)) {
+			writer.append("complete".getBytes(StandardCharsets.UTF_8));
+			writer.append("torn".getBytes(StandardCharsets.UTF_8));
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.seek(raf.length() - 1);
+			raf.write('X');
+		}
+
+		try (JournalReader reader = new JournalReader(file)) {
+			assertThat(new String(reader.next(), StandardCharsets.UTF_8), equalTo("complete"));
+			assertThat(reader.next(), nullValue());
+			assertThat(reader.isTruncated(), equalTo(true));
+		}
+	}
+
+	@Test
+	public void verify_not_a_journal_file_is_rejected() throws IOException {
+		Path file = tempDir.resolve("journal.rpj");
+		Files.write(file, "not a journal".getBytes(StandardCharsets.UTF_8));
+
+		IOException error = null;
+		try {
+			new JournalReader(file).close();
+		} catch (IOException e) {
+			error = e;
+		}
+		assertThat(error, notNullValue());
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.journal;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JournalUploaderTest {
+
+	private static final int TEST_NUMBER = 50;
+
+	@TempDir
+	Path tempDir;
+
+	private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupClient() {
+		when(client.startLaunch(any())).thenAnswer(invocation -> {
+			calls.add("start:" + invocation.<StartLaunchRQ>getArgument(0).getUuid());
+			return Maybe.just(new StartLaunchRS(invocation.<StartLaunchRQ>getArgument(0).getUuid(), 1L));
+		});
+		when(client.startTestItem(any())).thenAnswer(invocation -> {
+			calls.add("start:" + invocation.<StartTestItemRQ>getArgument(0).getUuid());
+			return Maybe.just(new ItemCreatedRS());
+		});
+		when(client.startTestItem(anyString(), any())).thenAnswer(invocation -> {
+			assertThat(calls, hasItem("start:" + invocation.getArgument(0)));
+			calls.add("start:" + invocation.<StartTestItemRQ>getArgument(1).getUuid());
+			return Maybe.just(new ItemCreatedRS());
+		});
+		when(client.finishTestItem(anyString(), any())).thenAnswer(invocation -> {
+			calls.add("finish:" + invocation.getArgument(0));
+			return Maybe.just(new OperationCompletionRS());
+		});
+		when(client.log(anyList())).thenAnswer(invocation -> {
+			calls.add("log");
+			return Maybe.just(new BatchSaveOperatingRS());
+		});
+		when(client.finishLaunch(anyString(), any())).thenAnswer(invocation -> {
+			calls.add("finish:" + invocation.getArgument(0));
+			return Maybe.just(new OperationCompletionRS());
+		});
+	}
+
+	private static StartTestItemRQ item(String name) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setStartTime(Instant.now());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finish() {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setEndTime(Instant.now());
+		rq.setStatus("PASSED");
+		return rq;
+	}
+
+	private static SaveLogRQ log(String launchUuid, String itemUuid) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setLaunchUuid(launchUuid);
+		rq.setItemUuid(itemUuid);
+		rq.setLevel("INFO");
+		rq.setLogTime(Instant.now());
+		rq.setMessage("log message");
+		return rq;
+	}
+
+	/**
+	 * Writes a launch with a suite of tests to a journal, returns UUIDs: launch, suite, then tests
+	 */
+	private List<String> writeJournal(Path file, boolean finish) throws IOException {
+		List<String> uuids = new ArrayList<>();
+		try (JournalReportPortalClient journal = new JournalReportPortalClient(file)) {
+			String launchUuid = journal.startLaunch(new StartLaunchRQ()).blockingGet().getId();
+			uuids.add(launchUuid);
+			String suiteUuid = journal.startTestItem(item("Suite")).blockingGet().getId();
+			uuids.add(suiteUuid);
+			List<String> tests = IntStream.range(0, TEST_NUMBER)
+					.mapToObj(i -> journal.startTestItem(suiteUuid, item("Test " + i)).blockingGet().getId())
+					.collect(Collectors.toList());
+			uuids.addAll(tests);
+			tests.forEach(test -> journal.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(log(launchUuid, test)))));
+			if (!finish) {
+				return uuids;
+			}
+			tests.forEach(test -> journal.finishTestItem(test, finish()));
+			journal.finishTestItem(suiteUuid, finish());
+			FinishExecutionRQ rq = new FinishExecutionRQ();
+			rq.setEndTime(Instant.now());
+			journal.finishLaunch(launchUuid, rq);
+		}
+		return uuids;
+	}
+
+	@Test
+	public void verify_journal_is_replayed_with_recorded_uuids() throws IOException {
+		Path file = tempDir.resolve("launch" + JournalWriter.FILE_EXTENSION);
+		List<String> uuids = writeJournal(file, true);
+		String launchUuid = uuids.get(0);
+		String suiteUuid = uuids.get(1);
+		List<String> tests = uuids.subList(2, uuids.size());
+
+		JournalUploader.Result result = new JournalUploader(client, 8).upload(file);
+
+		assertThat(result.getLaunchUuid(), equalTo(launchUuid));
+		assertThat(result.getItems(), equalTo((long) TEST_NUMBER + 1));
+		assertThat(result.getLogs(), equalTo((long) TEST_NUMBER));
+		assertThat(result.getFailures(), equalTo(0L));
+		assertThat(result.isTruncated(), equalTo(false));
+
+		assertThat(calls.get(0), equalTo("start:" + launchUuid));
+		assertThat(calls.get(1), equalTo("start:" + suiteUuid));
+		assertThat(calls.get(calls.size() - 1), equalTo("finish:" + launchUuid));
+		assertThat(calls.get(calls.size() - 2), equalTo("finish:" + suiteUuid));
+		tests.forEach(test -> assertThat(
+				calls.indexOf("start:" + test),
+				allOf(greaterThan(1), lessThan(calls.indexOf("finish:" + test)))
+		));
+		assertThat(calls.stream().filter("log"::equals).count(), equalTo((long) TEST_NUMBER));
+	}
+
+	@Test
+	public void verify_launch_is_finished_if_journal_has_no_finish() throws IOException {
+		Path file = tempDir.resolve("launch" + JournalWriter.FILE_EXTENSION);
+		List<String> uuids = writeJournal(file, false);
+
+		JournalUploader.Result result = new JournalUploader(client, 4).upload(file);
+
+		assertThat(result.getItems(), equalTo((long) TEST_NUMBER + 1));
+		assertThat(calls, hasSize(TEST_NUMBER * 2 + 3));
+		assertThat(calls.get(calls.size() - 1), equalTo("finish:" + uuids.get(0)));
+	}
+
+	@Test
+	public void verify_failed_parent_fails_its_children() throws IOException {
+		Path file = tempDir.resolve("launch" + JournalWriter.FILE_EXTENSION);
+		List<String> uuids = writeJournal(file, true);
+		doReturn(Maybe.error(new IllegalStateException("Unable to start suite"))).when(client).startTestItem(any());
+
+		JournalUploader.Result result = new JournalUploader(client, 4).upload(file);
+
+		// The suite start, all test starts, logs and finishes and the suite finish
+		assertThat(result.getFailures(), equalTo((long) TEST_NUMBER * 3 + 2));
+		assertThat(calls, contains("start:" + uuids.get(0), "finish:" + uuids.get(0)));
+	}
+
+	@Test
+	public void verify_directory_journals_are_listed_in_name_order() throws IOException {
+		writeJournal(tempDir.resolve("b" + JournalWriter.FILE_EXTENSION), true);
+		writeJournal(tempDir.resolve("a" + JournalWriter.FILE_EXTENSION), true);
+		writeJournal(tempDir.resolve("c.txt"), true);
+
+		assertThat(
+				JournalUploader.listJournals(tempDir),
+				contains(tempDir.resolve("a" + JournalWriter.FILE_EXTENSION), tempDir.resolve("b" + JournalWriter.FILE_EXTENSION))
+		);
+	}
+}
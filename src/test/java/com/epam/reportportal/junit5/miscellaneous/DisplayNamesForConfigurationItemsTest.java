@@ -4,6 +4,8 @@ import com.epam.reportportal.junit5.ReportPortalExtension;
 import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsDefaultDisplayNameTest;
 import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsDisplayNameGeneratorTest;
 import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsDisplayNameTest;
+import com.epam.reportportal.junit5.features.configname.ConfigurationMethodsRepeatedDisplayNameGeneratorTest;
+import com.epam.reportportal.junit5.features.configname.CountingDisplayNameGenerator;
 import com.epam.reportportal.junit5.features.configname.CustomDisplayNameGenerator;
 import com.epam.reportportal.junit5.util.TestUtils;
 import com.epam.reportportal.service.Launch;
@@ -27,6 +29,7 @@ import java.util.stream.IntStream;
 import static com.epam.reportportal.junit5.miscellaneous.DisplayNamesForConfigurationItemsTest.TestExtension.LAUNCH;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.*;
@@ -76,6 +79,23 @@ public class DisplayNamesForConfigurationItemsTest {
 		startItemCaptor.getAllValues().forEach(i -> assertThat(i.getName(), equalTo(CustomDisplayNameGenerator.DISPLAY_NAME_METHOD)));
 	}
 
+	@Test
+	public void test_configuration_method_display_name_is_generated_once() {
+		TestUtils.runClasses(ConfigurationMethodsRepeatedDisplayNameGeneratorTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> startItemCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(LAUNCH, atLeastOnce()).startTestItem(notNull(), startItemCaptor.capture());
+
+		List<String> beforeEachNames = startItemCaptor.getAllValues()
+				.stream()
+				.filter(rq -> "BEFORE_METHOD".equals(rq.getType()))
+				.map(StartTestItemRQ::getName)
+				.collect(Collectors.toList());
+		assertThat(beforeEachNames, hasSize(ConfigurationMethodsRepeatedDisplayNameGeneratorTest.REPETITIONS));
+		beforeEachNames.forEach(n -> assertThat(n, equalTo("beforeEach()")));
+		assertThat(CountingDisplayNameGenerator.BEFORE_EACH_NAME_COUNT.get(), equalTo(1));
+	}
+
 	@Test
 	public void test_configuration_method_display_name_default_values() {
 		TestUtils.runClasses(ConfigurationMethodsDefaultDisplayNameTest.class);
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DurationStatisticsTest {
+
+	@Test
+	public void verify_percentiles_use_nearest_rank() {
+		DurationStatistics statistics = new DurationStatistics();
+		Instant start = Instant.now();
+		for (int i = 100; i >= 1; i--) {
+			statistics.add(start.plusMillis(i), start.plusMillis(i * 2L));
+		}
+
+		assertThat(statistics.getCount(), equalTo(100));
+		assertThat(statistics.getFirstStart(), equalTo(start.plusMillis(1)));
+		assertThat(statistics.getLastEnd(), equalTo(start.plusMillis(200)));
+		Duration[] percentiles = statistics.getPercentiles(0, 50, 99, 100);
+		assertThat(percentiles[0], equalTo(Duration.ofMillis(1)));
+		assertThat(percentiles[1], equalTo(Duration.ofMillis(50)));
+		assertThat(percentiles[2], equalTo(Duration.ofMillis(99)));
+		assertThat(percentiles[3], equalTo(Duration.ofMillis(100)));
+	}
+
+	@Test
+	public void verify_empty_statistics() {
+		DurationStatistics statistics = new DurationStatistics();
+
+		assertThat(statistics.getCount(), equalTo(0));
+		assertThat(statistics.getFirstStart(), nullValue());
+		assertThat(statistics.getPercentile(50), equalTo(Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> statistics.getPercentile(101));
+	}
+}
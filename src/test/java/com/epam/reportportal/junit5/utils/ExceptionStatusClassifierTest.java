@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import org.junit.AssumptionViolatedException;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.TestAbortedException;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ExceptionStatusClassifierTest {
+
+	public static class MyAbortedException extends TestAbortedException {
+	}
+
+	public static class MySkipException extends IllegalStateException {
+	}
+
+	public static class MyNestedSkipException extends MySkipException {
+	}
+
+	@Test
+	public void verify_default_assumption_exceptions_are_skipped() {
+		ExceptionStatusClassifier classifier = new ExceptionStatusClassifier();
+
+		assertThat(classifier.getStatus(new TestAbortedException()), equalTo(ItemStatus.SKIPPED));
+		assertThat(classifier.getStatus(new AssumptionViolatedException("test")), equalTo(ItemStatus.SKIPPED));
+		assertThat(classifier.getStatus(new MyAbortedException()), equalTo(ItemStatus.SKIPPED));
+		assertThat(classifier.getStatus(new MySkipException()), equalTo(ItemStatus.FAILED));
+		assertThat(classifier.getStatus(new AssertionError()), equalTo(ItemStatus.FAILED));
+	}
+
+	@Test
+	public void verify_additional_assumption_exceptions_are_skipped() {
+		ExceptionStatusClassifier classifier = new ExceptionStatusClassifier(Collections.singleton(MySkipException.class.getCanonicalName()));
+
+		assertThat(classifier.getStatus(new MySkipException()), equalTo(ItemStatus.SKIPPED));
+		assertThat(classifier.getStatus(new MyNestedSkipException()), equalTo(ItemStatus.SKIPPED));
+		assertThat(classifier.getStatus(new IllegalStateException()), equalTo(ItemStatus.FAILED));
+	}
+}
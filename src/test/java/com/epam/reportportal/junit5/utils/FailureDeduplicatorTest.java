@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FailureDeduplicatorTest {
+
+	private static Throwable exception(String message, int line) {
+		IllegalStateException exception = new IllegalStateException(message);
+		exception.setStackTrace(new StackTraceElement[] { new StackTraceElement("com.example.Fixture", "setUp", "Fixture.java", line) });
+		return exception;
+	}
+
+	@Test
+	public void verify_hash_ignores_messages() {
+		assertThat(FailureDeduplicator.hash(exception("First", 10)), equalTo(FailureDeduplicator.hash(exception("Second", 10))));
+		assertThat(FailureDeduplicator.hash(exception("First", 10)), not(equalTo(FailureDeduplicator.hash(exception("First", 11)))));
+		assertThat(
+				FailureDeduplicator.hash(exception("First", 10)),
+				not(equalTo(FailureDeduplicator.hash(new IllegalStateException("Wrapper", exception("First", 10)))))
+		);
+	}
+
+	@Test
+	public void verify_hash_ignores_frames_below_the_test_framework() {
+		StackTraceElement assertion = new StackTraceElement("org.junit.jupiter.api.AssertionUtils", "fail", "AssertionUtils.java", 1);
+		StackTraceElement test = new StackTraceElement("com.example.MyTest", "test", "MyTest.java", 2);
+		StackTraceElement reflection = new StackTraceElement("java.lang.reflect.Method", "invoke", "Method.java", 3);
+		IllegalStateException first = new IllegalStateException();
+		first.setStackTrace(new StackTraceElement[] { assertion, test, reflection,
+				new StackTraceElement("java.util.stream.ReferencePipeline", "forEach", "ReferencePipeline.java", 4) });
+		IllegalStateException second = new IllegalStateException();
+		second.setStackTrace(new StackTraceElement[] { assertion, test, reflection,
+				new StackTraceElement("java.util.Spliterators", "forEachRemaining", "Spliterators.java", 5) });
+		String[] packages = StackTraceFormatter.FRAMEWORK_PACKAGES.toArray(new String[0]);
+
+		assertThat(FailureDeduplicator.hash(first, packages), equalTo(FailureDeduplicator.hash(second, packages)));
+		assertThat(FailureDeduplicator.hash(first), not(equalTo(FailureDeduplicator.hash(second))));
+	}
+
+	@Test
+	public void verify_only_first_report_is_full() {
+		FailureDeduplicator deduplicator = new FailureDeduplicator(16, StackTraceFormatter.FRAMEWORK_PACKAGES);
+		FailureDeduplicator.Failure first = deduplicator.get(exception("First", 10), "firstTest()");
+		assertThat(first.describe(), equalTo(true));
+		assertThat(first.log(), equalTo(true));
+		first.setItemUuid("first-item");
+
+		FailureDeduplicator.Failure second = deduplicator.get(exception("Second", 10), "secondTest()");
+		assertThat(second, sameInstance(first));
+		assertThat(second.describe(), equalTo(false));
+		assertThat(second.log(), equalTo(false));
+		assertThat(
+				second.reference(exception("Second", 10)),
+				equalTo("java.lang.IllegalStateException: Second\n\t... the same stack trace as in 'firstTest()' (item first-item), failure "
+						+ first.getHash() + "\n")
+		);
+	}
+
+	@Test
+	public void verify_least_recently_seen_failure_is_evicted() {
+		FailureDeduplicator deduplicator = new FailureDeduplicator(2, StackTraceFormatter.FRAMEWORK_PACKAGES);
+		FailureDeduplicator.Failure first = deduplicator.get(exception("First", 1), "first");
+		deduplicator.get(exception("Second", 2), "second");
+		deduplicator.get(exception("First", 1), "first");
+		deduplicator.get(exception("Third", 3), "third");
+
+		assertThat(deduplicator.size(), equalTo(2));
+		assertThat(deduplicator.get(exception("First", 1), "first"), sameInstance(first));
+		assertThat(deduplicator.get(exception("Second", 2), "second").getItemName(), equalTo("second"));
+		assertThat(deduplicator.size(), equalTo(2));
+	}
+}
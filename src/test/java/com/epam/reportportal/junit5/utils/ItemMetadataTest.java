@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.annotations.Description;
+import com.epam.reportportal.annotations.DisplayName;
+import com.epam.reportportal.annotations.Issue;
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ItemMetadataTest {
+
+	@DisplayName("Class name")
+	@Attributes(attributes = @Attribute(key = "class", value = "attribute"))
+	public static class AnnotatedClass {
+		@DisplayName("Method name")
+		@Description("Method description")
+		@TestCaseId("my-test-case-id")
+		@Issue("pb001")
+		@Attributes(attributes = @Attribute(key = "method", value = "attribute"))
+		public void annotatedMethod() {
+		}
+
+		public void plainMethod() {
+		}
+	}
+
+	@Test
+	public void verify_method_metadata_is_read_once() throws NoSuchMethodException {
+		Method method = AnnotatedClass.class.getMethod("annotatedMethod");
+		ItemMetadata metadata = ItemMetadata.of(method);
+
+		assertThat(ItemMetadata.of(AnnotatedClass.class.getMethod("annotatedMethod")), sameInstance(metadata));
+		assertThat(metadata.getDisplayName(), equalTo("Method name"));
+		assertThat(metadata.getDescription(), equalTo("Method description"));
+		assertThat(metadata.getTestCaseId(), notNullValue());
+		assertThat(metadata.getTestCaseId().value(), equalTo("my-test-case-id"));
+		assertThat(metadata.getIssue(), notNullValue());
+		assertThat(metadata.getIssues(), nullValue());
+		assertThat(metadata.getAttributes(), hasSize(1));
+		ItemAttributesRQ attribute = metadata.getAttributes().iterator().next();
+		assertThat(attribute.getKey(), equalTo("method"));
+		assertThat(attribute.getValue(), equalTo("attribute"));
+	}
+
+	@Test
+	public void verify_not_annotated_method_metadata() throws NoSuchMethodException {
+		ItemMetadata metadata = ItemMetadata.of(AnnotatedClass.class.getMethod("plainMethod"));
+
+		assertThat(metadata.getDisplayName(), nullValue());
+		assertThat(metadata.getDescription(), nullValue());
+		assertThat(metadata.getTestCaseId(), nullValue());
+		assertThat(metadata.getIssue(), nullValue());
+		assertThat(metadata.getAttributes(), empty());
+	}
+
+	@Test
+	public void verify_class_metadata_is_read_once() {
+		ItemMetadata metadata = ItemMetadata.of(AnnotatedClass.class);
+
+		assertThat(ItemMetadata.of(AnnotatedClass.class), sameInstance(metadata));
+		assertThat(metadata.getDisplayName(), equalTo("Class name"));
+		assertThat(metadata.getAttributes(), hasSize(1));
+		assertThat(metadata.getAttributes().iterator().next().getKey(), equalTo("class"));
+	}
+
+	@Test
+	public void verify_attributes_are_new_on_each_call() throws NoSuchMethodException {
+		ItemMetadata metadata = ItemMetadata.of(AnnotatedClass.class.getMethod("annotatedMethod"));
+
+		Set<ItemAttributesRQ> attributes = metadata.getAttributes();
+		attributes.iterator().next().setValue("changed");
+		attributes.add(new ItemAttributesRQ("added", "attribute"));
+
+		Set<ItemAttributesRQ> cached = metadata.getAttributes();
+		assertThat(cached, not(sameInstance(attributes)));
+		assertThat(cached, hasSize(1));
+		assertThat(cached.iterator().next().getValue(), equalTo("attribute"));
+	}
+
+	@Test
+	public void verify_code_references() throws NoSuchMethodException {
+		assertThat(ItemMetadata.of(AnnotatedClass.class).getCodeRef(), equalTo(AnnotatedClass.class.getCanonicalName()));
+		assertThat(
+				ItemMetadata.of(AnnotatedClass.class.getMethod("plainMethod")).getCodeRef(),
+				equalTo(AnnotatedClass.class.getCanonicalName() + ".plainMethod")
+		);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void verify_every_value_falls_into_its_bucket() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < 100_000; i++) {
+			long value = random.nextLong(Long.MAX_VALUE) >>> random.nextInt(63);
+			int index = LatencyHistogram.index(value);
+			assertThat(LatencyHistogram.highestValue(index), greaterThanOrEqualTo(value));
+			assertThat(LatencyHistogram.highestValue(index) - value, lessThanOrEqualTo(Math.max(0, value / 32)));
+			if (index > 0) {
+				assertThat(LatencyHistogram.highestValue(index - 1), lessThan(value));
+			}
+		}
+		assertThat(LatencyHistogram.highestValue(LatencyHistogram.index(Long.MAX_VALUE)), equalTo(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void verify_percentiles_are_within_bucket_precision() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long i = 1; i <= 10_000; i++) {
+			histogram.record(i * 1000);
+		}
+
+		assertThat(histogram.getCount(), equalTo(10_000L));
+		assertThat(histogram.getTotal(), equalTo(50_005_000_000L));
+		assertThat(histogram.getMax(), equalTo(10_000_000L));
+		assertThat((double) histogram.getValueAtPercentile(50), closeTo(5_000_000, 5_000_000 * 0.032));
+		assertThat((double) histogram.getValueAtPercentile(99), closeTo(9_900_000, 9_900_000 * 0.032));
+		assertThat(histogram.getValueAtPercentile(100), equalTo(10_000_000L));
+		Map<Long, Long> buckets = histogram.getBuckets();
+		assertThat(buckets.values().stream().mapToLong(Long::longValue).sum(), equalTo(10_000L));
+		assertThat(new ArrayList<>(buckets.keySet()), equalTo(buckets.keySet().stream().sorted().collect(Collectors.toList())));
+	}
+
+	@Test
+	public void verify_concurrent_recording_is_not_lost() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 100_000; i++) {
+						histogram.record(i % 1000);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(histogram.getCount(), equalTo(400_000L));
+		assertThat(histogram.getTotal(), equalTo(4 * 100L * 499_500L));
+		assertThat(histogram.getMax(), equalTo(999L));
+	}
+
+	@Test
+	public void verify_empty_histogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		LatencyHistogram empty = new LatencyHistogram();
+
+		assertThat(histogram.getValueAtPercentile(50), equalTo(0L));
+		assertThat(empty.getCount(), equalTo(0L));
+		assertThat(empty.getValueAtPercentile(99), equalTo(0L));
+		assertThat(empty.getBuckets().entrySet(), empty());
+		assertThrows(IllegalArgumentException.class, () -> empty.getValueAtPercentile(101));
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StackTraceFormatterTest {
+
+	private static StackTraceElement frame(String className, String method) {
+		return new StackTraceElement(className, method, className.substring(className.lastIndexOf('.') + 1) + ".java", 10);
+	}
+
+	private static Throwable exception(String message, StackTraceElement... frames) {
+		RuntimeException exception = new RuntimeException(message);
+		exception.setStackTrace(frames);
+		return exception;
+	}
+
+	private static long count(String text, String line) {
+		return Arrays.stream(text.split("\n")).filter(l -> l.startsWith(line)).count();
+	}
+
+	@Test
+	public void verify_framework_frames_are_collapsed() {
+		Throwable exception = exception(
+				"Error",
+				frame("org.junit.jupiter.api.AssertionUtils", "fail"),
+				frame("com.example.MyTest", "test"),
+				frame("jdk.internal.reflect.NativeMethodAccessorImpl", "invoke0"),
+				frame("java.lang.reflect.Method", "invoke"),
+				frame("org.junit.platform.commons.util.ReflectionUtils", "invokeMethod"),
+				frame("com.example.Runner", "run")
+		);
+
+		String trace = new StackTraceFormatter(-1, -1, -1, StackTraceFormatter.FRAMEWORK_PACKAGES).format(exception);
+
+		assertThat(
+				trace, equalTo("java.lang.RuntimeException: Error\n" + "\tat org.junit.jupiter.api.AssertionUtils.fail(AssertionUtils.java:10)\n"
+						+ "\tat com.example.MyTest.test(MyTest.java:10)\n" + "\t... 3 framework frames\n"
+						+ "\tat com.example.Runner.run(Runner.java:10)\n")
+		);
+	}
+
+	@Test
+	public void verify_frame_limit() {
+		StackTraceElement[] frames = IntStream.range(0, 10).mapToObj(i -> frame("com.example.Test", "method" + i)).toArray(StackTraceElement[]::new);
+
+		String trace = new StackTraceFormatter(3, -1, -1, Collections.emptySet()).format(exception("Error", frames));
+
+		assertThat(count(trace, "\tat "), equalTo(3L));
+		assertThat(trace, endsWith("\t... 7 frames omitted\n"));
+	}
+
+	@Test
+	public void verify_cause_limit_and_common_frames() {
+		StackTraceElement common = frame("com.example.Runner", "run");
+		Throwable root = exception("Root", frame("com.example.Dao", "query"), common);
+		Throwable middle = exception("Middle", frame("com.example.Service", "call"), common);
+		middle.initCause(root);
+		Throwable third = exception("Third", frame("com.example.Facade", "call"), common);
+		third.initCause(middle);
+		Throwable top = exception("Top", frame("com.example.Controller", "handle"), common);
+		top.initCause(third);
+
+		String trace = new StackTraceFormatter(-1, -1, 1, Collections.emptySet()).format(top);
+
+		assertThat(count(trace, "Caused by: "), equalTo(1L));
+		assertThat(trace, containsString("Caused by: java.lang.RuntimeException: Third\n\tat com.example.Facade.call(Facade.java:10)\n\t... 1 more\n"));
+		assertThat(trace, endsWith("\t... 2 more causes\n"));
+	}
+
+	@Test
+	public void verify_cyclic_causes_are_printed_once() {
+		RuntimeException first = new RuntimeException("First");
+		RuntimeException second = new RuntimeException("Second", first);
+		first.initCause(second);
+
+		String trace = new StackTraceFormatter().format(first);
+
+		assertThat(count(trace, "Caused by: "), equalTo(1L));
+	}
+
+	@Test
+	public void verify_cyclic_cause_is_marked_as_circular_reference() {
+		RuntimeException first = new RuntimeException("First");
+		RuntimeException second = new RuntimeException("Second", first);
+		first.initCause(second);
+
+		String trace = new StackTraceFormatter().format(first);
+
+		assertThat(trace, endsWith("\t[CIRCULAR REFERENCE: java.lang.RuntimeException: First]\n"));
+	}
+
+	@Test
+	public void verify_suppressed_exceptions_are_printed() {
+		StackTraceElement common = frame("com.example.Runner", "run");
+		Throwable first = exception("First", frame("com.example.FirstCheck", "check"), common);
+		Throwable second = exception("Second", frame("com.example.SecondCheck", "check"), common);
+		second.initCause(exception("Second cause", frame("com.example.Dao", "query"), common));
+		Throwable top = exception("Multiple failures", frame("com.example.Assertions", "assertAll"), common);
+		top.addSuppressed(first);
+		top.addSuppressed(second);
+		top.initCause(exception("Top cause", frame("com.example.Service", "call"), common));
+
+		String trace = new StackTraceFormatter(-1, -1, -1, Collections.emptySet()).format(top);
+
+		assertThat(
+				trace, startsWith("java.lang.RuntimeException: Multiple failures\n" + "\tat com.example.Assertions.assertAll(Assertions.java:10)\n"
+						+ "\tat com.example.Runner.run(Runner.java:10)\n" + "\tSuppressed: java.lang.RuntimeException: First\n"
+						+ "\t\tat com.example.FirstCheck.check(FirstCheck.java:10)\n" + "\t\t... 1 more\n"
+						+ "\tSuppressed: java.lang.RuntimeException: Second\n" + "\t\tat com.example.SecondCheck.check(SecondCheck.java:10)\n"
+						+ "\t\t... 1 more\n" + "\tCaused by: java.lang.RuntimeException: Second cause\n"
+						+ "\t\tat com.example.Dao.query(Dao.java:10)\n" + "\t\t... 1 more\n" + "Caused by: java.lang.RuntimeException: Top cause\n")
+		);
+	}
+
+	@Test
+	public void verify_suppressed_exceptions_share_cause_limit() {
+		Throwable top = exception("Multiple failures", frame("com.example.Assertions", "assertAll"));
+		IntStream.range(0, 5).forEach(i -> top.addSuppressed(exception("Failure " + i, frame("com.example.Check", "check" + i))));
+		top.initCause(exception("Cause", frame("com.example.Service", "call")));
+
+		String trace = new StackTraceFormatter(-1, -1, 2, Collections.emptySet()).format(top);
+
+		assertThat(count(trace, "\tSuppressed: "), equalTo(2L));
+		assertThat(trace, not(containsString("Caused by: ")));
+		assertThat(trace, endsWith("\t... 4 more causes\n"));
+	}
+
+	@Test
+	public void verify_frames_shared_with_the_current_thread_are_skipped() {
+		Throwable exception = new IllegalStateException("Here");
+
+		String trace = new StackTraceFormatter().format(exception);
+
+		assertThat(trace, startsWith("java.lang.IllegalStateException: Here\n\tat " + getClass().getName()));
+		assertThat(trace, not(containsString("org.junit.platform")));
+		assertThat(trace, matchesPattern("(?s).*\t\\.\\.\\. \\d+ more\n$"));
+	}
+
+	@Test
+	public void verify_byte_limit() {
+		StackTraceElement[] frames = IntStream.range(0, 100).mapToObj(i -> frame("com.example.Тест", "method" + i)).toArray(StackTraceElement[]::new);
+
+		String trace = new StackTraceFormatter(-1, 512, -1, Collections.emptySet()).format(exception("Error", frames));
+
+		assertThat(trace.getBytes(StandardCharsets.UTF_8).length, lessThanOrEqualTo(512));
+		assertThat(trace, startsWith("java.lang.RuntimeException: Error\n\tat com.example.Тест.method0("));
+		assertThat(trace, endsWith(")\n\t... the rest of the stack trace is truncated\n"));
+	}
+
+	@Test
+	public void verify_long_first_line_is_cut() {
+		String trace = new StackTraceFormatter(-1, 100, -1, Collections.emptySet()).format(exception(String.join("", Collections.nCopies(200, "x"))));
+
+		assertThat(trace.getBytes(StandardCharsets.UTF_8).length, lessThanOrEqualTo(100));
+		assertThat(trace, startsWith("java.lang.RuntimeException: xxx"));
+		assertThat(trace, endsWith("x\n\t... the rest of the stack trace is truncated\n"));
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.junit5.utils;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TestItemIndexTest {
+
+	private static final String NAME = "[1] same";
+
+	private final TestItemIndex index = new TestItemIndex();
+
+	private static TestItemTree.TestItemLeaf leaf(String id) {
+		return TestItemTree.createTestItemLeaf(Maybe.just(id));
+	}
+
+	@Test
+	public void verify_leaves_with_the_same_name_are_kept_by_unique_id() {
+		TestItemTree.TestItemLeaf first = leaf("first");
+		TestItemTree.TestItemLeaf second = leaf("second");
+		index.put("[engine:junit-jupiter]/[class:A]/[test-template:t()]/[test-template-invocation:#1]", NAME, first);
+		index.put("[engine:junit-jupiter]/[class:B]/[test-template:t()]/[test-template-invocation:#1]", NAME, second);
+
+		assertThat(index.get("[engine:junit-jupiter]/[class:A]/[test-template:t()]/[test-template-invocation:#1]"), sameInstance(first));
+		assertThat(index.get("[engine:junit-jupiter]/[class:B]/[test-template:t()]/[test-template-invocation:#1]"), sameInstance(second));
+		assertThat(index.getByName(NAME), sameInstance(second));
+		assertThat(index.getAllByName(NAME), contains(first, second));
+		assertThat(index.size(), equalTo(2));
+	}
+
+	@Test
+	public void verify_leaf_replaced_by_unique_id_is_removed_from_name_index() {
+		TestItemTree.TestItemLeaf first = leaf("first");
+		TestItemTree.TestItemLeaf second = leaf("second");
+		index.put("id", NAME, first);
+		index.put("id", "renamed", second);
+
+		assertThat(index.getAllByName(NAME), empty());
+		assertThat(index.getByName("renamed"), sameInstance(second));
+		assertThat(index.size(), equalTo(1));
+	}
+
+	@Test
+	public void verify_remove_keeps_newer_leaf() {
+		TestItemTree.TestItemLeaf first = leaf("first");
+		TestItemTree.TestItemLeaf second = leaf("second");
+		index.put("first", NAME, first);
+		index.put("second", NAME, second);
+
+		index.remove("first", second);
+		assertThat(index.getAllByName(NAME), hasSize(2));
+
+		index.remove("second", second);
+		assertThat(index.get("second"), nullValue());
+		assertThat(index.getByName(NAME), sameInstance(first));
+
+		index.remove("first", first);
+		assertThat(index.getByName(NAME), nullValue());
+		assertThat(index.size(), equalTo(0));
+	}
+}